@@ -1,17 +1,29 @@
 package com.fingrow.domain.financial.bond.controller;
 
+import com.fingrow.domain.financial.bond.dto.BondDto;
+import com.fingrow.domain.financial.bond.dto.BondListResponse;
 import com.fingrow.domain.financial.bond.dto.BondResponse;
+import com.fingrow.domain.financial.bond.dto.BondSyncResult;
 import com.fingrow.domain.financial.bond.service.BondService;
+import com.fingrow.domain.financial.bond.service.BondSyncService;
 import com.fingrow.domain.financial.deposit.dto.CommonResponse;
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.service.SyncOrchestrator;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/financial/bond")
 @CrossOrigin(origins = "*")
@@ -21,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class BondController {
 
     private final BondService bondService;
+    private final BondSyncService bondSyncService;
+    private final SyncOrchestrator syncOrchestrator;
 
     @GetMapping
     @Operation(
@@ -45,4 +59,106 @@ public class BondController {
             );
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/products")
+    @Operation(
+            summary = "채권 목록 조회",
+            description = "정렬(금리/만기), 만기 구간, 최소 표면금리 조건으로 금융채 목록을 페이지 단위로 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<CommonResponse<BondListResponse>> getBonds(
+            @Parameter(description = "정렬 기준 (interest | maturity)", example = "interest")
+            @RequestParam(defaultValue = "interest") String sort,
+            @Parameter(description = "최소 표면금리 (%)", example = "3.5")
+            @RequestParam(required = false) Double minRate,
+            @Parameter(description = "만기 시작일 (기본: 오늘)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate maturityFrom,
+            @Parameter(description = "만기 종료일", example = "2027-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate maturityTo,
+            @Parameter(description = "페이지 번호 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            BondListResponse result = bondService.getBonds(sort, minRate, maturityFrom, maturityTo, page, size);
+            return ResponseEntity.ok(
+                    CommonResponse.success(result.getTotalCount() + "개의 금융채 상품을 조회했습니다.", result)
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("채권 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().body(
+                    CommonResponse.error("채권 목록 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    @GetMapping("/top")
+    @Operation(
+            summary = "채권 TOP N 조회",
+            description = "만기 전 금융채 중 금리 높은 순 또는 만기 빠른 순 상위 N개를 조회합니다."
+    )
+    public ResponseEntity<CommonResponse<List<BondDto>>> getTopBonds(
+            @Parameter(description = "정렬 기준 (interest | maturity)", example = "interest")
+            @RequestParam(defaultValue = "interest") String sort,
+            @Parameter(description = "조회 개수 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<BondDto> result = bondService.getTopBonds(sort, limit);
+            return ResponseEntity.ok(
+                    CommonResponse.success(result.size() + "개의 금융채 상품을 조회했습니다.", result)
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("채권 TOP 조회 실패", e);
+            return ResponseEntity.internalServerError().body(
+                    CommonResponse.error("채권 TOP 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    @PostMapping("/sync")
+    @Operation(
+            summary = "채권 데이터 동기화",
+            description = "공공데이터포털 금융채 발행정보를 받아 채권 테이블에 반영합니다. (평일 19시 자동 실행)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "동기화 완료"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<CommonResponse<BondSyncResult>> syncBonds() {
+        try {
+            log.info("채권 데이터 동기화 요청");
+            // 정기 동기화와 같은 잠금/실행 이력으로 요청 스레드에서 실행
+            SyncOrchestrator.Outcome<BondSyncResult> outcome = syncOrchestrator.run(
+                    SyncRun.Source.BOND, SyncRun.Trigger.MANUAL, bondSyncService::syncBonds);
+            if (outcome == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                        CommonResponse.error("채권 동기화가 이미 실행 중입니다.")
+                );
+            }
+            if (outcome.run().getStatus() != SyncRun.Status.SUCCESS) {
+                return ResponseEntity.internalServerError().body(
+                        CommonResponse.error("채권 동기화에 실패했습니다: " + outcome.run().getErrorMessage())
+                );
+            }
+            BondSyncResult result = outcome.result();
+            return ResponseEntity.ok(
+                    CommonResponse.success(String.format("채권 동기화 완료 - 신규 %d개, 갱신 %d개",
+                            result.getInserted(), result.getUpdated()), result)
+            );
+        } catch (Exception e) {
+            log.error("채권 동기화 실패", e);
+            return ResponseEntity.internalServerError().body(
+                    CommonResponse.error("채권 동기화에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+}
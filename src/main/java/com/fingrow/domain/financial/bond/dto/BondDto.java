@@ -10,8 +10,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class BondDto {
+    private String isinCd;
     private String bondIsurNm;
     private String isinCdNm;
     private Double bondSrfcInrt;
     private String bondExprDt;
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.fingrow.domain.financial.bond.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BondListResponse {
+    private List<BondDto> bonds;
+    private Integer page;
+    private Integer size;
+    private Long totalCount;
+    private Boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.fingrow.domain.financial.bond.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BondSyncResult {
+    private String basDt;          // 수집한 기준일자
+    private Integer fetched;       // API 에서 받은 item 수
+    private Integer inserted;
+    private Integer updated;
+    private Integer skipped;       // ISIN 누락/변환 실패
+    private Integer expiredDeleted;
+    private String duration;
+}
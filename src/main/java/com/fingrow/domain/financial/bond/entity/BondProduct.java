@@ -0,0 +1,52 @@
+package com.fingrow.domain.financial.bond.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bond_products", indexes = {
+        @Index(name = "idx_bond_srfc_inrt", columnList = "bond_srfc_inrt"),
+        @Index(name = "idx_bond_expr_dt", columnList = "bond_expr_dt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_bond_isin_cd", columnNames = "isin_cd")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BondProduct {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "isin_cd", nullable = false, length = 12)
+    private String isinCd; // ISIN코드
+
+    @Column(name = "isin_cd_nm", length = 200)
+    private String isinCdNm; // 종목명
+
+    @Column(name = "bond_isur_nm", length = 100)
+    private String bondIsurNm; // 발행기관명
+
+    @Column(name = "bond_srfc_inrt")
+    private Double bondSrfcInrt; // 표면금리
+
+    @Column(name = "bond_expr_dt")
+    private LocalDate bondExprDt; // 만기일자
+
+    @Column(name = "bas_dt", length = 8)
+    private String basDt; // 기준일자 (YYYYMMDD)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
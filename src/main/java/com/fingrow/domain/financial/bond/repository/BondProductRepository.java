@@ -0,0 +1,33 @@
+package com.fingrow.domain.financial.bond.repository;
+
+import com.fingrow.domain.financial.bond.entity.BondProduct;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BondProductRepository extends JpaRepository<BondProduct, Long> {
+
+    // 동기화 시 기존 행 조회
+    List<BondProduct> findByIsinCdIn(Collection<String> isinCds);
+
+    // 만기 구간 조회 (idx_bond_expr_dt 사용, 정렬/페이징은 Pageable)
+    Page<BondProduct> findByBondExprDtBetween(LocalDate from, LocalDate to, Pageable pageable);
+
+    // 만기 구간 + 최소 표면금리 조회
+    Page<BondProduct> findByBondExprDtBetweenAndBondSrfcInrtGreaterThanEqual(
+            LocalDate from, LocalDate to, Double minRate, Pageable pageable);
+
+    // 만기가 지난 채권 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM BondProduct b WHERE b.bondExprDt < :date")
+    int deleteExpiredBefore(@Param("date") LocalDate date);
+}
@@ -1,69 +1,123 @@
 package com.fingrow.domain.financial.bond.service;
 
 import com.fingrow.domain.financial.bond.dto.BondDto;
+import com.fingrow.domain.financial.bond.dto.BondListResponse;
 import com.fingrow.domain.financial.bond.dto.BondResponse;
-import lombok.RequiredArgsConstructor;
+import com.fingrow.domain.financial.bond.entity.BondProduct;
+import com.fingrow.domain.financial.bond.repository.BondProductRepository;
+import com.fingrow.global.util.RefreshingSnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class BondService {
 
-    private final RestTemplate restTemplate;
+    private static final int TOP_LIMIT = 5;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDate MAX_MATURITY = LocalDate.of(9999, 12, 31);
 
-    @Value("${bond.api.key}")
-    private String bondApiKey;
+    private static final Sort BY_INTEREST = Sort.by(Sort.Order.desc("bondSrfcInrt"), Sort.Order.asc("bondExprDt"));
+    private static final Sort BY_MATURITY = Sort.by(Sort.Order.asc("bondExprDt"), Sort.Order.desc("bondSrfcInrt"));
 
-    private static final String BOND_API_URL = "https://apis.data.go.kr/1160100/service/GetBondTradInfoService/getIssuIssuItemStat";
+    private final BondProductRepository bondProductRepository;
+    private final RefreshingSnapshotCache<BondResponse> bondCache;
 
+    public BondService(BondProductRepository bondProductRepository,
+                       @Qualifier("syncTaskExecutor") Executor syncTaskExecutor,
+                       MeterRegistry meterRegistry,
+                       @Value("${bond.cache.ttl-in-seconds:600}") long ttlSeconds,
+                       @Value("${bond.cache.max-stale-in-seconds:86400}") long maxStaleSeconds) {
+        this.bondProductRepository = bondProductRepository;
+        this.bondCache = new RefreshingSnapshotCache<>("bond.cache", this::loadBondInfo, syncTaskExecutor,
+                Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(maxStaleSeconds), meterRegistry);
+    }
+
+    /**
+     * 채권 TOP5 조회
+     * - 캐시된 스냅샷을 반환하고, TTL 이 지났으면 백그라운드에서 갱신
+     * - 스냅샷이 없을 때만 DB 조회를 기다림 (동시 요청은 한 번의 조회를 공유)
+     */
     public BondResponse getBondInfo() {
+        return bondCache.get();
+    }
+
+    /**
+     * 요청이 없어도 스냅샷이 만료되지 않도록 주기적으로 갱신
+     */
+    @Scheduled(initialDelayString = "${bond.cache.initial-delay-ms:10000}",
+            fixedDelayString = "${bond.cache.refresh-interval-ms:300000}")
+    public void refreshBondCache() {
+        bondCache.refresh();
+    }
+
+    /**
+     * 동기화 직후 호출: 갱신이 끝날 때까지 대기
+     */
+    public void refreshBondCacheNow() {
+        bondCache.refresh().join();
+    }
+
+    /**
+     * 채권 목록 조회 (정렬/페이징/만기 구간/최소 금리)
+     *
+     * @param sort         interest(금리 높은 순) | maturity(만기 빠른 순)
+     * @param minRate      최소 표면금리 (null 이면 제한 없음)
+     * @param maturityFrom 만기 시작일 (null 이면 오늘)
+     * @param maturityTo   만기 종료일 (null 이면 제한 없음)
+     */
+    public BondListResponse getBonds(String sort, Double minRate, LocalDate maturityFrom, LocalDate maturityTo,
+                                     int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page 는 0 이상이어야 합니다.");
+        }
+        Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), resolveSort(sort));
+        LocalDate from = maturityFrom != null ? maturityFrom : LocalDate.now();
+        LocalDate to = maturityTo != null ? maturityTo : MAX_MATURITY;
+
+        Page<BondProduct> result = minRate != null
+                ? bondProductRepository.findByBondExprDtBetweenAndBondSrfcInrtGreaterThanEqual(from, to, minRate, pageable)
+                : bondProductRepository.findByBondExprDtBetween(from, to, pageable);
+
+        return BondListResponse.builder()
+                .bonds(result.getContent().stream().map(this::convertToDto).toList())
+                .page(result.getNumber())
+                .size(result.getSize())
+                .totalCount(result.getTotalElements())
+                .hasNext(result.hasNext())
+                .build();
+    }
+
+    /**
+     * 만기 전 채권 중 TOP N
+     */
+    public List<BondDto> getTopBonds(String sort, int limit) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)), resolveSort(sort));
+        return bondProductRepository.findByBondExprDtBetween(LocalDate.now(), MAX_MATURITY, pageable)
+                .getContent().stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    private BondResponse loadBondInfo() {
         try {
-            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-            String url = UriComponentsBuilder.fromHttpUrl(BOND_API_URL)
-                    .queryParam("serviceKey", bondApiKey)
-                    .queryParam("pageNo", 1)
-                    .queryParam("numOfRows", 1000)
-                    .queryParam("resultType", "json")
-                    .queryParam("scrsItmsKcdNm", "금융채")
-                    .queryParam("basDt", today)
-                    .build()
-                    .toUriString();
-
-            log.info("채권 API 호출: {}", url);
-
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-
-            if (response == null) {
-                throw new RuntimeException("API 응답이 null입니다.");
-            }
-
-            List<Map<String, Object>> items = extractItems(response);
-            List<BondDto> processedBonds = processApiResponse(items);
-
-            List<BondDto> topByInterest = processedBonds.stream()
-                    .sorted((a, b) -> Double.compare(
-                            b.getBondSrfcInrt() != null ? b.getBondSrfcInrt() : 0.0,
-                            a.getBondSrfcInrt() != null ? a.getBondSrfcInrt() : 0.0
-                    ))
-                    .limit(5)
-                    .collect(Collectors.toList());
-
-            List<BondDto> topByMaturity = processedBonds.stream()
-                    .filter(bond -> bond.getBondExprDt() != null)
-                    .sorted(Comparator.comparing(BondDto::getBondExprDt))
-                    .limit(5)
-                    .collect(Collectors.toList());
+            List<BondDto> topByInterest = getTopBonds("interest", TOP_LIMIT);
+            List<BondDto> topByMaturity = getTopBonds("maturity", TOP_LIMIT);
 
             BondResponse.BondData bondData = BondResponse.BondData.builder()
                     .sortByInterest(topByInterest)
@@ -82,77 +136,23 @@ public class BondService {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> extractItems(Map<String, Object> response) {
-        try {
-            Map<String, Object> responseBody = (Map<String, Object>) response.get("response");
-            Map<String, Object> body = (Map<String, Object>) responseBody.get("body");
-            Map<String, Object> items = (Map<String, Object>) body.get("items");
-            Object item = items.get("item");
-
-            if (item instanceof List) {
-                return (List<Map<String, Object>>) item;
-            } else if (item instanceof Map) {
-                return Collections.singletonList((Map<String, Object>) item);
-            } else {
-                return Collections.emptyList();
-            }
-        } catch (Exception e) {
-            log.error("API 응답 파싱 실패", e);
-            return Collections.emptyList();
-        }
-    }
-
-    private List<BondDto> processApiResponse(List<Map<String, Object>> items) {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-        return items.stream()
-                .map(this::mapToBondDto)
-                .filter(bond -> bond.getBondExprDt() != null && bond.getBondExprDt().compareTo(today) >= 0)
-                .collect(Collectors.toList());
-    }
-
-    private BondDto mapToBondDto(Map<String, Object> item) {
-        try {
-            String bondExprDt = convertDateFormat((String) item.get("bondExprDt"));
-            Double bondSrfcInrt = parseDouble(item.get("bondSrfcInrt"));
-
-            return BondDto.builder()
-                    .bondIsurNm((String) item.get("bondIsurNm"))
-                    .isinCdNm((String) item.get("isinCdNm"))
-                    .bondSrfcInrt(bondSrfcInrt)
-                    .bondExprDt(bondExprDt)
-                    .build();
-        } catch (Exception e) {
-            log.warn("채권 데이터 변환 실패: {}", item, e);
-            return BondDto.builder().build();
-        }
-    }
-
-    private String convertDateFormat(String dateStr) {
-        if (dateStr == null || dateStr.length() != 8) {
-            return null;
+    private Sort resolveSort(String sort) {
+        if (sort == null || "interest".equalsIgnoreCase(sort)) {
+            return BY_INTEREST;
         }
-        try {
-            return dateStr.substring(0, 4) + "-" + dateStr.substring(4, 6) + "-" + dateStr.substring(6, 8);
-        } catch (Exception e) {
-            log.warn("날짜 형식 변환 실패: {}", dateStr, e);
-            return null;
+        if ("maturity".equalsIgnoreCase(sort)) {
+            return BY_MATURITY;
         }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
     }
 
-    private Double parseDouble(Object value) {
-        if (value == null) {
-            return null;
-        }
-        try {
-            if (value instanceof Number) {
-                return ((Number) value).doubleValue();
-            }
-            return Double.parseDouble(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("숫자 변환 실패: {}", value, e);
-            return null;
-        }
+    private BondDto convertToDto(BondProduct product) {
+        return BondDto.builder()
+                .isinCd(product.getIsinCd())
+                .bondIsurNm(product.getBondIsurNm())
+                .isinCdNm(product.getIsinCdNm())
+                .bondSrfcInrt(product.getBondSrfcInrt())
+                .bondExprDt(product.getBondExprDt() != null ? product.getBondExprDt().toString() : null)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,251 @@
+package com.fingrow.domain.financial.bond.service;
+
+import com.fingrow.domain.financial.bond.dto.BondSyncResult;
+import com.fingrow.domain.financial.bond.entity.BondProduct;
+import com.fingrow.domain.financial.bond.repository.BondProductRepository;
+import com.fingrow.global.util.PublicDataItemReader;
+import com.fingrow.global.util.SyncJournal;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 금융채 발행정보 동기화
+ * - data.go.kr 응답을 item 단위로 읽어 ISIN 기준으로 bond_products 에 upsert
+ * - 당일 데이터가 아직 없으면 lookback-days 만큼 이전 영업일을 조회
+ * - 만기가 지난 채권은 동기화 후 삭제
+ * - HTTP 페이지 수신은 트랜잭션 밖에서 끝내고, 받은 페이지(최대 NUM_OF_ROWS 건)를 청크(CHUNK_SIZE)마다 짧은 트랜잭션으로 반영
+ * - 정기/기동 시 실행은 SyncOrchestrator 가 담당
+ */
+@Service
+@Slf4j
+public class BondSyncService {
+
+    private static final String BOND_API_URL = "https://apis.data.go.kr/1160100/service/GetBondTradInfoService/getIssuIssuItemStat";
+    private static final DateTimeFormatter BAS_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int NUM_OF_ROWS = 1000;
+    private static final int CHUNK_SIZE = 500;
+
+    private final BondProductRepository bondProductRepository;
+    private final BondService bondService;
+    private final RestTemplate restTemplate;
+    private final PublicDataItemReader publicDataItemReader;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bond.api.key}")
+    private String bondApiKey;
+
+    @Value("${bond.sync.lookback-days:7}")
+    private int lookbackDays;
+
+    public BondSyncService(BondProductRepository bondProductRepository,
+                           BondService bondService,
+                           RestTemplate restTemplate,
+                           PublicDataItemReader publicDataItemReader,
+                           PlatformTransactionManager transactionManager) {
+        this.bondProductRepository = bondProductRepository;
+        this.bondService = bondService;
+        this.restTemplate = restTemplate;
+        this.publicDataItemReader = publicDataItemReader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BondSyncResult syncBonds() {
+        LocalDateTime startTime = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+
+        BondChunkWriter writer = null;
+        for (int d = 0; d <= lookbackDays; d++) {
+            String basDt = today.minusDays(d).format(BAS_DT_FORMAT);
+            BondChunkWriter candidate = new BondChunkWriter(basDt);
+            fetchInto(candidate);
+            if (candidate.fetched > 0) {
+                writer = candidate;
+                break;
+            }
+            log.info("채권 {} 기준 데이터 없음, 이전 날짜 조회", basDt);
+        }
+
+        if (writer == null) {
+            throw new RuntimeException("최근 " + lookbackDays + "일 채권 데이터가 없습니다.");
+        }
+
+        Integer expired;
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.WRITE)) {
+            expired = transactionTemplate.execute(status -> bondProductRepository.deleteExpiredBefore(today));
+        }
+
+        // 저장된 데이터로 TOP5 캐시 갱신
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            bondService.refreshBondCacheNow();
+        }
+
+        Duration duration = Duration.between(startTime, LocalDateTime.now());
+        return BondSyncResult.builder()
+                .basDt(writer.basDt)
+                .fetched(writer.fetched)
+                .inserted(writer.inserted)
+                .updated(writer.updated)
+                .skipped(writer.skipped)
+                .expiredDeleted(expired)
+                .duration(String.format("%02d:%02d:%02d",
+                        duration.getSeconds() / 3600, (duration.getSeconds() % 3600) / 60, duration.getSeconds() % 60))
+                .build();
+    }
+
+    private void fetchInto(BondChunkWriter writer) {
+        for (int pageNo = 1; ; pageNo++) {
+            URI uri = UriComponentsBuilder.fromHttpUrl(BOND_API_URL)
+                    .queryParam("serviceKey", bondApiKey)
+                    .queryParam("pageNo", pageNo)
+                    .queryParam("numOfRows", NUM_OF_ROWS)
+                    .queryParam("resultType", "json")
+                    .queryParam("scrsItmsKcdNm", "금융채")
+                    .queryParam("basDt", writer.basDt)
+                    .build()
+                    .encode()
+                    .toUri();
+
+            log.info("채권 API 호출: basDt={} 페이지={}", writer.basDt, pageNo);
+
+            Long count;
+            try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.FETCH)) {
+                count = restTemplate.execute(uri, HttpMethod.GET, null,
+                        response -> publicDataItemReader.read(response.getBody(), writer::accept));
+            }
+            SyncJournal.current().rows(SyncJournal.Stage.FETCH, 0, count != null ? count : 0);
+            writer.flush();
+
+            if (count == null || count < NUM_OF_ROWS) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 페이지의 item 을 모아 청크 단위로 ISIN 기준 upsert
+     */
+    private class BondChunkWriter {
+        private final String basDt;
+        private final Map<String, BondProduct> buffer = new LinkedHashMap<>();
+        private int fetched;
+        private int inserted;
+        private int updated;
+        private int skipped;
+
+        BondChunkWriter(String basDt) {
+            this.basDt = basDt;
+        }
+
+        void accept(JsonNode item) {
+            fetched++;
+            SyncJournal journal = SyncJournal.current();
+            try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.PARSE)) {
+                String isinCd = getTextValue(item, "isinCd");
+                if (isinCd == null) {
+                    skipped++;
+                    journal.rows(SyncJournal.Stage.PARSE, 1, 0);
+                    journal.error(SyncJournal.Stage.PARSE, "isinCd 누락");
+                    return;
+                }
+                buffer.put(isinCd, BondProduct.builder()
+                        .isinCd(isinCd)
+                        .isinCdNm(getTextValue(item, "isinCdNm"))
+                        .bondIsurNm(getTextValue(item, "bondIsurNm"))
+                        .bondSrfcInrt(parseDouble(getTextValue(item, "bondSrfcInrt")))
+                        .bondExprDt(parseDate(getTextValue(item, "bondExprDt")))
+                        .basDt(basDt)
+                        .build());
+                journal.rows(SyncJournal.Stage.PARSE, 1, 1);
+            } catch (Exception e) {
+                skipped++;
+                journal.rows(SyncJournal.Stage.PARSE, 1, 0);
+                journal.error(SyncJournal.Stage.PARSE, "변환 실패: " + e.getMessage());
+                log.warn("채권 데이터 변환 실패: {}", item, e);
+            }
+        }
+
+        /**
+         * 응답을 다 읽은 뒤 호출 - 청크마다 트랜잭션 하나 (조회한 엔티티의 변경분은 커밋 때 반영됨)
+         */
+        void flush() {
+            List<BondProduct> page = new ArrayList<>(buffer.values());
+            buffer.clear();
+            for (int from = 0; from < page.size(); from += CHUNK_SIZE) {
+                List<BondProduct> chunk = page.subList(from, Math.min(from + CHUNK_SIZE, page.size()));
+                transactionTemplate.executeWithoutResult(status -> upsert(SyncJournal.current(), chunk));
+            }
+        }
+
+        private void upsert(SyncJournal journal, List<BondProduct> chunk) {
+            List<BondProduct> toSave = new ArrayList<>(chunk.size());
+            try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.DIFF)) {
+                Set<String> isinCds = chunk.stream().map(BondProduct::getIsinCd).collect(Collectors.toSet());
+                Map<String, BondProduct> existing = bondProductRepository.findByIsinCdIn(isinCds).stream()
+                        .collect(Collectors.toMap(BondProduct::getIsinCd, Function.identity()));
+
+                for (BondProduct incoming : chunk) {
+                    BondProduct current = existing.get(incoming.getIsinCd());
+                    if (current == null) {
+                        toSave.add(incoming);
+                        inserted++;
+                    } else {
+                        current.setIsinCdNm(incoming.getIsinCdNm());
+                        current.setBondIsurNm(incoming.getBondIsurNm());
+                        current.setBondSrfcInrt(incoming.getBondSrfcInrt());
+                        current.setBondExprDt(incoming.getBondExprDt());
+                        current.setBasDt(incoming.getBasDt());
+                        updated++;
+                    }
+                }
+            }
+            journal.rows(SyncJournal.Stage.DIFF, chunk.size(), chunk.size());
+
+            try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.WRITE)) {
+                bondProductRepository.saveAll(toSave);
+            }
+            journal.rows(SyncJournal.Stage.WRITE, toSave.size(), toSave.size());
+        }
+    }
+
+    private String getTextValue(JsonNode node, String fieldName) {
+        JsonNode n = node.path(fieldName);
+        if (n.isNull() || n.isMissingNode()) return null;
+        String text = n.asText(null);
+        return (text == null || text.trim().isEmpty()) ? null : text;
+    }
+
+    private LocalDate parseDate(String dateStr) {
+        if (dateStr == null || dateStr.length() != 8) {
+            return null;
+        }
+        return LocalDate.parse(dateStr, BAS_DT_FORMAT);
+    }
+
+    private Double parseDouble(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            log.warn("숫자 변환 실패: {}", value);
+            return null;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.fingrow.domain.financial.deposit.controller;
 
 import com.fingrow.domain.financial.deposit.dto.*;
 import com.fingrow.domain.financial.deposit.service.FinancialProductService;
+import com.fingrow.domain.financial.sync.dto.SyncRunResponse;
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.service.SyncOrchestrator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,6 +14,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -28,27 +32,34 @@ import java.util.List;
 public class FinancialProductController {
 
     private final FinancialProductService financialProductService;
+    private final SyncOrchestrator syncOrchestrator;
 
     // ========================== 데이터 동기화 API ==========================
 
     @PostMapping("/sync/all")
     @Operation(
             summary = "전체 상품 데이터 동기화 (비동기)",
-            description = "예금과 적금 상품 데이터를 병렬로 동기화합니다. 배치 최적화로 빠른 처리가 가능합니다."
+            description = "예금과 적금 상품 데이터를 백그라운드로 동기화합니다. 반환된 실행 ID로 /api/v1/sync/runs/{id} 에서 단계별 결과를 확인할 수 있습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "동기화 시작됨"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<CommonResponse<String>> syncAllProducts() {
+    public ResponseEntity<CommonResponse<SyncRunResponse>> syncAllProducts() {
         try {
             log.info("전체 상품 데이터 동기화 요청 (비동기)");
 
-            // 비동기 동기화 시작
-            financialProductService.syncAllProductsAsync();
+            SyncRun run = syncOrchestrator.submit(SyncRun.Source.FINLIFE, SyncRun.Trigger.MANUAL);
+            if (run == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                        CommonResponse.error("전체 상품 데이터 동기화가 이미 실행 중입니다.")
+                );
+            }
 
             return ResponseEntity.ok(
-                    CommonResponse.success("전체 상품 데이터 동기화가 시작되었습니다. 백그라운드에서 처리중입니다.")
+                    CommonResponse.success("전체 상품 데이터 동기화가 시작되었습니다. 백그라운드에서 처리중입니다.",
+                            SyncRunResponse.from(run))
             );
         } catch (Exception e) {
             log.error("전체 상품 데이터 동기화 실패", e);
@@ -61,19 +72,33 @@ public class FinancialProductController {
     @PostMapping("/sync/all/sync")
     @Operation(
             summary = "전체 상품 데이터 동기화 (동기)",
-            description = "예금과 적금 상품 데이터를 순차적으로 동기화합니다. 완료까지 대기합니다."
+            description = "예금과 적금 상품 데이터를 순차적으로 동기화합니다. 완료까지 대기하며, 유형별 신규/변경/삭제 건수를 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "동기화 완료"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<CommonResponse<String>> syncAllProductsSync() {
+    public ResponseEntity<CommonResponse<List<ProductSyncResult>>> syncAllProductsSync() {
         try {
             log.info("전체 상품 데이터 동기화 요청 (동기)");
-            financialProductService.syncDepositProducts();
-            financialProductService.syncSavingProducts();
+            // 정기 동기화와 같은 잠금/실행 이력으로 요청 스레드에서 실행
+            SyncOrchestrator.Outcome<List<ProductSyncResult>> outcome = syncOrchestrator.run(
+                    SyncRun.Source.FINLIFE, SyncRun.Trigger.MANUAL,
+                    () -> List.of(financialProductService.syncDepositProducts(),
+                            financialProductService.syncSavingProducts()));
+            if (outcome == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                        CommonResponse.error("전체 상품 데이터 동기화가 이미 실행 중입니다.")
+                );
+            }
+            if (outcome.run().getStatus() != SyncRun.Status.SUCCESS) {
+                return ResponseEntity.internalServerError().body(
+                        CommonResponse.error("전체 상품 데이터 동기화에 실패했습니다: " + outcome.run().getErrorMessage())
+                );
+            }
             return ResponseEntity.ok(
-                    CommonResponse.success("전체 상품 데이터 동기화가 완료되었습니다.")
+                    CommonResponse.success("전체 상품 데이터 동기화가 완료되었습니다.", outcome.result())
             );
         } catch (Exception e) {
             log.error("전체 상품 데이터 동기화 실패", e);
@@ -0,0 +1,19 @@
+package com.fingrow.domain.financial.deposit.dto;
+
+/**
+ * 금융감독원 finlife API 페이지 공통 정보
+ */
+public interface FinlifePage {
+
+    /** 오류 코드 (000: 정상) */
+    String getErrCd();
+
+    /** 오류 메시지 */
+    String getErrMsg();
+
+    /** 전체 페이지 수 */
+    Integer getMaxPageNo();
+
+    /** 전체 상품 수 */
+    Integer getTotalCount();
+}
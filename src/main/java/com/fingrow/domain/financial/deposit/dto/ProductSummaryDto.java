@@ -1,5 +1,6 @@
 package com.fingrow.domain.financial.deposit.dto;
 
+import com.fingrow.domain.financial.deposit.repository.ProductSummaryView;
 import lombok.Builder;
 import lombok.Data;
 
@@ -12,4 +13,15 @@ public class ProductSummaryDto {
     private String productType;  // "예금" or "적금"
     private Double bestRate;     // 최고 금리
     private Integer bestTerm;    // 최고 조건의 기간(개월)
+
+    public static ProductSummaryDto from(ProductSummaryView view, String productType) {
+        return ProductSummaryDto.builder()
+                .id(view.getId())
+                .bankName(view.getBankName())
+                .productName(view.getProductName())
+                .productType(productType)
+                .bestRate(view.getBestRate() != null ? view.getBestRate() : 0.0)
+                .bestTerm(view.getBestTerm())
+                .build();
+    }
 }
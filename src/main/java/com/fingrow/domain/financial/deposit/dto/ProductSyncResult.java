@@ -0,0 +1,36 @@
+package com.fingrow.domain.financial.deposit.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 동기화 결과 (증분 반영 건수)")
+public class ProductSyncResult {
+
+    @Schema(description = "상품 유형", example = "예금")
+    private String productType;
+
+    @Schema(description = "신규 등록된 상품 수")
+    private int productsInserted;
+
+    @Schema(description = "변경되어 갱신된 상품 수")
+    private int productsUpdated;
+
+    @Schema(description = "공시에서 빠져 삭제된 상품 수")
+    private int productsDeleted;
+
+    @Schema(description = "변경 없는 상품 수")
+    private int productsUnchanged;
+
+    @Schema(description = "신규 등록된 금리 옵션 수")
+    private int optionsInserted;
+
+    @Schema(description = "변경되어 갱신된 금리 옵션 수")
+    private int optionsUpdated;
+
+    @Schema(description = "삭제된 금리 옵션 수")
+    private int optionsDeleted;
+}
@@ -16,7 +16,22 @@ public class SavingApiResponse {
 
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
-    public static class Result {
+    public static class Result implements FinlifePage {
+        @JsonProperty("err_cd")
+        private String errCd;
+
+        @JsonProperty("err_msg")
+        private String errMsg;
+
+        @JsonProperty("total_count")
+        private Integer totalCount;
+
+        @JsonProperty("max_page_no")
+        private Integer maxPageNo;
+
+        @JsonProperty("now_page_no")
+        private Integer nowPageNo;
+
         @JsonProperty("baseList")
         private List<SavingProductDto> baseList;
 
@@ -0,0 +1,43 @@
+package com.fingrow.domain.financial.deposit.entity;
+
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 중인 finlife 페이지 임시 저장
+ * - 수집은 페이지를 받는 즉시 한 행씩 쓰고, 반영 트랜잭션이 한 페이지씩 읽어 카탈로그에 적용한 뒤 지움
+ * - 반영 전까지 카탈로그 테이블은 직전 버전 그대로 서비스됨
+ */
+@Entity
+@Table(name = "finlife_staged_pages", indexes = {
+        @Index(name = "idx_finlife_staged_run", columnList = "run_id"),
+        @Index(name = "idx_finlife_staged_dataset", columnList = "dataset")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FinlifeStagedPage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dataset", nullable = false, length = 20)
+    private DatasetVersion.Dataset dataset; // DEPOSIT, SAVING
+
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId; // 수집 실행 식별자
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGTEXT")
+    private String payload; // 페이지 결과 JSON (FinlifePage)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -59,11 +59,16 @@ public class SavingOption {
 
     // 적금 만기 예상 수익 계산 (복리 계산)
     public Double calculateExpectedReturn(Double monthlyAmount, Integer months) {
-        if (getBestRate() == null || getBestRate() <= 0) {
+        return calculateExpectedReturn(getBestRate(), monthlyAmount, months);
+    }
+
+    // 금리만으로 계산 (추천 인덱스에서 엔티티 없이 사용)
+    public static double calculateExpectedReturn(double bestRate, double monthlyAmount, int months) {
+        if (bestRate <= 0) {
             return monthlyAmount * months; // 이자 없을 경우 원금만
         }
 
-        double monthlyRate = getBestRate() / 100.0 / 12.0; // 월 이자율
+        double monthlyRate = bestRate / 100.0 / 12.0; // 월 이자율
 
         // 적금 복리 공식: PMT * ((1 + r)^n - 1) / r * (1 + r)
         return monthlyAmount * ((Math.pow(1 + monthlyRate, months) - 1) / monthlyRate) * (1 + monthlyRate);
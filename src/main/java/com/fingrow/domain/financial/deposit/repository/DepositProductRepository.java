@@ -3,22 +3,28 @@ package com.fingrow.domain.financial.deposit.repository;
 import com.fingrow.domain.financial.deposit.entity.DepositProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface DepositProductRepository extends JpaRepository<DepositProduct, Long> {
-    // 은행명으로 검색
-    List<DepositProduct> findByKorCoNmContaining(String bankName);
+    // 동기화 비교용: 옵션까지 한 번에 로딩
+    @Query("SELECT DISTINCT d FROM DepositProduct d LEFT JOIN FETCH d.options")
+    List<DepositProduct> findAllWithOptions();
 
-    // 상품명으로 검색
-    List<DepositProduct> findByFinPrdtNmContaining(String productName);
+    // 상품별 최고금리 옵션(최고우대금리 우선, 없으면 기본금리)을 한 번의 쿼리로 집계
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.kor_co_nm AS bankName, p.fin_prdt_nm AS productName, " +
+            "COALESCE(o.best_rate, 0) AS bestRate, o.save_trm AS bestTerm " +
+            "FROM deposit_products p " +
+            "LEFT JOIN (" +
+            "  SELECT r.deposit_product_id, r.save_trm, r.best_rate, " +
+            "         ROW_NUMBER() OVER (PARTITION BY r.deposit_product_id ORDER BY r.best_rate DESC, r.id) AS rn " +
+            "  FROM (SELECT id, deposit_product_id, save_trm, " +
+            "               CASE WHEN intr_rate2 > 0 THEN intr_rate2 ELSE COALESCE(intr_rate, 0) END AS best_rate " +
+            "        FROM deposit_options) r" +
+            ") o ON o.deposit_product_id = p.id AND o.rn = 1 ";
 
-    // 특정 기간의 상품들을 최고금리 순으로 조회
-    @Query("SELECT d FROM DepositProduct d " +
-            "JOIN d.options o " +
-            "WHERE o.saveTrm = :term " +
-            "ORDER BY o.intrRate2 DESC")
-    List<DepositProduct> findByTermOrderByBestRateDesc(@Param("term") Integer term);
+    // 전체 요약 조회
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.id", nativeQuery = true)
+    List<ProductSummaryView> findAllSummaries();
 }
@@ -0,0 +1,30 @@
+package com.fingrow.domain.financial.deposit.repository;
+
+import com.fingrow.domain.financial.deposit.entity.FinlifeStagedPage;
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FinlifeStagedPageRepository extends JpaRepository<FinlifeStagedPage, Long> {
+
+    @Query("SELECT p.id FROM FinlifeStagedPage p WHERE p.runId = :runId ORDER BY p.id")
+    List<Long> findIdsByRunId(@Param("runId") String runId);
+
+    // 엔티티로 읽지 않아 영속성 컨텍스트에 본문이 쌓이지 않음
+    @Query("SELECT p.payload FROM FinlifeStagedPage p WHERE p.id = :id")
+    String findPayload(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM FinlifeStagedPage p WHERE p.runId = :runId")
+    int deleteByRunId(@Param("runId") String runId);
+
+    @Modifying
+    @Query("DELETE FROM FinlifeStagedPage p WHERE p.dataset = :dataset")
+    int deleteByDataset(@Param("dataset") DatasetVersion.Dataset dataset);
+}
@@ -0,0 +1,74 @@
+package com.fingrow.domain.financial.deposit.repository;
+
+import com.fingrow.domain.financial.deposit.entity.DepositOption;
+import com.fingrow.domain.financial.deposit.entity.SavingOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 금리 옵션 대량 적재용 JDBC 리포지토리
+ * - 옵션 엔티티는 IDENTITY 전략이라 Hibernate 배치가 꺼지므로 JDBC 배치로 직접 INSERT
+ * - rewriteBatchedStatements=true 이면 드라이버가 multi-row INSERT 로 묶어 전송
+ * - 적재된 행은 영속성 컨텍스트에 올라가지 않음 (동기화 후 조회 시 DB에서 다시 읽음)
+ * - 넘긴 옵션 객체를 관리 중인 상품의 옵션 컬렉션(cascade ALL)에 넣으면 커밋 때 다시 INSERT 되므로 넣지 않음
+ *   (CatalogSyncSession 은 세션 안에서 넣은 옵션 키를 따로 보관)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OptionBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_DEPOSIT_OPTION_SQL =
+            "INSERT INTO deposit_options " +
+            "(deposit_product_id, intr_rate_type, intr_rate_type_nm, intr_rate, intr_rate2, save_trm) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SAVING_OPTION_SQL =
+            "INSERT INTO saving_options " +
+            "(saving_product_id, intr_rate_type, intr_rate_type_nm, rsrv_type, rsrv_type_nm, intr_rate, intr_rate2, save_trm) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertDepositOptions(List<DepositOption> options) {
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate(INSERT_DEPOSIT_OPTION_SQL, options, BATCH_SIZE, (ps, option) -> {
+            ps.setLong(1, option.getDepositProduct().getId());
+            ps.setString(2, option.getIntrRateType());
+            ps.setString(3, option.getIntrRateTypeNm());
+            ps.setObject(4, option.getIntrRate(), Types.DOUBLE);
+            ps.setObject(5, option.getIntrRate2(), Types.DOUBLE);
+            ps.setObject(6, option.getSaveTrm(), Types.INTEGER);
+        });
+        logThroughput("deposit_options", options.size(), start);
+        return options.size();
+    }
+
+    public int insertSavingOptions(List<SavingOption> options) {
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate(INSERT_SAVING_OPTION_SQL, options, BATCH_SIZE, (ps, option) -> {
+            ps.setLong(1, option.getSavingProduct().getId());
+            ps.setString(2, option.getIntrRateType());
+            ps.setString(3, option.getIntrRateTypeNm());
+            ps.setString(4, option.getRsrvType());
+            ps.setString(5, option.getRsrvTypeNm());
+            ps.setObject(6, option.getIntrRate(), Types.DOUBLE);
+            ps.setObject(7, option.getIntrRate2(), Types.DOUBLE);
+            ps.setObject(8, option.getSaveTrm(), Types.INTEGER);
+        });
+        logThroughput("saving_options", options.size(), start);
+        return options.size();
+    }
+
+    private void logThroughput(String table, int rows, long startNanos) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("{} 배치 INSERT: {}건, {}ms ({} rows/s)", table, rows, elapsedMs, rows * 1000L / elapsedMs);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fingrow.domain.financial.deposit.repository;
+
+/**
+ * 상품 요약 조회용 projection (상품당 최고금리 옵션 1건)
+ */
+public interface ProductSummaryView {
+    Long getId();
+
+    String getBankName();
+
+    String getProductName();
+
+    Double getBestRate();
+
+    Integer getBestTerm();
+}
@@ -0,0 +1,217 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.ProductSyncResult;
+import com.fingrow.global.util.SyncJournal;
+
+import java.util.*;
+
+/**
+ * 상품/옵션 카탈로그 증분 동기화 세션
+ * - 상품은 finPrdtCd, 옵션은 상품 내 옵션 키로 현재 행과 비교합니다.
+ * - 바뀐 행만 insert/update/delete 하므로 기존 ID가 유지되고, 쓰기량은 변경분에 비례합니다.
+ *
+ * @param <P>  상품 엔티티
+ * @param <O>  옵션 엔티티
+ * @param <PD> 상품 API DTO
+ * @param <OD> 옵션 API DTO
+ */
+abstract class CatalogSyncSession<P, O, PD, OD> {
+
+    private final String productType;
+    private final Map<String, P> currentProducts;
+    private final Set<String> seenProductCodes = new HashSet<>();
+    // 이번 세션에서 JDBC 배치로 넣은 옵션 (상품코드 → 옵션 키)
+    // 관리 중인 상품 컬렉션에 넣으면 커밋 시 cascade PERSIST 로 한 번 더 INSERT 되므로 따로 보관
+    private final Map<String, Set<String>> createdOptionKeys = new HashMap<>();
+
+    private int productsInserted;
+    private int productsUpdated;
+    private int productsUnchanged;
+    private int optionsInserted;
+    private int optionsUpdated;
+    private int optionsDeleted;
+
+    protected CatalogSyncSession(String productType, Map<String, P> currentProducts) {
+        this.productType = productType;
+        this.currentProducts = currentProducts;
+    }
+
+    // =========================== 매핑/영속화 훅 ===========================
+
+    protected abstract String productCodeOf(PD dto);
+
+    protected abstract P createProduct(PD dto);
+
+    /** 변경된 필드가 있으면 엔티티에 반영하고 true 반환 */
+    protected abstract boolean updateProduct(P product, PD dto);
+
+    protected abstract List<O> optionsOf(P product);
+
+    protected abstract String optionProductCodeOf(OD dto);
+
+    protected abstract String optionKeyOf(OD dto);
+
+    protected abstract String optionKey(O option);
+
+    protected abstract O createOption(P product, OD dto);
+
+    /** 변경된 필드가 있으면 엔티티에 반영하고 true 반환 */
+    protected abstract boolean updateOption(O option, OD dto);
+
+    protected abstract void saveProducts(List<P> products);
+
+    protected abstract void saveOptions(List<O> options);
+
+    protected abstract void deleteOptions(List<O> options);
+
+    protected abstract void deleteProducts(List<P> products);
+
+    // =========================== 동기화 ===========================
+
+    /**
+     * API 응답 한 묶음(baseList + optionList)을 현재 카탈로그에 반영
+     */
+    public void apply(List<PD> baseList, List<OD> optionList) {
+        SyncJournal journal = SyncJournal.current();
+        try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.DIFF)) {
+            applyPage(journal, nullSafe(baseList), nullSafe(optionList));
+        }
+    }
+
+    private void applyPage(SyncJournal journal, List<PD> baseList, List<OD> optionList) {
+        int changedBefore = productsInserted + productsUpdated + optionsInserted + optionsUpdated + optionsDeleted;
+
+        // 1) 상품 upsert
+        Map<String, P> pageProducts = new LinkedHashMap<>();
+        List<P> newProducts = new ArrayList<>();
+
+        for (PD dto : baseList) {
+            String code = productCodeOf(dto);
+            if (code == null) {
+                continue;
+            }
+            seenProductCodes.add(code);
+
+            P product = currentProducts.get(code);
+            if (product == null) {
+                product = createProduct(dto);
+                currentProducts.put(code, product);
+                newProducts.add(product);
+                productsInserted++;
+            } else if (updateProduct(product, dto)) {
+                productsUpdated++;
+            } else {
+                productsUnchanged++;
+            }
+            pageProducts.put(code, product);
+        }
+
+        if (!newProducts.isEmpty()) {
+            write(journal, newProducts.size(), () -> saveProducts(newProducts));
+        }
+
+        // 2) 상품별 옵션 upsert/delete
+        Map<String, Map<String, OD>> incomingOptions = new HashMap<>();
+        for (OD dto : optionList) {
+            String code = optionProductCodeOf(dto);
+            if (code != null && pageProducts.containsKey(code)) {
+                incomingOptions.computeIfAbsent(code, k -> new LinkedHashMap<>()).put(optionKeyOf(dto), dto);
+            }
+        }
+
+        List<O> newOptions = new ArrayList<>();
+        List<O> staleOptions = new ArrayList<>();
+
+        for (Map.Entry<String, P> entry : pageProducts.entrySet()) {
+            P product = entry.getValue();
+            List<O> options = optionsOf(product);
+            Set<String> created = createdOptionKeys.computeIfAbsent(entry.getKey(), k -> new HashSet<>());
+
+            List<O> productStale = new ArrayList<>();
+            Map<String, O> current = new HashMap<>();
+            for (O option : options) {
+                // 과거 데이터에 같은 키가 중복되어 있으면 하나만 남김
+                if (current.putIfAbsent(optionKey(option), option) != null) {
+                    productStale.add(option);
+                }
+            }
+
+            for (Map.Entry<String, OD> incoming : incomingOptions.getOrDefault(entry.getKey(), Map.of()).entrySet()) {
+                O option = current.remove(incoming.getKey());
+                if (option == null) {
+                    // 앞 페이지에서 이미 넣은 옵션이면 다시 넣지 않음 (같은 실행 안의 중복 응답)
+                    if (created.add(incoming.getKey())) {
+                        newOptions.add(createOption(product, incoming.getValue()));
+                        optionsInserted++;
+                    }
+                } else if (updateOption(option, incoming.getValue())) {
+                    optionsUpdated++;
+                }
+            }
+
+            productStale.addAll(current.values());
+            if (!productStale.isEmpty()) {
+                options.removeAll(productStale);
+                staleOptions.addAll(productStale);
+            }
+        }
+
+        if (!staleOptions.isEmpty()) {
+            write(journal, staleOptions.size(), () -> deleteOptions(staleOptions));
+            optionsDeleted += staleOptions.size();
+        }
+
+        if (!newOptions.isEmpty()) {
+            write(journal, newOptions.size(), () -> saveOptions(newOptions));
+        }
+
+        int changed = productsInserted + productsUpdated + optionsInserted + optionsUpdated + optionsDeleted - changedBefore;
+        journal.rows(SyncJournal.Stage.DIFF, baseList.size() + optionList.size(), changed);
+    }
+
+    private static void write(SyncJournal journal, int rows, Runnable action) {
+        try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.WRITE)) {
+            action.run();
+        }
+        journal.rows(SyncJournal.Stage.WRITE, rows, rows);
+    }
+
+    /**
+     * 이번 동기화에서 내려오지 않은 상품을 삭제하고 결과 집계
+     *
+     * @param deleteMissing 일부 페이지 수집에 실패한 경우 false 로 넘겨 삭제를 건너뜀
+     */
+    public ProductSyncResult finish(boolean deleteMissing) {
+        List<P> missing = new ArrayList<>();
+        int missingOptions = 0;
+        for (Map.Entry<String, P> entry : currentProducts.entrySet()) {
+            if (deleteMissing && !seenProductCodes.contains(entry.getKey())) {
+                missing.add(entry.getValue());
+                missingOptions += optionsOf(entry.getValue()).size();
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            write(SyncJournal.current(), missing.size(), () -> deleteProducts(missing));
+        }
+
+        return ProductSyncResult.builder()
+                .productType(productType)
+                .productsInserted(productsInserted)
+                .productsUpdated(productsUpdated)
+                .productsDeleted(missing.size())
+                .productsUnchanged(productsUnchanged)
+                .optionsInserted(optionsInserted)
+                .optionsUpdated(optionsUpdated)
+                .optionsDeleted(optionsDeleted + missingOptions)
+                .build();
+    }
+
+    protected static boolean differs(Object current, Object incoming) {
+        return !Objects.equals(current, incoming);
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list != null ? list : List.of();
+    }
+}
@@ -0,0 +1,166 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.DepositOptionDto;
+import com.fingrow.domain.financial.deposit.dto.DepositProductDto;
+import com.fingrow.domain.financial.deposit.entity.DepositOption;
+import com.fingrow.domain.financial.deposit.entity.DepositProduct;
+import com.fingrow.domain.financial.deposit.repository.OptionBulkRepository;
+import com.fingrow.domain.financial.deposit.repository.DepositOptionRepository;
+import com.fingrow.domain.financial.deposit.repository.DepositProductRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예금 카탈로그 증분 동기화 세션
+ * - 옵션 키: saveTrm + intrRateType
+ */
+class DepositCatalogSyncSession extends CatalogSyncSession<DepositProduct, DepositOption, DepositProductDto, DepositOptionDto> {
+
+    private final DepositProductRepository productRepository;
+    private final DepositOptionRepository optionRepository;
+    private final OptionBulkRepository optionBulkRepository;
+
+    DepositCatalogSyncSession(DepositProductRepository productRepository, DepositOptionRepository optionRepository,
+                            OptionBulkRepository optionBulkRepository) {
+        super("예금", loadCurrent(productRepository));
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.optionBulkRepository = optionBulkRepository;
+    }
+
+    private static Map<String, DepositProduct> loadCurrent(DepositProductRepository productRepository) {
+        Map<String, DepositProduct> current = new HashMap<>();
+        for (DepositProduct product : productRepository.findAllWithOptions()) {
+            current.put(product.getFinPrdtCd(), product);
+        }
+        return current;
+    }
+
+    @Override
+    protected String productCodeOf(DepositProductDto dto) {
+        return dto.getFinPrdtCd();
+    }
+
+    @Override
+    protected DepositProduct createProduct(DepositProductDto dto) {
+        return DepositProduct.builder()
+                .finPrdtCd(dto.getFinPrdtCd())
+                .korCoNm(dto.getKorCoNm())
+                .finPrdtNm(dto.getFinPrdtNm())
+                .joinWay(dto.getJoinWay())
+                .mtrtInt(dto.getMtrtInt())
+                .spclCnd(dto.getSpclCnd())
+                .joinDeny(dto.getJoinDeny())
+                .joinMember(dto.getJoinMember())
+                .etcNote(dto.getEtcNote())
+                .maxLimit(dto.getMaxLimit())
+                .dclsMonth(dto.getDclsMonth())
+                .dclsStrtDay(dto.getDclsStrtDay())
+                .dclsEndDay(dto.getDclsEndDay())
+                .finCoNo(dto.getFinCoNo())
+                .build();
+    }
+
+    @Override
+    protected boolean updateProduct(DepositProduct product, DepositProductDto dto) {
+        boolean changed = differs(product.getKorCoNm(), dto.getKorCoNm())
+                || differs(product.getFinPrdtNm(), dto.getFinPrdtNm())
+                || differs(product.getJoinWay(), dto.getJoinWay())
+                || differs(product.getMtrtInt(), dto.getMtrtInt())
+                || differs(product.getSpclCnd(), dto.getSpclCnd())
+                || differs(product.getJoinDeny(), dto.getJoinDeny())
+                || differs(product.getJoinMember(), dto.getJoinMember())
+                || differs(product.getEtcNote(), dto.getEtcNote())
+                || differs(product.getMaxLimit(), dto.getMaxLimit())
+                || differs(product.getDclsMonth(), dto.getDclsMonth())
+                || differs(product.getDclsStrtDay(), dto.getDclsStrtDay())
+                || differs(product.getDclsEndDay(), dto.getDclsEndDay())
+                || differs(product.getFinCoNo(), dto.getFinCoNo());
+
+        if (changed) {
+            product.setKorCoNm(dto.getKorCoNm());
+            product.setFinPrdtNm(dto.getFinPrdtNm());
+            product.setJoinWay(dto.getJoinWay());
+            product.setMtrtInt(dto.getMtrtInt());
+            product.setSpclCnd(dto.getSpclCnd());
+            product.setJoinDeny(dto.getJoinDeny());
+            product.setJoinMember(dto.getJoinMember());
+            product.setEtcNote(dto.getEtcNote());
+            product.setMaxLimit(dto.getMaxLimit());
+            product.setDclsMonth(dto.getDclsMonth());
+            product.setDclsStrtDay(dto.getDclsStrtDay());
+            product.setDclsEndDay(dto.getDclsEndDay());
+            product.setFinCoNo(dto.getFinCoNo());
+        }
+        return changed;
+    }
+
+    @Override
+    protected List<DepositOption> optionsOf(DepositProduct product) {
+        return product.getOptions();
+    }
+
+    @Override
+    protected String optionProductCodeOf(DepositOptionDto dto) {
+        return dto.getFinPrdtCd();
+    }
+
+    @Override
+    protected String optionKeyOf(DepositOptionDto dto) {
+        return dto.getSaveTrm() + "|" + dto.getIntrRateType();
+    }
+
+    @Override
+    protected String optionKey(DepositOption option) {
+        return option.getSaveTrm() + "|" + option.getIntrRateType();
+    }
+
+    @Override
+    protected DepositOption createOption(DepositProduct product, DepositOptionDto dto) {
+        return DepositOption.builder()
+                .depositProduct(product)
+                .intrRateType(dto.getIntrRateType())
+                .intrRateTypeNm(dto.getIntrRateTypeNm())
+                .intrRate(dto.getIntrRate())
+                .intrRate2(dto.getIntrRate2())
+                .saveTrm(dto.getSaveTrm())
+                .build();
+    }
+
+    @Override
+    protected boolean updateOption(DepositOption option, DepositOptionDto dto) {
+        boolean changed = differs(option.getIntrRateTypeNm(), dto.getIntrRateTypeNm())
+                || differs(option.getIntrRate(), dto.getIntrRate())
+                || differs(option.getIntrRate2(), dto.getIntrRate2());
+
+        if (changed) {
+            option.setIntrRateTypeNm(dto.getIntrRateTypeNm());
+            option.setIntrRate(dto.getIntrRate());
+            option.setIntrRate2(dto.getIntrRate2());
+        }
+        return changed;
+    }
+
+    @Override
+    protected void saveProducts(List<DepositProduct> products) {
+        productRepository.saveAll(products);
+    }
+
+    @Override
+    protected void saveOptions(List<DepositOption> options) {
+        // 신규 상품은 이미 INSERT 되어 ID가 있으므로 옵션은 JDBC 배치로 적재
+        optionBulkRepository.insertDepositOptions(options);
+    }
+
+    @Override
+    protected void deleteOptions(List<DepositOption> options) {
+        optionRepository.deleteAll(options);
+    }
+
+    @Override
+    protected void deleteProducts(List<DepositProduct> products) {
+        productRepository.deleteAll(products);
+    }
+}
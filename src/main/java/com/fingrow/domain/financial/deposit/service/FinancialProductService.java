@@ -1,26 +1,24 @@
 package com.fingrow.domain.financial.deposit.service;
 
 import com.fingrow.domain.financial.deposit.dto.*;
-import com.fingrow.domain.financial.deposit.entity.DepositOption;
-import com.fingrow.domain.financial.deposit.entity.DepositProduct;
 import com.fingrow.domain.financial.deposit.entity.SavingOption;
-import com.fingrow.domain.financial.deposit.entity.SavingProduct;
 import com.fingrow.domain.financial.deposit.repository.DepositOptionRepository;
 import com.fingrow.domain.financial.deposit.repository.DepositProductRepository;
+import com.fingrow.domain.financial.deposit.repository.OptionBulkRepository;
 import com.fingrow.domain.financial.deposit.repository.SavingOptionRepository;
 import com.fingrow.domain.financial.deposit.repository.SavingProductRepository;
+import com.fingrow.domain.financial.search.service.ProductSearchService;
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import com.fingrow.domain.financial.sync.service.DatasetVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -32,351 +30,113 @@ public class FinancialProductService {
     private final DepositOptionRepository depositOptionRepository;
     private final SavingProductRepository savingProductRepository;
     private final SavingOptionRepository savingOptionRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${finlife.api.key:YOUR_API_KEY}")
-    private String apiKey;
-
-    private static final String BASE_URL = "https://finlife.fss.or.kr/finlifeapi";
+    private final OptionBulkRepository optionBulkRepository;
+    private final FinlifeProductFetcher finlifeProductFetcher;
+    private final ProductCatalogHolder productCatalogHolder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductSearchService productSearchService;
+    private final TransactionTemplate transactionTemplate;
+    private final DatasetVersionService datasetVersionService;
+    private final FinlifePageStage finlifePageStage;
 
     // =========================== 데이터 동기화 ===========================
 
-    /**
-     * 비동기 전체 동기화 (예금 + 적금 병렬 처리)
-     */
-    @Async("syncTaskExecutor")
-    public CompletableFuture<String> syncAllProductsAsync() {
-        try {
-            log.info("비동기 전체 동기화 시작");
-
-            // 예금과 적금 동기화를 병렬로 실행
-            CompletableFuture<Void> depositSync = syncDepositProductsAsync();
-            CompletableFuture<Void> savingSync = syncSavingProductsAsync();
-
-            // 두 작업이 모두 완료될 때까지 대기
-            CompletableFuture.allOf(depositSync, savingSync).get();
-
-            log.info("비동기 전체 동기화 완료");
-            return CompletableFuture.completedFuture("전체 상품 데이터 동기화가 완료되었습니다.");
-
-        } catch (Exception e) {
-            log.error("비동기 전체 동기화 실패", e);
-            throw new RuntimeException("전체 동기화 실패: " + e.getMessage(), e);
-        }
-    }
-
     /**
      * 예금 상품 데이터 동기화
+     * - 전 권역/전 페이지를 수집하며 finPrdtCd 기준으로 변경분만 반영
+     * - 수집이 실패하면 카탈로그 테이블에 아무것도 쓰지 않으므로 직전 카탈로그가 그대로 서비스됨
+     * - 데이터셋 버전(dataset_versions)은 카탈로그 변경과 함께 커밋되는 노드 공용 포인터
      */
-    public void syncDepositProducts() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductSyncResult syncDepositProducts() {
+        String runId = finlifePageStage.begin(DatasetVersion.Dataset.DEPOSIT);
         try {
-            String url = BASE_URL + "/depositProductsSearch.json?auth=" + apiKey + "&topFinGrpNo=020000&pageNo=1";
-            log.info("예금 상품 API 호출: {}", url);
-
-            DepositApiResponse response = restTemplate.getForObject(url, DepositApiResponse.class);
-
-            if (response == null || response.getResult() == null) {
-                throw new RuntimeException("API 응답이 null입니다.");
-            }
+            // 1) 수집: 받은 페이지를 바로 스테이징 테이블에 씀 (수집 중에는 카탈로그 테이블을 건드리지 않음)
+            FinlifeProductFetcher.FetchSummary summary = finlifeProductFetcher.fetchAll(
+                    "/depositProductsSearch.json", DepositApiResponse.class, DepositApiResponse::getResult,
+                    page -> finlifePageStage.add(DatasetVersion.Dataset.DEPOSIT, runId, page));
 
-            // 기존 데이터 삭제
-            depositOptionRepository.deleteAll();
-            depositOptionRepository.flush();
-            depositProductRepository.deleteAll();
-            depositProductRepository.flush();
-            log.info("기존 예금 데이터 삭제 완료");
-
-            // 상품 정보 저장
-            Map<String, DepositProduct> productMap = new HashMap<>();
-
-            if (response.getResult().getBaseList() != null) {
-                for (DepositProductDto dto : response.getResult().getBaseList()) {
-                    DepositProduct product = DepositProduct.builder()
-                            .finPrdtCd(dto.getFinPrdtCd())
-                            .korCoNm(dto.getKorCoNm())
-                            .finPrdtNm(dto.getFinPrdtNm())
-                            .joinWay(dto.getJoinWay())
-                            .mtrtInt(dto.getMtrtInt())
-                            .spclCnd(dto.getSpclCnd())
-                            .joinDeny(dto.getJoinDeny())
-                            .joinMember(dto.getJoinMember())
-                            .etcNote(dto.getEtcNote())
-                            .maxLimit(dto.getMaxLimit())
-                            .dclsMonth(dto.getDclsMonth())
-                            .dclsStrtDay(dto.getDclsStrtDay())
-                            .dclsEndDay(dto.getDclsEndDay())
-                            .finCoNo(dto.getFinCoNo())
-                            .build();
-
-                    DepositProduct savedProduct = depositProductRepository.save(product);
-                    productMap.put(dto.getFinPrdtCd(), savedProduct);
-                }
+            if (summary.getPagesFetched() == 0) {
+                throw new RuntimeException("수집된 예금 상품 페이지가 없습니다.");
             }
-
-            // 옵션 정보 저장
-            if (response.getResult().getOptionList() != null) {
-                for (DepositOptionDto dto : response.getResult().getOptionList()) {
-                    DepositProduct product = productMap.get(dto.getFinPrdtCd());
-                    if (product != null) {
-                        DepositOption option = DepositOption.builder()
-                                .depositProduct(product)
-                                .intrRateType(dto.getIntrRateType())
-                                .intrRateTypeNm(dto.getIntrRateTypeNm())
-                                .intrRate(dto.getIntrRate())
-                                .intrRate2(dto.getIntrRate2())
-                                .saveTrm(dto.getSaveTrm())
-                                .build();
-
-                        depositOptionRepository.save(option);
-                    }
-                }
+            if (!summary.isComplete()) {
+                log.warn("예금 상품 일부 페이지 수집 실패 - 누락 상품 삭제를 건너뜁니다: {}", summary);
             }
 
-            log.info("예금 상품 데이터 동기화 완료: {} 개 상품", productMap.size());
+            // 2) 반영: 스테이징 페이지를 한 장씩 읽어 변경분만 쓰고, 스테이징 정리와 버전 증가를 같은 트랜잭션으로 커밋
+            ProductSyncResult result = transactionTemplate.execute(status -> {
+                DepositCatalogSyncSession session = new DepositCatalogSyncSession(
+                        depositProductRepository, depositOptionRepository, optionBulkRepository);
+                finlifePageStage.forEach(runId, DepositApiResponse.Result.class,
+                        page -> session.apply(page.getBaseList(), page.getOptionList()));
+                ProductSyncResult applied = session.finish(summary.isComplete());
+                finlifePageStage.discard(runId);
+                // 다른 인스턴스는 버전 변경을 보고 카탈로그를 다시 만듦
+                datasetVersionService.bump(DatasetVersion.Dataset.DEPOSIT);
+                eventPublisher.publishEvent(new ProductCatalogSyncedEvent("예금"));
+                return applied;
+            });
+
+            log.info("예금 상품 데이터 동기화 완료: {}", result);
+            return result;
 
         } catch (Exception e) {
             log.error("예금 상품 데이터 동기화 실패", e);
+            discardQuietly(runId);
             throw new RuntimeException("예금 상품 데이터 동기화 실패: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 예금 상품 비동기 동기화
-     */
-    @Async("syncTaskExecutor")
-    @Transactional
-    public CompletableFuture<Void> syncDepositProductsAsync() {
-        try {
-            String url = BASE_URL + "/depositProductsSearch.json?auth=" + apiKey + "&topFinGrpNo=020000&pageNo=1";
-            log.info("예금 상품 API 호출 (비동기): {}", url);
-
-            DepositApiResponse response = restTemplate.getForObject(url, DepositApiResponse.class);
-
-            if (response == null || response.getResult() == null) {
-                throw new RuntimeException("API 응답이 null입니다.");
-            }
-
-            // 기존 데이터 삭제
-            depositOptionRepository.deleteAll();
-            depositProductRepository.deleteAll();
-            log.info("기존 예금 데이터 삭제 완료 (비동기)");
-
-            // 배치로 상품 정보 저장
-            List<DepositProduct> products = new ArrayList<>();
-            if (response.getResult().getBaseList() != null) {
-                for (DepositProductDto dto : response.getResult().getBaseList()) {
-                    DepositProduct product = DepositProduct.builder()
-                            .finPrdtCd(dto.getFinPrdtCd())
-                            .korCoNm(dto.getKorCoNm())
-                            .finPrdtNm(dto.getFinPrdtNm())
-                            .joinWay(dto.getJoinWay())
-                            .mtrtInt(dto.getMtrtInt())
-                            .spclCnd(dto.getSpclCnd())
-                            .joinDeny(dto.getJoinDeny())
-                            .joinMember(dto.getJoinMember())
-                            .etcNote(dto.getEtcNote())
-                            .maxLimit(dto.getMaxLimit())
-                            .dclsMonth(dto.getDclsMonth())
-                            .dclsStrtDay(dto.getDclsStrtDay())
-                            .dclsEndDay(dto.getDclsEndDay())
-                            .finCoNo(dto.getFinCoNo())
-                            .build();
-                    products.add(product);
-                }
-            }
-
-            // 배치 저장
-            List<DepositProduct> savedProducts = depositProductRepository.saveAll(products);
-            Map<String, DepositProduct> productMap = savedProducts.stream()
-                    .collect(Collectors.toMap(DepositProduct::getFinPrdtCd, p -> p));
-
-            // 배치로 옵션 정보 저장
-            List<DepositOption> options = new ArrayList<>();
-            if (response.getResult().getOptionList() != null) {
-                for (DepositOptionDto dto : response.getResult().getOptionList()) {
-                    DepositProduct product = productMap.get(dto.getFinPrdtCd());
-                    if (product != null) {
-                        DepositOption option = DepositOption.builder()
-                                .depositProduct(product)
-                                .intrRateType(dto.getIntrRateType())
-                                .intrRateTypeNm(dto.getIntrRateTypeNm())
-                                .intrRate(dto.getIntrRate())
-                                .intrRate2(dto.getIntrRate2())
-                                .saveTrm(dto.getSaveTrm())
-                                .build();
-                        options.add(option);
-                    }
-                }
-            }
-
-            depositOptionRepository.saveAll(options);
-            log.info("예금 상품 데이터 동기화 완료 (비동기): {} 개 상품", products.size());
-
-            return CompletableFuture.completedFuture(null);
-
-        } catch (Exception e) {
-            log.error("예금 상품 데이터 동기화 실패 (비동기)", e);
-            throw new RuntimeException("예금 상품 데이터 동기화 실패: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * 적금 상품 비동기 동기화
+     * 적금 상품 데이터 동기화
+     * - 전 권역/전 페이지를 수집하며 finPrdtCd 기준으로 변경분만 반영
+     * - 수집이 실패하면 카탈로그 테이블에 아무것도 쓰지 않으므로 직전 카탈로그가 그대로 서비스됨
+     * - 데이터셋 버전(dataset_versions)은 카탈로그 변경과 함께 커밋되는 노드 공용 포인터
      */
-    @Async("syncTaskExecutor")
-    @Transactional
-    public CompletableFuture<Void> syncSavingProductsAsync() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductSyncResult syncSavingProducts() {
+        String runId = finlifePageStage.begin(DatasetVersion.Dataset.SAVING);
         try {
-            String url = BASE_URL + "/savingProductsSearch.json?auth=" + apiKey + "&topFinGrpNo=020000&pageNo=1";
-            log.info("적금 상품 API 호출 (비동기): {}", url);
-
-            SavingApiResponse response = restTemplate.getForObject(url, SavingApiResponse.class);
-
-            if (response == null || response.getResult() == null) {
-                throw new RuntimeException("API 응답이 null입니다.");
-            }
+            // 1) 수집: 받은 페이지를 바로 스테이징 테이블에 씀 (수집 중에는 카탈로그 테이블을 건드리지 않음)
+            FinlifeProductFetcher.FetchSummary summary = finlifeProductFetcher.fetchAll(
+                    "/savingProductsSearch.json", SavingApiResponse.class, SavingApiResponse::getResult,
+                    page -> finlifePageStage.add(DatasetVersion.Dataset.SAVING, runId, page));
 
-            // 기존 데이터 삭제
-            savingOptionRepository.deleteAll();
-            savingProductRepository.deleteAll();
-            log.info("기존 적금 데이터 삭제 완료 (비동기)");
-
-            // 배치로 상품 정보 저장
-            List<SavingProduct> products = new ArrayList<>();
-            if (response.getResult().getBaseList() != null) {
-                for (SavingProductDto dto : response.getResult().getBaseList()) {
-                    SavingProduct product = SavingProduct.builder()
-                            .finPrdtCd(dto.getFinPrdtCd())
-                            .korCoNm(dto.getKorCoNm())
-                            .finPrdtNm(dto.getFinPrdtNm())
-                            .joinWay(dto.getJoinWay())
-                            .mtrtInt(dto.getMtrtInt())
-                            .spclCnd(dto.getSpclCnd())
-                            .joinDeny(dto.getJoinDeny())
-                            .joinMember(dto.getJoinMember())
-                            .etcNote(dto.getEtcNote())
-                            .maxLimit(dto.getMaxLimit())
-                            .dclsMonth(dto.getDclsMonth())
-                            .dclsStrtDay(dto.getDclsStrtDay())
-                            .dclsEndDay(dto.getDclsEndDay())
-                            .finCoNo(dto.getFinCoNo())
-                            .build();
-                    products.add(product);
-                }
+            if (summary.getPagesFetched() == 0) {
+                throw new RuntimeException("수집된 적금 상품 페이지가 없습니다.");
             }
-
-            // 배치 저장
-            List<SavingProduct> savedProducts = savingProductRepository.saveAll(products);
-            Map<String, SavingProduct> productMap = savedProducts.stream()
-                    .collect(Collectors.toMap(SavingProduct::getFinPrdtCd, p -> p));
-
-            // 배치로 옵션 정보 저장
-            List<SavingOption> options = new ArrayList<>();
-            if (response.getResult().getOptionList() != null) {
-                for (SavingOptionDto dto : response.getResult().getOptionList()) {
-                    SavingProduct product = productMap.get(dto.getFinPrdtCd());
-                    if (product != null) {
-                        SavingOption option = SavingOption.builder()
-                                .savingProduct(product)
-                                .intrRateType(dto.getIntrRateType())
-                                .intrRateTypeNm(dto.getIntrRateTypeNm())
-                                .rsrvType(dto.getRsrvType())
-                                .rsrvTypeNm(dto.getRsrvTypeNm())
-                                .intrRate(dto.getIntrRate())
-                                .intrRate2(dto.getIntrRate2())
-                                .saveTrm(dto.getSaveTrm())
-                                .build();
-                        options.add(option);
-                    }
-                }
+            if (!summary.isComplete()) {
+                log.warn("적금 상품 일부 페이지 수집 실패 - 누락 상품 삭제를 건너뜁니다: {}", summary);
             }
 
-            savingOptionRepository.saveAll(options);
-            log.info("적금 상품 데이터 동기화 완료 (비동기): {} 개 상품", products.size());
-
-            return CompletableFuture.completedFuture(null);
+            // 2) 반영: 스테이징 페이지를 한 장씩 읽어 변경분만 쓰고, 스테이징 정리와 버전 증가를 같은 트랜잭션으로 커밋
+            ProductSyncResult result = transactionTemplate.execute(status -> {
+                SavingCatalogSyncSession session = new SavingCatalogSyncSession(
+                        savingProductRepository, savingOptionRepository, optionBulkRepository);
+                finlifePageStage.forEach(runId, SavingApiResponse.Result.class,
+                        page -> session.apply(page.getBaseList(), page.getOptionList()));
+                ProductSyncResult applied = session.finish(summary.isComplete());
+                finlifePageStage.discard(runId);
+                datasetVersionService.bump(DatasetVersion.Dataset.SAVING);
+                eventPublisher.publishEvent(new ProductCatalogSyncedEvent("적금"));
+                return applied;
+            });
+
+            log.info("적금 상품 데이터 동기화 완료: {}", result);
+            return result;
 
         } catch (Exception e) {
-            log.error("적금 상품 데이터 동기화 실패 (비동기)", e);
+            log.error("적금 상품 데이터 동기화 실패", e);
+            discardQuietly(runId);
             throw new RuntimeException("적금 상품 데이터 동기화 실패: " + e.getMessage(), e);
         }
     }
 
-    /**
-     * 적금 상품 데이터 동기화
-     */
-    public void syncSavingProducts() {
+    private void discardQuietly(String runId) {
         try {
-            String url = BASE_URL + "/savingProductsSearch.json?auth=" + apiKey + "&topFinGrpNo=020000&pageNo=1";
-            log.info("적금 상품 API 호출: {}", url);
-
-            SavingApiResponse response = restTemplate.getForObject(url, SavingApiResponse.class);
-
-            if (response == null || response.getResult() == null) {
-                throw new RuntimeException("API 응답이 null입니다.");
-            }
-
-            // 기존 데이터 삭제
-            savingOptionRepository.deleteAll();
-            savingOptionRepository.flush();
-            savingProductRepository.deleteAll();
-            savingProductRepository.flush();
-            log.info("기존 적금 데이터 삭제 완료");
-
-            // 상품 정보 저장
-            Map<String, SavingProduct> productMap = new HashMap<>();
-
-            if (response.getResult().getBaseList() != null) {
-                for (SavingProductDto dto : response.getResult().getBaseList()) {
-                    SavingProduct product = SavingProduct.builder()
-                            .finPrdtCd(dto.getFinPrdtCd())
-                            .korCoNm(dto.getKorCoNm())
-                            .finPrdtNm(dto.getFinPrdtNm())
-                            .joinWay(dto.getJoinWay())
-                            .mtrtInt(dto.getMtrtInt())
-                            .spclCnd(dto.getSpclCnd())
-                            .joinDeny(dto.getJoinDeny())
-                            .joinMember(dto.getJoinMember())
-                            .etcNote(dto.getEtcNote())
-                            .maxLimit(dto.getMaxLimit())
-                            .dclsMonth(dto.getDclsMonth())
-                            .dclsStrtDay(dto.getDclsStrtDay())
-                            .dclsEndDay(dto.getDclsEndDay())
-                            .finCoNo(dto.getFinCoNo())
-                            .build();
-
-                    SavingProduct savedProduct = savingProductRepository.save(product);
-                    productMap.put(dto.getFinPrdtCd(), savedProduct);
-                }
-            }
-
-            // 옵션 정보 저장
-            if (response.getResult().getOptionList() != null) {
-                for (SavingOptionDto dto : response.getResult().getOptionList()) {
-                    SavingProduct product = productMap.get(dto.getFinPrdtCd());
-                    if (product != null) {
-                        SavingOption option = SavingOption.builder()
-                                .savingProduct(product)
-                                .intrRateType(dto.getIntrRateType())
-                                .intrRateTypeNm(dto.getIntrRateTypeNm())
-                                .rsrvType(dto.getRsrvType())
-                                .rsrvTypeNm(dto.getRsrvTypeNm())
-                                .intrRate(dto.getIntrRate())
-                                .intrRate2(dto.getIntrRate2())
-                                .saveTrm(dto.getSaveTrm())
-                                .build();
-
-                        savingOptionRepository.save(option);
-                    }
-                }
-            }
-
-            log.info("적금 상품 데이터 동기화 완료: {} 개 상품", productMap.size());
-
+            finlifePageStage.discard(runId);
         } catch (Exception e) {
-            log.error("적금 상품 데이터 동기화 실패", e);
-            throw new RuntimeException("적금 상품 데이터 동기화 실패: " + e.getMessage(), e);
+            log.warn("스테이징 페이지 정리 실패 (다음 실행 시작 때 정리됨): runId={}", runId, e);
         }
     }
 
@@ -384,7 +144,9 @@ public class FinancialProductService {
 
     /**
      * 목표 기반 상품 추천
+     * - 동기화 후 만들어 둔 금리 인덱스만 사용 (DB 조회 없음)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RecommendationResponse recommendProducts(RecommendationRequest request) {
         log.info("상품 추천 요청: 목표금액={}, 목표기간={}개월, 현재보유={}",
                 request.getTargetAmount(), request.getTargetMonths(), request.getCurrentAmount());
@@ -392,25 +154,21 @@ public class FinancialProductService {
         List<ProductRecommendation> recommendations = new ArrayList<>();
 
         // 예금 상품 추천 (목표금액을 한번에 예치)
-        List<DepositProduct> topDeposits = getTopDepositProducts(request.getTargetMonths(), 3);
-        for (DepositProduct deposit : topDeposits) {
-            ProductRecommendation rec = createDepositRecommendation(deposit, request);
-            if (rec != null) {
-                recommendations.add(rec);
-            }
+        List<ProductRateIndex.Entry> topDeposits = productCatalogHolder.deposits().rates().top(request.getTargetMonths(), 3);
+        for (ProductRateIndex.Entry deposit : topDeposits) {
+            recommendations.add(createDepositRecommendation(deposit, request));
         }
 
         // 적금 상품 추천 (월납입으로 목표금액 달성)
-        List<SavingProduct> topSavings = getTopSavingProducts(request.getTargetMonths(), 3);
-        for (SavingProduct saving : topSavings) {
-            ProductRecommendation rec = createSavingRecommendation(saving, request);
-            if (rec != null) {
-                recommendations.add(rec);
-            }
+        List<ProductRateIndex.Entry> topSavings = productCatalogHolder.savings().rates().top(request.getTargetMonths(), 3);
+        for (ProductRateIndex.Entry saving : topSavings) {
+            recommendations.add(createSavingRecommendation(saving, request));
         }
 
-        // 최적 조합 계산
-        OptimalCombination combination = calculateOptimalCombination(request);
+        // 최적 조합 계산 (각 1위 상품 사용)
+        OptimalCombination combination = calculateOptimalCombination(request,
+                topDeposits.isEmpty() ? null : topDeposits.get(0),
+                topSavings.isEmpty() ? null : topSavings.get(0));
 
         return RecommendationResponse.builder()
                 .targetAmount(request.getTargetAmount())
@@ -421,44 +179,13 @@ public class FinancialProductService {
                 .build();
     }
 
-    /**
-     * 최고 예금 상품 조회
-     */
-    private List<DepositProduct> getTopDepositProducts(Integer term, int limit) {
-        List<DepositProduct> products = depositProductRepository.findByTermOrderByBestRateDesc(term);
-        return products.stream()
-                .distinct()
-                .limit(limit)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 최고 적금 상품 조회
-     */
-    private List<SavingProduct> getTopSavingProducts(Integer term, int limit) {
-        List<SavingProduct> products = savingProductRepository.findByTermOrderByBestRateDesc(term);
-        return products.stream()
-                .distinct()
-                .limit(limit)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 예금 상품 추천 생성 - 간소화된 버전
      */
-    private ProductRecommendation createDepositRecommendation(DepositProduct deposit, RecommendationRequest request) {
-        DepositOption bestOption = deposit.getOptions().stream()
-                .filter(o -> o.getSaveTrm().equals(request.getTargetMonths()))
-                .max(Comparator.comparing(DepositOption::getBestRate))
-                .orElse(null);
-
-        if (bestOption == null) {
-            return null;
-        }
-
+    private ProductRecommendation createDepositRecommendation(ProductRateIndex.Entry deposit, RecommendationRequest request) {
         double expectedAmount = calculateDepositReturn(
                 (double) request.getTargetAmount(),
-                bestOption.getBestRate(),
+                deposit.bestRate(),
                 request.getTargetMonths()
         );
 
@@ -466,10 +193,10 @@ public class FinancialProductService {
 
         return ProductRecommendation.builder()
                 .productType("예금")
-                .bankName(deposit.getKorCoNm())
-                .productName(deposit.getFinPrdtNm())
-                .interestRate(bestOption.getBestRate())
-                .term(bestOption.getSaveTrm())
+                .bankName(deposit.korCoNm())
+                .productName(deposit.finPrdtNm())
+                .interestRate(deposit.bestRate())
+                .term(deposit.saveTrm())
                 .expectedReturn(expectedReturn)
                 .inputAmount(request.getTargetAmount())
                 .maturityAmount((long) expectedAmount)
@@ -480,29 +207,20 @@ public class FinancialProductService {
     /**
      * 적금 상품 추천 생성 - 간소화된 버전
      */
-    private ProductRecommendation createSavingRecommendation(SavingProduct saving, RecommendationRequest request) {
+    private ProductRecommendation createSavingRecommendation(ProductRateIndex.Entry saving, RecommendationRequest request) {
         // 현재 보유 금액 고려한 부족 금액 계산
         long remainingAmount = request.getTargetAmount() - (request.getCurrentAmount() != null ? request.getCurrentAmount() : 0L);
 
-        SavingOption bestOption = saving.getOptions().stream()
-                .filter(o -> o.getSaveTrm().equals(request.getTargetMonths()))
-                .max(Comparator.comparing(SavingOption::getBestRate))
-                .orElse(null);
-
-        if (bestOption == null) {
-            return null;
-        }
-
         double monthlyAmount = (double) remainingAmount / request.getTargetMonths();
-        double expectedAmount = bestOption.calculateExpectedReturn(monthlyAmount, request.getTargetMonths());
+        double expectedAmount = SavingOption.calculateExpectedReturn(saving.bestRate(), monthlyAmount, request.getTargetMonths());
         double expectedReturn = expectedAmount - (double) remainingAmount;
 
         return ProductRecommendation.builder()
                 .productType("적금")
-                .bankName(saving.getKorCoNm())
-                .productName(saving.getFinPrdtNm())
-                .interestRate(bestOption.getBestRate())
-                .term(bestOption.getSaveTrm())
+                .bankName(saving.korCoNm())
+                .productName(saving.finPrdtNm())
+                .interestRate(saving.bestRate())
+                .term(saving.saveTrm())
                 .expectedReturn(expectedReturn)
                 .inputAmount(null) // 적금은 null
                 .maturityAmount((long) expectedAmount)
@@ -521,7 +239,9 @@ public class FinancialProductService {
     /**
      * 최적 조합 계산
      */
-    private OptimalCombination calculateOptimalCombination(RecommendationRequest request) {
+    private OptimalCombination calculateOptimalCombination(RecommendationRequest request,
+                                                           ProductRateIndex.Entry deposit,
+                                                           ProductRateIndex.Entry saving) {
         long currentAmount = request.getCurrentAmount() != null ? request.getCurrentAmount() : 0L;
         long remainingAmount = request.getTargetAmount() - currentAmount;
         long depositAmount = Math.min(currentAmount, request.getTargetAmount() / 2); // 현재 보유액은 예금으로
@@ -532,75 +252,57 @@ public class FinancialProductService {
         double totalExpectedReturn = 0.0;
 
         // 예금 상품 추가
-        List<DepositProduct> topDeposits = getTopDepositProducts(request.getTargetMonths(), 1);
-        if (!topDeposits.isEmpty()) {
-            DepositProduct deposit = topDeposits.get(0);
-            DepositOption bestOption = deposit.getOptions().stream()
-                    .filter(o -> o.getSaveTrm().equals(request.getTargetMonths()))
-                    .max(Comparator.comparing(DepositOption::getBestRate))
-                    .orElse(null);
-
-            if (bestOption != null) {
-                double maturityAmount = calculateDepositReturn(
-                        (double) depositAmount, bestOption.getBestRate(), request.getTargetMonths()
-                );
-                double expectedReturn = maturityAmount - depositAmount;
-                totalExpectedReturn += expectedReturn;
-
-                products.add(CombinationProduct.builder()
-                        .productType("예금")
-                        .bankName(deposit.getKorCoNm())
-                        .productName(deposit.getFinPrdtNm())
-                        .term(bestOption.getSaveTrm())
-                        .interestRate(bestOption.getBestRate())
-                        .specialCondition(deposit.getSpclCnd())
-                        // 예금 전용 필드
-                        .depositAmount(depositAmount)
-                        .maturityAmount((long) maturityAmount)
-                        // 적금 필드는 null
-                        .monthlyAmount(null)
-                        .totalSavingAmount(null)
-                        .savingMaturityAmount(null)
-                        // 공통 필드
-                        .expectedReturn(expectedReturn)
-                        .build());
-            }
+        if (deposit != null) {
+            double maturityAmount = calculateDepositReturn(
+                    (double) depositAmount, deposit.bestRate(), request.getTargetMonths()
+            );
+            double expectedReturn = maturityAmount - depositAmount;
+            totalExpectedReturn += expectedReturn;
+
+            products.add(CombinationProduct.builder()
+                    .productType("예금")
+                    .bankName(deposit.korCoNm())
+                    .productName(deposit.finPrdtNm())
+                    .term(deposit.saveTrm())
+                    .interestRate(deposit.bestRate())
+                    .specialCondition(deposit.spclCnd())
+                    // 예금 전용 필드
+                    .depositAmount(depositAmount)
+                    .maturityAmount((long) maturityAmount)
+                    // 적금 필드는 null
+                    .monthlyAmount(null)
+                    .totalSavingAmount(null)
+                    .savingMaturityAmount(null)
+                    // 공통 필드
+                    .expectedReturn(expectedReturn)
+                    .build());
         }
 
         // 적금 상품 추가
-        List<SavingProduct> topSavings = getTopSavingProducts(request.getTargetMonths(), 1);
-        if (!topSavings.isEmpty()) {
-            SavingProduct saving = topSavings.get(0);
-            SavingOption bestOption = saving.getOptions().stream()
-                    .filter(o -> o.getSaveTrm().equals(request.getTargetMonths()))
-                    .max(Comparator.comparing(SavingOption::getBestRate))
-                    .orElse(null);
-
-            if (bestOption != null) {
-                double savingMaturityAmount = bestOption.calculateExpectedReturn(
-                        savingMonthlyAmount, request.getTargetMonths()
-                );
-                double expectedReturn = savingMaturityAmount - savingTotalAmount;
-                totalExpectedReturn += expectedReturn;
-
-                products.add(CombinationProduct.builder()
-                        .productType("적금")
-                        .bankName(saving.getKorCoNm())
-                        .productName(saving.getFinPrdtNm())
-                        .term(bestOption.getSaveTrm())
-                        .interestRate(bestOption.getBestRate())
-                        .specialCondition(saving.getSpclCnd())
-                        // 예금 필드는 null
-                        .depositAmount(null)
-                        .maturityAmount(null)
-                        // 적금 전용 필드
-                        .monthlyAmount((long) savingMonthlyAmount)
-                        .totalSavingAmount(savingTotalAmount)
-                        .savingMaturityAmount((long) savingMaturityAmount)
-                        // 공통 필드
-                        .expectedReturn(expectedReturn)
-                        .build());
-            }
+        if (saving != null) {
+            double savingMaturityAmount = SavingOption.calculateExpectedReturn(
+                    saving.bestRate(), savingMonthlyAmount, request.getTargetMonths()
+            );
+            double expectedReturn = savingMaturityAmount - savingTotalAmount;
+            totalExpectedReturn += expectedReturn;
+
+            products.add(CombinationProduct.builder()
+                    .productType("적금")
+                    .bankName(saving.korCoNm())
+                    .productName(saving.finPrdtNm())
+                    .term(saving.saveTrm())
+                    .interestRate(saving.bestRate())
+                    .specialCondition(saving.spclCnd())
+                    // 예금 필드는 null
+                    .depositAmount(null)
+                    .maturityAmount(null)
+                    // 적금 전용 필드
+                    .monthlyAmount((long) savingMonthlyAmount)
+                    .totalSavingAmount(savingTotalAmount)
+                    .savingMaturityAmount((long) savingMaturityAmount)
+                    // 공통 필드
+                    .expectedReturn(expectedReturn)
+                    .build());
         }
 
         // 조합 요약 생성
@@ -621,23 +323,13 @@ public class FinancialProductService {
 
     /**
      * 예금 상품 검색 (예금 탭 전용)
+     * - 메모리 검색 인덱스 사용 (부분일치/초성/접두어, 금리 높은순)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProductSummaryDto> searchDepositProducts(String keyword) {
         log.info("예금 상품 검색: {}", keyword);
 
-        Set<DepositProduct> uniqueProducts = new HashSet<>();
-
-        // 은행명으로 검색
-        uniqueProducts.addAll(depositProductRepository.findByKorCoNmContaining(keyword));
-
-        // 상품명으로 검색
-        uniqueProducts.addAll(depositProductRepository.findByFinPrdtNmContaining(keyword));
-
-        List<ProductSummaryDto> results = uniqueProducts.stream()
-                .map(this::convertDepositToSummary)
-                .sorted(Comparator.comparing(ProductSummaryDto::getBestRate).reversed()) // 금리 높은순 정렬
-                .collect(Collectors.toList());
+        List<ProductSummaryDto> results = productSearchService.searchProducts(keyword, "예금", Integer.MAX_VALUE);
 
         log.info("예금 상품 검색 결과: {}개", results.size());
         return results;
@@ -646,74 +338,24 @@ public class FinancialProductService {
     /**
      * 적금 상품 검색 (적금 탭 전용)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProductSummaryDto> searchSavingProducts(String keyword) {
         log.info("적금 상품 검색: {}", keyword);
 
-        Set<SavingProduct> uniqueProducts = new HashSet<>();
-
-        // 은행명으로 검색
-        uniqueProducts.addAll(savingProductRepository.findByKorCoNmContaining(keyword));
-
-        // 상품명으로 검색
-        uniqueProducts.addAll(savingProductRepository.findByFinPrdtNmContaining(keyword));
-
-        List<ProductSummaryDto> results = uniqueProducts.stream()
-                .map(this::convertSavingToSummary)
-                .sorted(Comparator.comparing(ProductSummaryDto::getBestRate).reversed()) // 금리 높은순 정렬
-                .collect(Collectors.toList());
+        List<ProductSummaryDto> results = productSearchService.searchProducts(keyword, "적금", Integer.MAX_VALUE);
 
         log.info("적금 상품 검색 결과: {}개", results.size());
         return results;
     }
 
-    /**
-     * 상품 검색
-     */
-
-    // 변환 메서드들 추가
-    private ProductSummaryDto convertDepositToSummary(DepositProduct deposit) {
-        DepositOption bestOption = deposit.getOptions().stream()
-                .max(Comparator.comparing(DepositOption::getBestRate))
-                .orElse(null);
-
-        return ProductSummaryDto.builder()
-                .id(deposit.getId())
-                .bankName(deposit.getKorCoNm())
-                .productName(deposit.getFinPrdtNm())
-                .productType("예금")
-                .bestRate(bestOption != null ? bestOption.getBestRate() : 0.0)
-                .bestTerm(bestOption != null ? bestOption.getSaveTrm() : null)
-                .build();
-    }
-
-    private ProductSummaryDto convertSavingToSummary(SavingProduct saving) {
-        SavingOption bestOption = saving.getOptions().stream()
-                .max(Comparator.comparing(SavingOption::getBestRate))
-                .orElse(null);
-
-        return ProductSummaryDto.builder()
-                .id(saving.getId())
-                .bankName(saving.getKorCoNm())
-                .productName(saving.getFinPrdtNm())
-                .productType("적금")
-                .bestRate(bestOption != null ? bestOption.getBestRate() : 0.0)
-                .bestTerm(bestOption != null ? bestOption.getSaveTrm() : null)
-                .build();
-    }
-
-    // 전체 조회용 메서드들도 추가
-    @Transactional(readOnly = true)
+    // 전체 조회: 현재 카탈로그 버전의 요약 (동기화 중에도 직전 버전을 DB 조회 없이 반환)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProductSummaryDto> getAllDepositProductsSummary() {
-        return depositProductRepository.findAll().stream()
-                .map(this::convertDepositToSummary)
-                .collect(Collectors.toList());
+        return productCatalogHolder.deposits().summaries();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProductSummaryDto> getAllSavingProductsSummary() {
-        return savingProductRepository.findAll().stream()
-                .map(this::convertSavingToSummary)
-                .collect(Collectors.toList());
+        return productCatalogHolder.savings().summaries();
     }
-}
\ No newline at end of file
+}
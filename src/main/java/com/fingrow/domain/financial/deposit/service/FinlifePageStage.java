@@ -0,0 +1,89 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fingrow.domain.financial.deposit.entity.FinlifeStagedPage;
+import com.fingrow.domain.financial.deposit.repository.FinlifeStagedPageRepository;
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * finlife 수집 페이지 스테이징
+ * - 수집 중 받은 페이지를 바로 finlife_staged_pages 에 한 행씩 커밋해 메모리에 데이터셋 전체를 들고 있지 않음
+ * - 반영 트랜잭션은 페이지를 한 장씩 읽어 적용하고, 같은 트랜잭션에서 스테이징 행 삭제와 DatasetVersion 증가를 함께 커밋
+ * - 같은 데이터셋 동기화는 동기화 리스로 한 노드에서만 돌므로 시작 시 남은 행(중단된 실행)을 지워도 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinlifePageStage {
+
+    private final FinlifeStagedPageRepository stagedPageRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 새 실행 시작 - 이전에 중단된 실행의 행을 정리하고 실행 ID 발급
+     */
+    @Transactional
+    public String begin(DatasetVersion.Dataset dataset) {
+        int leftover = stagedPageRepository.deleteByDataset(dataset);
+        if (leftover > 0) {
+            log.warn("{} 이전 실행의 스테이징 페이지 {}건 정리", dataset, leftover);
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 수집한 페이지 한 장 저장 (페이지마다 커밋)
+     */
+    @Transactional
+    public void add(DatasetVersion.Dataset dataset, String runId, Object page) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(page);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("스테이징 페이지 직렬화 실패: " + e.getMessage(), e);
+        }
+        stagedPageRepository.save(FinlifeStagedPage.builder()
+                .dataset(dataset)
+                .runId(runId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 저장 순서대로 한 장씩 읽어 전달 - 반영 트랜잭션 안에서만 호출
+     * @return 전달한 페이지 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <R> int forEach(String runId, Class<R> pageType, Consumer<R> consumer) {
+        List<Long> ids = stagedPageRepository.findIdsByRunId(runId);
+        for (Long id : ids) {
+            String payload = stagedPageRepository.findPayload(id);
+            try {
+                consumer.accept(objectMapper.readValue(payload, pageType));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("스테이징 페이지 역직렬화 실패: id=" + id, e);
+            }
+        }
+        return ids.size();
+    }
+
+    /**
+     * 반영 트랜잭션 안에서 호출하면 데이터와 함께 커밋되고, 실패 후 호출하면 단독으로 정리
+     */
+    @Transactional
+    public int discard(String runId) {
+        return stagedPageRepository.deleteByRunId(runId);
+    }
+}
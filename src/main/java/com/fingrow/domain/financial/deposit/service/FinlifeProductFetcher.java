@@ -0,0 +1,214 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fingrow.domain.financial.deposit.dto.FinlifePage;
+import com.fingrow.global.util.SyncJournal;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 금융감독원 finlife API 페이지 수집기
+ * - 권역(topFinGrpNo)별 1페이지에서 max_page_no 를 읽고 나머지 페이지를 병렬로 수집
+ * - 동시 호출 수는 finlifeFetchExecutor 크기로 제한
+ * - 수집된 페이지는 호출 스레드에서 바로 consumer 로 넘기므로 전체 데이터를 메모리에 모으지 않음
+ */
+@Slf4j
+@Component
+public class FinlifeProductFetcher {
+
+    private static final String SUCCESS_CODE = "000";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor fetchExecutor;
+    private final int maxConcurrency;
+
+    @Value("${finlife.api.key:YOUR_API_KEY}")
+    private String apiKey;
+
+    @Value("${finlife.api.base-url:https://finlife.fss.or.kr/finlifeapi}")
+    private String baseUrl;
+
+    // 020000: 은행, 030200: 여신전문, 030300: 저축은행, 050000: 보험, 060000: 금융투자
+    @Value("${finlife.api.fin-grp-nos:020000,030200,030300,050000,060000}")
+    private List<String> finGrpNos;
+
+    public FinlifeProductFetcher(RestTemplate restTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("finlifeFetchExecutor") Executor fetchExecutor,
+                                 @Value("${finlife.api.max-concurrency:4}") int maxConcurrency) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchExecutor = fetchExecutor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * 모든 권역의 모든 페이지를 수집해 페이지 단위로 consumer 에 전달
+     *
+     * @param path         API 경로 (예: /depositProductsSearch.json)
+     * @param responseType 응답 타입
+     * @param resultOf     응답에서 페이지 결과 추출
+     * @param consumer     페이지 처리기 (호출 스레드에서 실행)
+     */
+    public <T, R extends FinlifePage> FetchSummary fetchAll(String path, Class<T> responseType,
+                                                            Function<T, R> resultOf, Consumer<R> consumer) {
+        // 처리 대기 페이지는 동시 호출 수의 2배까지만 버퍼링
+        BlockingQueue<PageResult<R>> completed = new ArrayBlockingQueue<>(maxConcurrency * 2);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        FetchSummary summary = new FetchSummary(finGrpNos.size());
+        // 수집 스레드에서도 호출 스레드의 동기화 저널에 기록
+        SyncJournal journal = SyncJournal.current();
+
+        int pending = 0;
+        try {
+            for (String finGrpNo : finGrpNos) {
+                submit(path, responseType, resultOf, finGrpNo, 1, completed, cancelled, journal);
+                pending++;
+            }
+
+            while (pending > 0) {
+                PageResult<R> page = completed.take();
+                pending--;
+
+                if (page.error() != null) {
+                    summary.pagesFailed++;
+                    journal.error(SyncJournal.Stage.FETCH, path + " 권역=" + page.finGrpNo() + " 페이지=" + page.pageNo()
+                            + " - " + page.error().getMessage());
+                    log.warn("finlife 페이지 수집 실패: {} 권역={} 페이지={} - {}",
+                            path, page.finGrpNo(), page.pageNo(), page.error().getMessage());
+                    continue;
+                }
+
+                // 1페이지에서 전체 페이지 수를 확인하고 나머지 페이지 요청
+                if (page.pageNo() == 1) {
+                    int maxPageNo = page.result().getMaxPageNo() != null ? page.result().getMaxPageNo() : 1;
+                    if (page.result().getTotalCount() != null) {
+                        summary.totalCount += page.result().getTotalCount();
+                    }
+                    for (int pageNo = 2; pageNo <= maxPageNo; pageNo++) {
+                        submit(path, responseType, resultOf, page.finGrpNo(), pageNo, completed, cancelled, journal);
+                        pending++;
+                    }
+                }
+
+                summary.pagesFetched++;
+                consumer.accept(page.result());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("finlife 페이지 수집이 중단되었습니다.", e);
+        } finally {
+            // 처리 중 예외가 나면 남은 작업이 큐에서 대기하지 않도록 정리
+            cancelled.set(true);
+            completed.clear();
+        }
+
+        log.info("finlife 수집 완료: {} {}", path, summary);
+        return summary;
+    }
+
+    private <T, R extends FinlifePage> void submit(String path, Class<T> responseType, Function<T, R> resultOf,
+                                                   String finGrpNo, int pageNo,
+                                                   BlockingQueue<PageResult<R>> completed, AtomicBoolean cancelled,
+                                                   SyncJournal journal) {
+        fetchExecutor.execute(() -> {
+            if (cancelled.get()) {
+                return;
+            }
+            PageResult<R> page;
+            try (SyncJournal.Scope scope = journal.bind()) {
+                page = new PageResult<>(finGrpNo, pageNo, fetchPage(path, responseType, resultOf, finGrpNo, pageNo), null);
+            } catch (Exception e) {
+                page = new PageResult<>(finGrpNo, pageNo, null, e);
+            }
+            try {
+                while (!cancelled.get() && !completed.offer(page, 1, TimeUnit.SECONDS)) {
+                    // 소비가 밀리면 대기 (backpressure)
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private <T, R extends FinlifePage> R fetchPage(String path, Class<T> responseType, Function<T, R> resultOf,
+                                                   String finGrpNo, int pageNo) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl + path)
+                .queryParam("auth", apiKey)
+                .queryParam("topFinGrpNo", finGrpNo)
+                .queryParam("pageNo", pageNo)
+                .build()
+                .toUri();
+
+        log.debug("finlife API 호출: {} 권역={} 페이지={}", path, finGrpNo, pageNo);
+
+        SyncJournal journal = SyncJournal.current();
+        byte[] body;
+        try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.FETCH)) {
+            body = restTemplate.execute(uri, HttpMethod.GET, null,
+                    response -> StreamUtils.copyToByteArray(response.getBody()));
+        }
+        if (body == null) {
+            throw new RuntimeException("API 응답이 null입니다.");
+        }
+        journal.bytes(body.length);
+
+        R result;
+        try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.PARSE)) {
+            T response = objectMapper.readValue(body, responseType);
+            result = response != null ? resultOf.apply(response) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("API 응답 파싱 실패: " + e.getMessage(), e);
+        }
+
+        if (result == null) {
+            throw new RuntimeException("API 응답이 null입니다.");
+        }
+        if (result.getErrCd() != null && !SUCCESS_CODE.equals(result.getErrCd())) {
+            throw new RuntimeException("API 오류 응답: " + result.getErrCd() + " " + result.getErrMsg());
+        }
+        journal.rows(SyncJournal.Stage.FETCH, 0, 1);
+        return result;
+    }
+
+    private record PageResult<R>(String finGrpNo, int pageNo, R result, Exception error) {
+    }
+
+    /**
+     * 수집 결과 요약
+     */
+    @Getter
+    @ToString
+    public static class FetchSummary {
+        private final int groups;
+        private int pagesFetched;
+        private int pagesFailed;
+        private int totalCount;
+
+        FetchSummary(int groups) {
+            this.groups = groups;
+        }
+
+        /** 실패한 페이지 없이 모두 수집했는지 여부 */
+        public boolean isComplete() {
+            return pagesFailed == 0;
+        }
+    }
+}
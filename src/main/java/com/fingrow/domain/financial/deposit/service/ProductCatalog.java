@@ -0,0 +1,24 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.ProductSummaryDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 한 시점의 예금 또는 적금 카탈로그 (불변)
+ * - 같은 읽기 트랜잭션에서 만든 금리 인덱스와 상품 요약을 함께 묶어 버전 번호를 붙임
+ * - 조회는 항상 하나의 버전만 보며, 교체된 이전 버전은 참조가 끊기면 GC 로 회수됨
+ *
+ * @param version   보관소에서 교체할 때마다 1씩 증가 (0 = 아직 적재 전)
+ * @param summaries 상품 ID 순 요약 (상품당 최고금리 옵션 1건)
+ */
+public record ProductCatalog(long version, LocalDateTime builtAt, ProductRateIndex rates,
+                             List<ProductSummaryDto> summaries) {
+
+    public static final ProductCatalog EMPTY = new ProductCatalog(0, null, ProductRateIndex.EMPTY, List.of());
+
+    public int productCount() {
+        return summaries.size();
+    }
+}
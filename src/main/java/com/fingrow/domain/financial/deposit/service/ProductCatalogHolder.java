@@ -0,0 +1,143 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.ProductSummaryDto;
+import com.fingrow.domain.financial.deposit.entity.DepositOption;
+import com.fingrow.domain.financial.deposit.entity.DepositProduct;
+import com.fingrow.domain.financial.deposit.entity.SavingOption;
+import com.fingrow.domain.financial.deposit.entity.SavingProduct;
+import com.fingrow.domain.financial.deposit.repository.DepositProductRepository;
+import com.fingrow.domain.financial.deposit.repository.SavingProductRepository;
+import com.fingrow.domain.financial.sync.service.DatasetChangedEvent;
+import com.fingrow.global.util.SyncJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 예금/적금 카탈로그 버전 포인터
+ * - 기동 시, 그리고 동기화 트랜잭션 커밋 직후 새 버전을 만들어 포인터를 통째로 교체
+ * - 상품 요약/추천 조회는 모두 이 포인터만 읽으므로 동기화 중에도 DB 락이나 지연 없이 직전 버전을 봄
+ * - 동기화가 실패하면 커밋 이벤트가 없으므로 직전 버전이 그대로 유지됨
+ * - 다른 인스턴스가 동기화한 경우 데이터셋 버전 변경(DatasetChangedEvent)을 보고 다시 만듦
+ */
+@Slf4j
+@Component
+public class ProductCatalogHolder {
+
+    private final DepositProductRepository depositProductRepository;
+    private final SavingProductRepository savingProductRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final AtomicReference<ProductCatalog> depositCatalog = new AtomicReference<>(ProductCatalog.EMPTY);
+    private final AtomicReference<ProductCatalog> savingCatalog = new AtomicReference<>(ProductCatalog.EMPTY);
+
+    public ProductCatalogHolder(DepositProductRepository depositProductRepository,
+                                SavingProductRepository savingProductRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.depositProductRepository = depositProductRepository;
+        this.savingProductRepository = savingProductRepository;
+        // 커밋 후 콜백에서 실행되므로 새 트랜잭션으로 읽음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public ProductCatalog deposits() {
+        return depositCatalog.get();
+    }
+
+    public ProductCatalog savings() {
+        return savingCatalog.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildDeposits();
+        rebuildSavings();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogSynced(ProductCatalogSyncedEvent event) {
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            if ("예금".equals(event.productType())) {
+                rebuildDeposits();
+            } else if ("적금".equals(event.productType())) {
+                rebuildSavings();
+            }
+        }
+    }
+
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        switch (event.dataset()) {
+            case DEPOSIT -> rebuildDeposits();
+            case SAVING -> rebuildSavings();
+            default -> {
+            }
+        }
+    }
+
+    public void rebuildDeposits() {
+        try {
+            // 금리 인덱스와 요약을 같은 트랜잭션에서 읽어 한 버전 안에서는 서로 일치하게 함
+            ProductCatalog catalog = readOnlyTransaction.execute(status -> {
+                ProductRateIndex.Builder builder = ProductRateIndex.builder();
+                for (DepositProduct product : depositProductRepository.findAllWithOptions()) {
+                    int p = builder.addProduct(product.getKorCoNm(), product.getFinPrdtNm(), product.getSpclCnd());
+                    for (DepositOption option : product.getOptions()) {
+                        builder.addRate(p, option.getSaveTrm(), option.getBestRate());
+                    }
+                }
+                List<ProductSummaryDto> summaries = depositProductRepository.findAllSummaries().stream()
+                        .map(view -> ProductSummaryDto.from(view, "예금"))
+                        .toList();
+                return newVersion(builder.build(), summaries);
+            });
+            depositCatalog.set(catalog);
+            log.info("예금 카탈로그 v{} 적용: 상품 {}개, 기간 {}종",
+                    catalog.version(), catalog.productCount(), catalog.rates().termCount());
+        } catch (Exception e) {
+            // 직전 버전 유지
+            log.error("예금 카탈로그 갱신 실패", e);
+        }
+    }
+
+    public void rebuildSavings() {
+        try {
+            ProductCatalog catalog = readOnlyTransaction.execute(status -> {
+                ProductRateIndex.Builder builder = ProductRateIndex.builder();
+                for (SavingProduct product : savingProductRepository.findAllWithOptions()) {
+                    int p = builder.addProduct(product.getKorCoNm(), product.getFinPrdtNm(), product.getSpclCnd());
+                    for (SavingOption option : product.getOptions()) {
+                        builder.addRate(p, option.getSaveTrm(), option.getBestRate());
+                    }
+                }
+                List<ProductSummaryDto> summaries = savingProductRepository.findAllSummaries().stream()
+                        .map(view -> ProductSummaryDto.from(view, "적금"))
+                        .toList();
+                return newVersion(builder.build(), summaries);
+            });
+            savingCatalog.set(catalog);
+            log.info("적금 카탈로그 v{} 적용: 상품 {}개, 기간 {}종",
+                    catalog.version(), catalog.productCount(), catalog.rates().termCount());
+        } catch (Exception e) {
+            log.error("적금 카탈로그 갱신 실패", e);
+        }
+    }
+
+    private ProductCatalog newVersion(ProductRateIndex rates, List<ProductSummaryDto> summaries) {
+        return new ProductCatalog(versionSequence.incrementAndGet(), LocalDateTime.now(), rates, summaries);
+    }
+}
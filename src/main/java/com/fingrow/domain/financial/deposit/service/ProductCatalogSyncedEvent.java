@@ -0,0 +1,9 @@
+package com.fingrow.domain.financial.deposit.service;
+
+/**
+ * 예금/적금 카탈로그 동기화 완료 이벤트
+ *
+ * @param productType "예금" 또는 "적금"
+ */
+public record ProductCatalogSyncedEvent(String productType) {
+}
@@ -0,0 +1,126 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import java.util.*;
+
+/**
+ * 저축기간(saveTrm)별 최고금리 순 상품 인덱스 (불변)
+ * - 기간별로 상품 번호/금리를 금리 내림차순 원시 배열로 보관
+ * - 상품당 기간별로 최고금리 옵션 하나만 유지
+ * - 조회는 기간 이진 탐색 + 배열 앞부분 읽기로 끝나며 DB 를 조회하지 않음
+ */
+public final class ProductRateIndex {
+
+    public static final ProductRateIndex EMPTY = new Builder().build();
+
+    /**
+     * 조회 결과 항목
+     */
+    public record Entry(String korCoNm, String finPrdtNm, String spclCnd, int saveTrm, double bestRate) {
+    }
+
+    // 상품 정보 (상품 번호로 접근)
+    private final String[] korCoNms;
+    private final String[] finPrdtNms;
+    private final String[] spclCnds;
+
+    // 오름차순 기간 키와 기간별 정렬 배열
+    private final int[] terms;
+    private final int[][] productsByTerm;
+    private final double[][] ratesByTerm;
+
+    private ProductRateIndex(String[] korCoNms, String[] finPrdtNms, String[] spclCnds,
+                             int[] terms, int[][] productsByTerm, double[][] ratesByTerm) {
+        this.korCoNms = korCoNms;
+        this.finPrdtNms = finPrdtNms;
+        this.spclCnds = spclCnds;
+        this.terms = terms;
+        this.productsByTerm = productsByTerm;
+        this.ratesByTerm = ratesByTerm;
+    }
+
+    /**
+     * 해당 기간 최고금리 상위 limit 개
+     */
+    public List<Entry> top(int saveTrm, int limit) {
+        int t = Arrays.binarySearch(terms, saveTrm);
+        if (t < 0 || limit <= 0) {
+            return List.of();
+        }
+        int[] products = productsByTerm[t];
+        double[] rates = ratesByTerm[t];
+        int n = Math.min(limit, products.length);
+
+        List<Entry> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int p = products[i];
+            result.add(new Entry(korCoNms[p], finPrdtNms[p], spclCnds[p], saveTrm, rates[i]));
+        }
+        return result;
+    }
+
+    public int productCount() {
+        return korCoNms.length;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private final List<String[]> products = new ArrayList<>();
+        // 기간 -> (상품 번호 -> 최고금리)
+        private final Map<Integer, Map<Integer, Double>> rates = new HashMap<>();
+
+        /**
+         * @return 상품 번호
+         */
+        public int addProduct(String korCoNm, String finPrdtNm, String spclCnd) {
+            products.add(new String[]{korCoNm, finPrdtNm, spclCnd});
+            return products.size() - 1;
+        }
+
+        public Builder addRate(int product, Integer saveTrm, Double bestRate) {
+            if (saveTrm != null && bestRate != null) {
+                rates.computeIfAbsent(saveTrm, k -> new HashMap<>()).merge(product, bestRate, Math::max);
+            }
+            return this;
+        }
+
+        public ProductRateIndex build() {
+            int size = products.size();
+            String[] korCoNms = new String[size];
+            String[] finPrdtNms = new String[size];
+            String[] spclCnds = new String[size];
+            for (int i = 0; i < size; i++) {
+                String[] p = products.get(i);
+                korCoNms[i] = p[0];
+                finPrdtNms[i] = p[1];
+                spclCnds[i] = p[2];
+            }
+
+            int[] terms = rates.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[][] productsByTerm = new int[terms.length][];
+            double[][] ratesByTerm = new double[terms.length][];
+
+            for (int t = 0; t < terms.length; t++) {
+                List<Map.Entry<Integer, Double>> entries = new ArrayList<>(rates.get(terms[t]).entrySet());
+                // 금리 내림차순, 같으면 먼저 등록된 상품 우선
+                entries.sort(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()));
+
+                productsByTerm[t] = new int[entries.size()];
+                ratesByTerm[t] = new double[entries.size()];
+                for (int i = 0; i < entries.size(); i++) {
+                    productsByTerm[t][i] = entries.get(i).getKey();
+                    ratesByTerm[t][i] = entries.get(i).getValue();
+                }
+            }
+
+            return new ProductRateIndex(korCoNms, finPrdtNms, spclCnds, terms, productsByTerm, ratesByTerm);
+        }
+    }
+}
@@ -1,23 +0,0 @@
-package com.fingrow.domain.financial.deposit.service;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-/**
- * RestTemplate 설정
- */
-@Configuration
-public class RestTemplateConfig {
-
-    @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5초
-        factory.setReadTimeout(10000);   // 10초
-
-        return new RestTemplate(factory);
-    }
-}
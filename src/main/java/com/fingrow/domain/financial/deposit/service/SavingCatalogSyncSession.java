@@ -0,0 +1,170 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.SavingOptionDto;
+import com.fingrow.domain.financial.deposit.dto.SavingProductDto;
+import com.fingrow.domain.financial.deposit.entity.SavingOption;
+import com.fingrow.domain.financial.deposit.entity.SavingProduct;
+import com.fingrow.domain.financial.deposit.repository.OptionBulkRepository;
+import com.fingrow.domain.financial.deposit.repository.SavingOptionRepository;
+import com.fingrow.domain.financial.deposit.repository.SavingProductRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적금 카탈로그 증분 동기화 세션
+ * - 옵션 키: saveTrm + intrRateType + rsrvType
+ */
+class SavingCatalogSyncSession extends CatalogSyncSession<SavingProduct, SavingOption, SavingProductDto, SavingOptionDto> {
+
+    private final SavingProductRepository productRepository;
+    private final SavingOptionRepository optionRepository;
+    private final OptionBulkRepository optionBulkRepository;
+
+    SavingCatalogSyncSession(SavingProductRepository productRepository, SavingOptionRepository optionRepository,
+                            OptionBulkRepository optionBulkRepository) {
+        super("적금", loadCurrent(productRepository));
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.optionBulkRepository = optionBulkRepository;
+    }
+
+    private static Map<String, SavingProduct> loadCurrent(SavingProductRepository productRepository) {
+        Map<String, SavingProduct> current = new HashMap<>();
+        for (SavingProduct product : productRepository.findAllWithOptions()) {
+            current.put(product.getFinPrdtCd(), product);
+        }
+        return current;
+    }
+
+    @Override
+    protected String productCodeOf(SavingProductDto dto) {
+        return dto.getFinPrdtCd();
+    }
+
+    @Override
+    protected SavingProduct createProduct(SavingProductDto dto) {
+        return SavingProduct.builder()
+                .finPrdtCd(dto.getFinPrdtCd())
+                .korCoNm(dto.getKorCoNm())
+                .finPrdtNm(dto.getFinPrdtNm())
+                .joinWay(dto.getJoinWay())
+                .mtrtInt(dto.getMtrtInt())
+                .spclCnd(dto.getSpclCnd())
+                .joinDeny(dto.getJoinDeny())
+                .joinMember(dto.getJoinMember())
+                .etcNote(dto.getEtcNote())
+                .maxLimit(dto.getMaxLimit())
+                .dclsMonth(dto.getDclsMonth())
+                .dclsStrtDay(dto.getDclsStrtDay())
+                .dclsEndDay(dto.getDclsEndDay())
+                .finCoNo(dto.getFinCoNo())
+                .build();
+    }
+
+    @Override
+    protected boolean updateProduct(SavingProduct product, SavingProductDto dto) {
+        boolean changed = differs(product.getKorCoNm(), dto.getKorCoNm())
+                || differs(product.getFinPrdtNm(), dto.getFinPrdtNm())
+                || differs(product.getJoinWay(), dto.getJoinWay())
+                || differs(product.getMtrtInt(), dto.getMtrtInt())
+                || differs(product.getSpclCnd(), dto.getSpclCnd())
+                || differs(product.getJoinDeny(), dto.getJoinDeny())
+                || differs(product.getJoinMember(), dto.getJoinMember())
+                || differs(product.getEtcNote(), dto.getEtcNote())
+                || differs(product.getMaxLimit(), dto.getMaxLimit())
+                || differs(product.getDclsMonth(), dto.getDclsMonth())
+                || differs(product.getDclsStrtDay(), dto.getDclsStrtDay())
+                || differs(product.getDclsEndDay(), dto.getDclsEndDay())
+                || differs(product.getFinCoNo(), dto.getFinCoNo());
+
+        if (changed) {
+            product.setKorCoNm(dto.getKorCoNm());
+            product.setFinPrdtNm(dto.getFinPrdtNm());
+            product.setJoinWay(dto.getJoinWay());
+            product.setMtrtInt(dto.getMtrtInt());
+            product.setSpclCnd(dto.getSpclCnd());
+            product.setJoinDeny(dto.getJoinDeny());
+            product.setJoinMember(dto.getJoinMember());
+            product.setEtcNote(dto.getEtcNote());
+            product.setMaxLimit(dto.getMaxLimit());
+            product.setDclsMonth(dto.getDclsMonth());
+            product.setDclsStrtDay(dto.getDclsStrtDay());
+            product.setDclsEndDay(dto.getDclsEndDay());
+            product.setFinCoNo(dto.getFinCoNo());
+        }
+        return changed;
+    }
+
+    @Override
+    protected List<SavingOption> optionsOf(SavingProduct product) {
+        return product.getOptions();
+    }
+
+    @Override
+    protected String optionProductCodeOf(SavingOptionDto dto) {
+        return dto.getFinPrdtCd();
+    }
+
+    @Override
+    protected String optionKeyOf(SavingOptionDto dto) {
+        return dto.getSaveTrm() + "|" + dto.getIntrRateType() + "|" + dto.getRsrvType();
+    }
+
+    @Override
+    protected String optionKey(SavingOption option) {
+        return option.getSaveTrm() + "|" + option.getIntrRateType() + "|" + option.getRsrvType();
+    }
+
+    @Override
+    protected SavingOption createOption(SavingProduct product, SavingOptionDto dto) {
+        return SavingOption.builder()
+                .savingProduct(product)
+                .intrRateType(dto.getIntrRateType())
+                .intrRateTypeNm(dto.getIntrRateTypeNm())
+                .rsrvType(dto.getRsrvType())
+                .rsrvTypeNm(dto.getRsrvTypeNm())
+                .intrRate(dto.getIntrRate())
+                .intrRate2(dto.getIntrRate2())
+                .saveTrm(dto.getSaveTrm())
+                .build();
+    }
+
+    @Override
+    protected boolean updateOption(SavingOption option, SavingOptionDto dto) {
+        boolean changed = differs(option.getIntrRateTypeNm(), dto.getIntrRateTypeNm())
+                || differs(option.getRsrvTypeNm(), dto.getRsrvTypeNm())
+                || differs(option.getIntrRate(), dto.getIntrRate())
+                || differs(option.getIntrRate2(), dto.getIntrRate2());
+
+        if (changed) {
+            option.setIntrRateTypeNm(dto.getIntrRateTypeNm());
+            option.setRsrvTypeNm(dto.getRsrvTypeNm());
+            option.setIntrRate(dto.getIntrRate());
+            option.setIntrRate2(dto.getIntrRate2());
+        }
+        return changed;
+    }
+
+    @Override
+    protected void saveProducts(List<SavingProduct> products) {
+        productRepository.saveAll(products);
+    }
+
+    @Override
+    protected void saveOptions(List<SavingOption> options) {
+        // 신규 상품은 이미 INSERT 되어 ID가 있으므로 옵션은 JDBC 배치로 적재
+        optionBulkRepository.insertSavingOptions(options);
+    }
+
+    @Override
+    protected void deleteOptions(List<SavingOption> options) {
+        optionRepository.deleteAll(options);
+    }
+
+    @Override
+    protected void deleteProducts(List<SavingProduct> products) {
+        productRepository.deleteAll(products);
+    }
+}
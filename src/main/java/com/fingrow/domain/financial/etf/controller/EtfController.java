@@ -1,20 +1,32 @@
 package com.fingrow.domain.financial.etf.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.service.EtfHistoryService;
+import com.fingrow.domain.financial.etf.service.EtfIndicatorService;
+import com.fingrow.domain.financial.etf.service.EtfRankingService;
 import com.fingrow.domain.financial.etf.service.EtfService;
+import com.fingrow.domain.financial.etf.service.EtfSnapshotHolder;
+import com.fingrow.domain.financial.sync.dto.SyncRunResponse;
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.service.SyncOrchestrator;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestClientException;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/etf")
@@ -25,8 +37,13 @@ import java.util.concurrent.CompletableFuture;
 public class EtfController {
 
     private final EtfService etfService;
+    private final EtfHistoryService etfHistoryService;
+    private final EtfRankingService etfRankingService;
+    private final EtfIndicatorService etfIndicatorService;
+    private final SyncOrchestrator syncOrchestrator;
 
     // =========================== 동기화 ===========================
+    // 쓰기 작업은 모두 KRX_ETF 잠금/실행 이력(SyncOrchestrator)을 거쳐 정기 동기화와 겹치지 않음
     @PostMapping("/sync")
     @Operation(
             summary = "ETF 데이터 동기화",
@@ -34,45 +51,25 @@ public class EtfController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "동기화 성공"),
-            @ApiResponse(responseCode = "500", description = "서버 내부 오류"),
-            @ApiResponse(responseCode = "503", description = "외부 API 서비스 이용 불가")
+            @ApiResponse(responseCode = "409", description = "이미 실행 중"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     public ResponseEntity<EtfDto.ApiResponse<EtfDto.SyncResponse>> syncEtfData() {
         log.info("ETF 데이터 동기화 시작");
 
         try {
-            EtfDto.SyncResponse syncResponse = etfService.syncAllEtfData();
-
-            // 부분 실패인 경우와 완전 성공인 경우 구분
-            if (syncResponse.getFailureCount() > 0 && syncResponse.getSuccessCount() == 0) {
-                // 완전 실패
-                log.error("ETF 동기화 완전 실패 - 성공: {}개, 실패: {}개",
-                        syncResponse.getSuccessCount(), syncResponse.getFailureCount());
+            SyncOrchestrator.Outcome<EtfDto.SyncResponse> outcome = syncOrchestrator.run(
+                    SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL, etfService::syncAllEtfData);
+            if (outcome == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(EtfDto.ApiResponse.error("ETF 동기화가 이미 실행 중입니다."));
+            }
+            if (outcome.result() == null) {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(EtfDto.ApiResponse.error("ETF 동기화에 실패했습니다."));
-            } else if (syncResponse.getFailureCount() > 0) {
-                // 부분 실패
-                log.warn("ETF 동기화 부분 실패 - 성공: {}개, 실패: {}개",
-                        syncResponse.getSuccessCount(), syncResponse.getFailureCount());
-                String message = String.format("ETF 동기화 부분 완료 - 성공: %d개, 실패: %d개 (일부 데이터 처리 실패)",
-                        syncResponse.getSuccessCount(), syncResponse.getFailureCount());
-                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                        .body(EtfDto.ApiResponse.success(message, syncResponse));
-            } else {
-                // 완전 성공
-                log.info("ETF 동기화 완료 - 성공: {}개", syncResponse.getSuccessCount());
-                String message = String.format("ETF 동기화 완료 - 성공: %d개", syncResponse.getSuccessCount());
-                return ResponseEntity.ok(EtfDto.ApiResponse.success(message, syncResponse));
+                        .body(EtfDto.ApiResponse.error("ETF 동기화에 실패했습니다: " + outcome.run().getErrorMessage()));
             }
+            return handleSyncResponse(outcome.result());
 
-        } catch (ResourceAccessException e) {
-            log.error("KRX API 연결 실패: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                    .body(EtfDto.ApiResponse.error("외부 API 서비스에 연결할 수 없습니다. 잠시 후 다시 시도해주세요."));
-        } catch (RestClientException e) {
-            log.error("KRX API 호출 실패: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
-                    .body(EtfDto.ApiResponse.error("외부 API 호출 중 오류가 발생했습니다: " + e.getMessage()));
         } catch (Exception e) {
             log.error("ETF 동기화 중 예상치 못한 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -84,49 +81,112 @@ public class EtfController {
     @PostMapping("/sync/async")
     @Operation(
             summary = "ETF 데이터 비동기 동기화",
-            description = "KRX API를 비동기로 호출해 ETF 상품과 시세 정보를 동기화합니다. 응답이 즉시 반환됩니다."
+            description = "ETF 동기화를 백그라운드로 시작하고 바로 응답합니다. 반환된 실행 ID로 /api/v1/sync/runs/{id} 에서 결과를 확인할 수 있습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "비동기 동기화 시작됨"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public CompletableFuture<ResponseEntity<EtfDto.ApiResponse<EtfDto.SyncResponse>>> syncEtfDataAsync() {
+    public ResponseEntity<EtfDto.ApiResponse<SyncRunResponse>> syncEtfDataAsync() {
         log.info("ETF 데이터 비동기 동기화 시작");
-
-        CompletableFuture<EtfDto.SyncResponse> future = etfService.syncAllEtfDataAsync();
-
-        return future.thenApply(this::handleSyncResponse)
-                    .exceptionally(this::handleSyncError);
+        return submitted("ETF 동기화",
+                () -> syncOrchestrator.submit(SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL));
     }
 
     private ResponseEntity<EtfDto.ApiResponse<EtfDto.SyncResponse>> handleSyncResponse(EtfDto.SyncResponse syncResponse) {
         // 부분 실패인 경우와 완전 성공인 경우 구분
         if (syncResponse.getFailureCount() > 0 && syncResponse.getSuccessCount() == 0) {
             // 완전 실패
-            log.error("ETF 비동기 동기화 완전 실패 - 성공: {}개, 실패: {}개",
+            log.error("ETF 동기화 완전 실패 - 성공: {}개, 실패: {}개",
                     syncResponse.getSuccessCount(), syncResponse.getFailureCount());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(EtfDto.ApiResponse.error("ETF 비동기 동기화에 실패했습니다."));
+                    .body(EtfDto.ApiResponse.error("ETF 동기화에 실패했습니다."));
         } else if (syncResponse.getFailureCount() > 0) {
             // 부분 실패
-            log.warn("ETF 비동기 동기화 부분 실패 - 성공: {}개, 실패: {}개",
+            log.warn("ETF 동기화 부분 실패 - 성공: {}개, 실패: {}개",
                     syncResponse.getSuccessCount(), syncResponse.getFailureCount());
-            String message = String.format("ETF 비동기 동기화 부분 완료 - 성공: %d개, 실패: %d개",
+            String message = String.format("ETF 동기화 부분 완료 - 성공: %d개, 실패: %d개 (일부 데이터 처리 실패)",
                     syncResponse.getSuccessCount(), syncResponse.getFailureCount());
             return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
                     .body(EtfDto.ApiResponse.success(message, syncResponse));
         } else {
             // 완전 성공
-            log.info("ETF 비동기 동기화 완료 - 성공: {}개", syncResponse.getSuccessCount());
-            String message = String.format("ETF 비동기 동기화 완료 - 성공: %d개", syncResponse.getSuccessCount());
+            log.info("ETF 동기화 완료 - 성공: {}개", syncResponse.getSuccessCount());
+            String message = String.format("ETF 동기화 완료 - 성공: %d개", syncResponse.getSuccessCount());
             return ResponseEntity.ok(EtfDto.ApiResponse.success(message, syncResponse));
         }
     }
 
-    private ResponseEntity<EtfDto.ApiResponse<EtfDto.SyncResponse>> handleSyncError(Throwable ex) {
-        log.error("ETF 비동기 동기화 중 예상치 못한 오류 발생", ex);
-        EtfDto.ApiResponse<EtfDto.SyncResponse> errorResponse = EtfDto.ApiResponse.error("ETF 비동기 동기화에 실패했습니다: " + ex.getMessage());
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    private ResponseEntity<EtfDto.ApiResponse<SyncRunResponse>> submitted(String job, Supplier<SyncRun> submit) {
+        try {
+            SyncRun run = submit.get();
+            if (run == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(EtfDto.ApiResponse.error(job + "이(가) 이미 실행 중입니다."));
+            }
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(
+                    job + "이(가) 시작되었습니다. 결과는 실행 이력에서 확인하세요.", SyncRunResponse.from(run)));
+        } catch (Exception e) {
+            log.error("{} 시작 실패", job, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(EtfDto.ApiResponse.error(job + " 시작에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/backfill")
+    @Operation(
+            summary = "ETF 시세 기간 백필",
+            description = "지정한 기준일자 구간(양끝 포함)의 ETF 시세를 백그라운드로 받아 (종목코드, 기준일자) 기준으로 upsert 합니다. "
+                    + "기준일마다 트랜잭션을 따로 두어 실패한 날만 건너뛰며, 여러 번 실행해도 결과가 같습니다. "
+                    + "결과(실패한 기준일 포함)는 /api/v1/sync/runs/{id} 에서 확인합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "백필 시작됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "409", description = "ETF 동기화가 이미 실행 중"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<EtfDto.ApiResponse<SyncRunResponse>> backfillEtfData(
+            @Parameter(description = "시작 기준일자", example = "2025-01-02")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 기준일자", example = "2025-03-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("ETF 시세 백필 요청: {} ~ {}", from, to);
+        try {
+            etfService.validateBackfillRange(from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(EtfDto.ApiResponse.error(e.getMessage()));
+        }
+        return submitted("ETF 시세 백필", () -> syncOrchestrator.submit(
+                SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL, () -> etfService.backfillEtfData(from, to)));
+    }
+
+    @PostMapping("/history/compact")
+    @Operation(
+            summary = "ETF 시세 이력 정리",
+            description = "보존 기간(etf.history.retention-days)이 지난 일별 시세를 주별 마지막 거래일만 남기고 삭제합니다. 매주 일요일 자동 실행됩니다."
+    )
+    public ResponseEntity<EtfDto.ApiResponse<EtfDto.CompactionResponse>> compactEtfHistory() {
+        try {
+            SyncOrchestrator.Outcome<EtfDto.CompactionResponse> outcome = syncOrchestrator.run(
+                    SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL, etfHistoryService::compact);
+            if (outcome == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(EtfDto.ApiResponse.error("ETF 동기화가 실행 중이라 이력을 정리할 수 없습니다."));
+            }
+            if (outcome.result() == null) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(EtfDto.ApiResponse.error("ETF 이력 정리에 실패했습니다: " + outcome.run().getErrorMessage()));
+            }
+            EtfDto.CompactionResponse result = outcome.result();
+            String message = String.format("ETF 이력 정리 완료 - %d일, %d행 삭제", result.getDaysDeleted(), result.getRowsDeleted());
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(message, result));
+        } catch (Exception e) {
+            log.error("ETF 이력 정리 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(EtfDto.ApiResponse.error("ETF 이력 정리에 실패했습니다: " + e.getMessage()));
+        }
     }
 
     // =========================== 조회 ===========================
@@ -136,25 +196,27 @@ public class EtfController {
             description = "모든 ETF 상품 목록을 조회합니다."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EtfDto.EtfListApiResponse.class))),
             @ApiResponse(responseCode = "204", description = "데이터 없음"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<EtfDto.ApiResponse<EtfDto.EtfListResponse>> getEtfProducts() {
-        log.info("ETF 상품 목록 조회 요청");
+    public ResponseEntity<EtfDto.ApiResponse<RawValue>> getEtfProducts() {
+        log.debug("ETF 상품 목록 조회 요청");
 
         try {
-            EtfDto.EtfListResponse response = etfService.getAllEtfProducts();
+            // 최신 거래일 스냅샷의 미리 직렬화된 JSON 을 그대로 사용 (DB 조회 없음)
+            EtfSnapshotHolder.Snapshot snapshot = etfService.getLatestSnapshot();
 
-            if (response.getTotalCount() == 0) {
+            if (snapshot.size() == 0) {
                 log.info("조회된 ETF 상품이 없음");
                 return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                        .body(EtfDto.ApiResponse.success("조회된 ETF 상품이 없습니다.", response));
+                        .body(EtfDto.ApiResponse.success("조회된 ETF 상품이 없습니다.", snapshot.productsJson()));
             }
 
-            log.info("ETF 상품 {}개 조회 완료", response.getTotalCount());
-            String message = String.format("%d개의 ETF 상품을 조회했습니다.", response.getTotalCount());
-            return ResponseEntity.ok(EtfDto.ApiResponse.success(message, response));
+            String message = String.format("%d개의 ETF 상품을 조회했습니다.", snapshot.size());
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(message, snapshot.productsJson()));
 
         } catch (Exception e) {
             log.error("ETF 상품 조회 중 오류 발생", e);
@@ -163,6 +225,133 @@ public class EtfController {
         }
     }
 
+    @GetMapping("/list")
+    @Operation(
+            summary = "ETF 목록 페이지 조회",
+            description = "최신 거래일 ETF 를 정렬(mrktTotAmt, trqu, fltRt, clpr)·필터(시장구분, 운용사)해 커서 방식으로 나눠 조회합니다. "
+                    + "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 요청합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 정렬 조건 또는 만료된 커서"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<EtfDto.ApiResponse<EtfDto.EtfPageResponse>> getEtfPage(
+            @Parameter(description = "정렬 기준 (mrktTotAmt, trqu, fltRt, clpr)", example = "mrktTotAmt")
+            @RequestParam(defaultValue = "mrktTotAmt") String sort,
+            @Parameter(description = "정렬 방향 (asc, desc)", example = "desc")
+            @RequestParam(defaultValue = "desc") String direction,
+            @Parameter(description = "시장구분 필터", example = "KOSPI")
+            @RequestParam(required = false) String mrktCtg,
+            @Parameter(description = "운용사 필터", example = "삼성자산운용")
+            @RequestParam(required = false) String corpNm,
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            EtfDto.EtfPageResponse page = etfService.getEtfPage(sort, direction, mrktCtg, corpNm, cursor, size);
+            String message = String.format("%d개의 ETF 목록을 조회했습니다. (전체 %d개, 기준일: %s)",
+                    page.getSize(), page.getTotalCount(), page.getBaseDate());
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(message, page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(EtfDto.ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("ETF 목록 페이지 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(EtfDto.ApiResponse.error("ETF 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/rankings")
+    @Operation(
+            summary = "ETF 순위 위젯 조회",
+            description = "기준일의 상승률·하락률·거래대금·시가총액 상위 10개를 한 번에 조회합니다. 동기화 시 미리 계산됩니다."
+    )
+    public ResponseEntity<EtfDto.ApiResponse<EtfDto.RankingsResponse>> getRankings(
+            @Parameter(description = "기준일자 (YYYYMMDD, 없으면 최신)", example = "20250918")
+            @RequestParam(required = false) String basDt) {
+        try {
+            EtfDto.RankingsResponse rankings = etfRankingService.getRankings(basDt);
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(
+                    String.format("ETF 순위를 조회했습니다. (기준일: %s)", rankings.getBaseDate()), rankings));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(EtfDto.ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("ETF 순위 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(EtfDto.ApiResponse.error("ETF 순위 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/rankings/{type}")
+    @Operation(
+            summary = "ETF 순위 항목별 조회",
+            description = "gainers(상승률), losers(하락률), traded(거래대금), market-cap(시가총액) 중 하나의 상위 10개를 조회합니다."
+    )
+    public ResponseEntity<EtfDto.ApiResponse<List<EtfDto.EtfListItemResponse>>> getRanking(
+            @Parameter(description = "순위 종류", example = "gainers")
+            @PathVariable String type,
+            @Parameter(description = "기준일자 (YYYYMMDD, 없으면 최신)", example = "20250918")
+            @RequestParam(required = false) String basDt) {
+        try {
+            List<EtfDto.EtfListItemResponse> etfs = etfRankingService.getRanking(type, basDt);
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(
+                    String.format("%d개의 ETF 순위를 조회했습니다.", etfs.size()), etfs));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(EtfDto.ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("ETF 순위 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(EtfDto.ApiResponse.error("ETF 순위 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/indicators/{srtnCd}")
+    @Operation(
+            summary = "ETF 기술 지표 조회",
+            description = "이동평균(5/20/60/120), 20일 변동성, 최대 낙폭, 52주 최고/최저가를 조회합니다. 동기화 후 미리 계산됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "지표 없음")
+    })
+    public ResponseEntity<EtfDto.ApiResponse<EtfDto.IndicatorResponse>> getIndicator(
+            @Parameter(description = "종목코드", example = "069500")
+            @PathVariable String srtnCd) {
+        return etfIndicatorService.getIndicator(srtnCd)
+                .map(indicator -> ResponseEntity.ok(EtfDto.ApiResponse.success(indicator)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(EtfDto.ApiResponse.error("해당 종목의 기술 지표가 없습니다: " + srtnCd)));
+    }
+
+    @PostMapping("/indicators/rebuild")
+    @Operation(
+            summary = "ETF 기술 지표 재계산",
+            description = "지표를 모두 지우고 최근 이력(etf.indicators.bootstrap-days)으로 다시 계산합니다. 과거 구간 백필 후 사용합니다."
+    )
+    public ResponseEntity<EtfDto.ApiResponse<Integer>> rebuildIndicators() {
+        try {
+            SyncOrchestrator.Outcome<Integer> outcome = syncOrchestrator.run(
+                    SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL, etfIndicatorService::rebuild);
+            if (outcome == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(EtfDto.ApiResponse.error("ETF 동기화가 실행 중이라 지표를 다시 계산할 수 없습니다."));
+            }
+            if (outcome.result() == null) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(EtfDto.ApiResponse.error("ETF 기술 지표 재계산에 실패했습니다: " + outcome.run().getErrorMessage()));
+            }
+            int updated = outcome.result();
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(
+                    String.format("%d개 종목의 기술 지표를 다시 계산했습니다.", updated), updated));
+        } catch (Exception e) {
+            log.error("ETF 기술 지표 재계산 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(EtfDto.ApiResponse.error("ETF 기술 지표 재계산에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     // =========================== 헬스 체크 ===========================
     @GetMapping("/health")
     @Operation(
@@ -180,26 +369,27 @@ public class EtfController {
             description = "FE 리스트 화면에 필요한 핵심 정보만 조회합니다. (이름, 가격, 등락률, 거래량, 시총)"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EtfDto.EtfSimpleListApiResponse.class))),
             @ApiResponse(responseCode = "204", description = "데이터 없음"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<EtfDto.ApiResponse<EtfDto.EtfSimpleListResponse>> getEtfSimpleList() {
-        log.info("ETF 간단 목록 조회 요청");
+    public ResponseEntity<EtfDto.ApiResponse<RawValue>> getEtfSimpleList() {
+        log.debug("ETF 간단 목록 조회 요청");
 
         try {
-            EtfDto.EtfSimpleListResponse response = etfService.getEtfSimpleList();
+            EtfSnapshotHolder.Snapshot snapshot = etfService.getLatestSnapshot();
 
-            if (response.getTotalCount() == 0) {
+            if (snapshot.size() == 0) {
                 log.info("조회된 ETF 데이터가 없음");
                 return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                        .body(EtfDto.ApiResponse.success("조회된 ETF 데이터가 없습니다.", response));
+                        .body(EtfDto.ApiResponse.success("조회된 ETF 데이터가 없습니다.", snapshot.itemsJson()));
             }
 
-            log.info("ETF {}개 간단 목록 조회 완료 (기준일: {})", response.getTotalCount(), response.getBaseDate());
             String message = String.format("%d개의 ETF 목록을 조회했습니다. (기준일: %s)",
-                    response.getTotalCount(), response.getBaseDate());
-            return ResponseEntity.ok(EtfDto.ApiResponse.success(message, response));
+                    snapshot.size(), snapshot.basDt());
+            return ResponseEntity.ok(EtfDto.ApiResponse.success(message, snapshot.itemsJson()));
 
         } catch (Exception e) {
             log.error("ETF 간단 목록 조회 중 오류 발생", e);
@@ -207,4 +397,4 @@ public class EtfController {
                     .body(EtfDto.ApiResponse.error("ETF 목록 조회에 실패했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,12 @@
 package com.fingrow.domain.financial.etf.dto;
 
+import com.fingrow.domain.financial.etf.entity.EtfIndicator;
+import com.fingrow.domain.financial.etf.entity.EtfProduct;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class EtfDto {
@@ -38,6 +44,17 @@ public class EtfDto {
         }
     }
 
+    // ==================== 문서용 응답 스키마 ====================
+    // 목록 API 는 미리 직렬화한 JSON(RawValue)을 그대로 내려주므로, 실제 모양을 springdoc 에 알려주는 용도
+
+    @Schema(name = "EtfListApiResponse", description = "ETF 상품 목록 응답 (data: EtfListResponse)")
+    public static class EtfListApiResponse extends ApiResponse<EtfListResponse> {
+    }
+
+    @Schema(name = "EtfSimpleListApiResponse", description = "ETF 간단 목록 응답 (data: EtfSimpleListResponse)")
+    public static class EtfSimpleListApiResponse extends ApiResponse<EtfSimpleListResponse> {
+    }
+
     // ==================== ETF 상품+시세 정보 DTO ====================
     @Data
     @Builder
@@ -51,13 +68,13 @@ public class EtfDto {
         private String itmsNm;           // 종목명 (ETF명)
         private String mrktCtg;          // 시장구분
         private String corpNm;           // 운용사명
-        private String createdAt;        // String으로 저장
+        private LocalDateTime createdAt; // 생성일시
 
         // 시세 정보
         private String basDt;            // 기준일자
         private Long clpr;               // 종가
-        private String vs;               // 전일대비
-        private String fltRt;            // 등락률
+        private BigDecimal vs;           // 전일대비
+        private BigDecimal fltRt;        // 등락률 (%)
         private Long mkp;                // 시가
         private Long hipr;               // 고가
         private Long lopr;               // 저가
@@ -65,6 +82,31 @@ public class EtfDto {
         private Long trPrc;              // 거래대금
         private Long lstgStCnt;          // 상장주식수
         private Long mrktTotAmt;         // 시가총액
+
+        public static EtfProductResponse from(EtfProduct product) {
+            return EtfProductResponse.builder()
+                    // 기본 정보
+                    .id(product.getId())
+                    .srtnCd(product.getSrtnCd())
+                    .isinCd(product.getIsinCd())
+                    .itmsNm(product.getItmsNm())
+                    .mrktCtg(product.getMrktCtg())
+                    .corpNm(product.getCorpNm())
+                    .createdAt(product.getCreatedAt())
+                    // 시세 정보
+                    .basDt(product.getBasDt())
+                    .clpr(product.getClpr())
+                    .vs(product.getVs())
+                    .fltRt(product.getFltRt())
+                    .mkp(product.getMkp())
+                    .hipr(product.getHipr())
+                    .lopr(product.getLopr())
+                    .trqu(product.getTrqu())
+                    .trPrc(product.getTrPrc())
+                    .lstgStCnt(product.getLstgStCnt())
+                    .mrktTotAmt(product.getMrktTotAmt())
+                    .build();
+        }
     }
 
     @Data
@@ -86,10 +128,25 @@ public class EtfDto {
         private int totalProcessed;             // 처리된 총 개수
         private int successCount;               // 성공 개수
         private int failureCount;               // 실패 개수
-        private List<String> failureReasons;   // 실패 사유 목록
+        private List<String> failureReasons;   // 실패 사유 (최대 20건, 전체 건수는 failureCount)
+        private List<String> failedDays;       // 수신/저장에 실패해 건너뛴 기준일 (yyyyMMdd)
         private String startTime;              // 동기화 시작 시간
         private String endTime;                // 동기화 종료 시간
-        private String duration;               // 소요 시간
+        private String duration;               // 소요 시간 (HH:mm:ss)
+        private long durationMs;               // 소요 시간 (ms)
+    }
+
+    // ==================== ETF 이력 보존 정리 응답 DTO ====================
+    @Getter
+    @ToString
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CompactionResponse {
+        private String cutoffDate;             // 이 날짜 이전은 주 단위로 정리
+        private int daysKept;                  // 남긴 날짜 수 (주별 마지막 거래일)
+        private int daysDeleted;               // 삭제한 날짜 수
+        private int rowsDeleted;               // 삭제한 행 수
     }
 
     @Data
@@ -101,25 +158,40 @@ public class EtfDto {
         private String itmsNm;           // ETF명
         private String corpNm;           // 운용사
         private Long clpr;               // 현재가 (종가)
-        private String vs;               // 전일대비 (-40, +50 등)
-        private String fltRt;            // 등락률 (-0.41%, +1.25% 등)
+        private BigDecimal vs;           // 전일대비 (-40, 50 등)
+        private BigDecimal fltRt;        // 등락률 % (-0.41, 1.25 등)
         private Long trqu;               // 거래량
+        private Long trPrc;              // 거래대금
         private Long mrktTotAmt;         // 시가총액
 
+        public static EtfListItemResponse from(EtfProduct product) {
+            return EtfListItemResponse.builder()
+                    .srtnCd(product.getSrtnCd())
+                    .itmsNm(product.getItmsNm())
+                    .corpNm(product.getCorpNm())
+                    .clpr(product.getClpr())
+                    .vs(product.getVs())
+                    .fltRt(product.getFltRt())
+                    .trqu(product.getTrqu())
+                    .trPrc(product.getTrPrc())
+                    .mrktTotAmt(product.getMrktTotAmt())
+                    .build();
+        }
+
         // 편의 메서드들 (JSON에 노출되지 않음)
         @com.fasterxml.jackson.annotation.JsonIgnore
         public boolean isUp() {
-            return vs != null && vs.startsWith("+");
+            return vs != null && vs.signum() > 0;
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
         public boolean isDown() {
-            return vs != null && vs.startsWith("-");
+            return vs != null && vs.signum() < 0;
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
         public boolean isUnchanged() {
-            return vs == null || (!vs.startsWith("+") && !vs.startsWith("-"));
+            return vs == null || vs.signum() == 0;
         }
 
         // 숫자 포맷팅을 위한 메서드 (JSON에 노출되지 않음)
@@ -160,4 +232,70 @@ public class EtfDto {
         private long totalCount;
         private String baseDate;  // 기준일자 (20250918)
     }
-}
\ No newline at end of file
+
+    // ==================== ETF 목록 페이지 응답 DTO ====================
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EtfPageResponse {
+        private List<EtfListItemResponse> etfs;
+        private String sort;              // 정렬 기준 (mrktTotAmt, trqu, fltRt, clpr)
+        private String direction;         // asc, desc
+        private int size;                 // 이번 페이지 건수
+        private long totalCount;          // 조건에 맞는 전체 건수
+        private boolean hasNext;
+        private String nextCursor;        // 다음 페이지 요청 시 cursor 로 전달 (없으면 null)
+        private String baseDate;          // 기준일자
+    }
+
+    // ==================== ETF 순위 응답 DTO ====================
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RankingsResponse {
+        private String baseDate;                        // 기준일자
+        private List<EtfListItemResponse> topGainers;   // 상승률 상위
+        private List<EtfListItemResponse> topLosers;    // 하락률 상위
+        private List<EtfListItemResponse> mostTraded;   // 거래대금 상위
+        private List<EtfListItemResponse> largest;      // 시가총액 상위
+    }
+
+    // ==================== ETF 기술 지표 응답 DTO ====================
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class IndicatorResponse {
+        private String srtnCd;           // 종목코드
+        private String basDt;            // 기준일자
+        private Long clpr;               // 종가
+        private Double ma5;              // 5일 이동평균
+        private Double ma20;             // 20일 이동평균
+        private Double ma60;             // 60일 이동평균
+        private Double ma120;            // 120일 이동평균
+        private Double volatility20;     // 20일 변동성 (연율화, %)
+        private Double maxDrawdown;      // 최대 낙폭 (%)
+        private Long high52w;            // 52주 최고가
+        private Long low52w;             // 52주 최저가
+        private Integer observedDays;    // 계산에 사용한 거래일 수
+
+        public static IndicatorResponse from(EtfIndicator indicator) {
+            return IndicatorResponse.builder()
+                    .srtnCd(indicator.getSrtnCd())
+                    .basDt(indicator.getBasDt())
+                    .clpr(indicator.getClpr())
+                    .ma5(indicator.getMa5())
+                    .ma20(indicator.getMa20())
+                    .ma60(indicator.getMa60())
+                    .ma120(indicator.getMa120())
+                    .volatility20(indicator.getVolatility20())
+                    .maxDrawdown(indicator.getMaxDrawdown())
+                    .high52w(indicator.getHigh52w())
+                    .low52w(indicator.getLow52w())
+                    .observedDays(indicator.getObservedDays())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fingrow.domain.financial.etf.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETF 종목별 기술 지표 (최신 기준일 1행)
+ * - 동기화 후 새 거래일 종가만 더해 갱신하므로 전체 이력을 다시 읽지 않음
+ * - recentCloses 에 최근 252 거래일 종가(오래된 순)를 보관해 다음 갱신의 상태로 사용
+ */
+@Entity
+@Table(name = "etf_indicators", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_etf_indicator_srtn_cd", columnNames = "srtn_cd")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EtfIndicator {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "srtn_cd", nullable = false, length = 20)
+    private String srtnCd; // 종목코드
+
+    @Column(name = "bas_dt", length = 8, nullable = false)
+    private String basDt; // 마지막으로 반영한 기준일자
+
+    @Column(name = "clpr")
+    private Long clpr; // 기준일 종가
+
+    // ========== 이동평균 (데이터가 부족하면 null) ==========
+    @Column(name = "ma5")
+    private Double ma5;
+
+    @Column(name = "ma20")
+    private Double ma20;
+
+    @Column(name = "ma60")
+    private Double ma60;
+
+    @Column(name = "ma120")
+    private Double ma120;
+
+    // ========== 위험 지표 ==========
+    @Column(name = "volatility20")
+    private Double volatility20; // 최근 20거래일 일간 수익률 표준편차, 연율화 (%)
+
+    @Column(name = "max_drawdown")
+    private Double maxDrawdown; // 추적 시작 이후 최대 낙폭 (%, 0 이하)
+
+    @Column(name = "peak_clpr")
+    private Long peakClpr; // 최대 낙폭 계산용 최고 종가
+
+    @Column(name = "high52w")
+    private Long high52w; // 52주(252거래일) 최고 종가
+
+    @Column(name = "low52w")
+    private Long low52w; // 52주(252거래일) 최저 종가
+
+    // ========== 갱신 상태 ==========
+    @Column(name = "observed_days")
+    private Integer observedDays; // 반영한 거래일 수
+
+    @Lob
+    @Column(name = "recent_closes", columnDefinition = "TEXT")
+    private String recentCloses; // 최근 종가 (쉼표 구분, 오래된 순)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -3,11 +3,16 @@ package com.fingrow.domain.financial.etf.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "etf_products", indexes = {
-        @Index(name = "idx_etf_srtn_cd_bas_dt", columnList = "srtn_cd, bas_dt"),
         @Index(name = "idx_etf_bas_dt", columnList = "bas_dt"),
         @Index(name = "idx_etf_mrkt_ctg", columnList = "mrkt_ctg")
+}, uniqueConstraints = {
+        // 종목별 일자 시세는 한 행 (upsert 키)
+        @UniqueConstraint(name = "uk_etf_srtn_cd_bas_dt", columnNames = {"srtn_cd", "bas_dt"})
 })
 @Getter
 @Setter
@@ -42,11 +47,11 @@ public class EtfProduct {
     @Column(name = "clpr")
     private Long clpr; // 종가
 
-    @Column(name = "vs", length = 20)
-    private String vs; // 전일대비
+    @Column(name = "vs", precision = 15, scale = 2)
+    private BigDecimal vs; // 전일대비
 
-    @Column(name = "flt_rt", length = 10)
-    private String fltRt; // 등락률
+    @Column(name = "flt_rt", precision = 10, scale = 4)
+    private BigDecimal fltRt; // 등락률 (%)
 
     @Column(name = "mkp")
     private Long mkp; // 시가
@@ -71,10 +76,10 @@ public class EtfProduct {
 
     // ========== 메타 정보 ==========
     @Column(name = "created_at", updatable = false)
-    private String createdAt; // 생성일시 (String으로 저장)
+    private LocalDateTime createdAt; // 생성일시
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = java.time.LocalDateTime.now().toString();
+        this.createdAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
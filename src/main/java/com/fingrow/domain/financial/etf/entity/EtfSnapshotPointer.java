@@ -0,0 +1,41 @@
+package com.fingrow.domain.financial.etf.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최신 ETF 시세 기준일 포인터
+ * - 동기화 트랜잭션에서 함께 갱신하므로 조회 시 MAX(bas_dt) 서브쿼리가 필요 없음
+ */
+@Entity
+@Table(name = "etf_snapshot_pointer")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EtfSnapshotPointer {
+
+    public static final String LATEST = "LATEST";
+
+    @Id
+    @Column(name = "name", length = 20)
+    private String name;
+
+    @Column(name = "bas_dt", length = 8, nullable = false)
+    private String basDt; // 최신 기준일자 (YYYYMMDD)
+
+    @Column(name = "row_count")
+    private Long rowCount; // 해당 기준일 종목 수
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,68 @@
+package com.fingrow.domain.financial.etf.repository;
+
+import com.fingrow.domain.financial.etf.entity.EtfProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ETF 시세 대량 적재용 JDBC 리포지토리
+ * - EtfProduct 는 IDENTITY 전략이라 saveAll 이 행마다 INSERT 를 보내므로 JDBC 배치로 적재
+ * - rewriteBatchedStatements=true 이면 드라이버가 multi-row INSERT 로 묶어 전송
+ * - (srtn_cd, bas_dt) 유니크 키 기준 upsert 라 같은 날짜를 다시 받아도 중복되지 않음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EtfBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO etf_products " +
+            "(srtn_cd, isin_cd, itms_nm, mrkt_ctg, corp_nm, bas_dt, clpr, vs, flt_rt, " +
+            "mkp, hipr, lopr, trqu, tr_prc, lstg_st_cnt, mrkt_tot_amt, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "isin_cd = VALUES(isin_cd), itms_nm = VALUES(itms_nm), mrkt_ctg = VALUES(mrkt_ctg), " +
+            "corp_nm = VALUES(corp_nm), clpr = VALUES(clpr), vs = VALUES(vs), flt_rt = VALUES(flt_rt), " +
+            "mkp = VALUES(mkp), hipr = VALUES(hipr), lopr = VALUES(lopr), trqu = VALUES(trqu), " +
+            "tr_prc = VALUES(tr_prc), lstg_st_cnt = VALUES(lstg_st_cnt), mrkt_tot_amt = VALUES(mrkt_tot_amt)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int upsertAll(List<EtfProduct> products) {
+        long start = System.nanoTime();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, products, BATCH_SIZE, (ps, product) -> {
+            ps.setString(1, product.getSrtnCd());
+            ps.setString(2, product.getIsinCd());
+            ps.setString(3, product.getItmsNm());
+            ps.setString(4, product.getMrktCtg());
+            ps.setString(5, product.getCorpNm());
+            ps.setString(6, product.getBasDt());
+            ps.setObject(7, product.getClpr(), Types.BIGINT);
+            ps.setBigDecimal(8, product.getVs());
+            ps.setBigDecimal(9, product.getFltRt());
+            ps.setObject(10, product.getMkp(), Types.BIGINT);
+            ps.setObject(11, product.getHipr(), Types.BIGINT);
+            ps.setObject(12, product.getLopr(), Types.BIGINT);
+            ps.setObject(13, product.getTrqu(), Types.BIGINT);
+            ps.setObject(14, product.getTrPrc(), Types.BIGINT);
+            ps.setObject(15, product.getLstgStCnt(), Types.BIGINT);
+            ps.setObject(16, product.getMrktTotAmt(), Types.BIGINT);
+            ps.setTimestamp(17, createdAt);
+        });
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("etf_products 배치 UPSERT: {}건, {}ms ({} rows/s)", products.size(), elapsedMs, products.size() * 1000L / elapsedMs);
+        return products.size();
+    }
+}
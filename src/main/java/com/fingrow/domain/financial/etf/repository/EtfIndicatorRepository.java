@@ -0,0 +1,18 @@
+package com.fingrow.domain.financial.etf.repository;
+
+import com.fingrow.domain.financial.etf.entity.EtfIndicator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EtfIndicatorRepository extends JpaRepository<EtfIndicator, Long> {
+
+    Optional<EtfIndicator> findBySrtnCd(String srtnCd);
+
+    // 지표에 반영된 가장 최근 기준일
+    @Query("SELECT MAX(i.basDt) FROM EtfIndicator i")
+    String findLatestBasDt();
+}
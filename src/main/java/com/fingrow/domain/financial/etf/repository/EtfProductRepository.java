@@ -2,6 +2,7 @@ package com.fingrow.domain.financial.etf.repository;
 
 import com.fingrow.domain.financial.etf.entity.EtfProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,12 +17,24 @@ public interface EtfProductRepository extends JpaRepository<EtfProduct, Long> {
 
     Optional<EtfProduct> findBySrtnCdAndBasDt(String srtnCd, String basDt);
 
+    // 특정 날짜 데이터 일괄 삭제 (엔티티 로딩 없이)
+    @Modifying
+    @Query("DELETE FROM EtfProduct e WHERE e.basDt = :basDt")
+    int deleteByBasDt(@Param("basDt") String basDt);
+
+    // 기준일 이전에 저장된 날짜 목록 (보존 정책용)
+    @Query("SELECT DISTINCT e.basDt FROM EtfProduct e WHERE e.basDt < :before ORDER BY e.basDt")
+    List<String> findDistinctBasDtBefore(@Param("before") String before);
+
+    // 기준일 이후에 저장된 날짜 목록 (기술 지표 증분 계산용)
+    @Query("SELECT DISTINCT e.basDt FROM EtfProduct e WHERE e.basDt > :after ORDER BY e.basDt")
+    List<String> findDistinctBasDtAfter(@Param("after") String after);
+
     // 최신 날짜 조회
     @Query("SELECT MAX(e.basDt) FROM EtfProduct e")
     String findLatestBasDt();
 
-    // 최신 날짜의 모든 ETF 조회
-    @Query("SELECT e FROM EtfProduct e WHERE e.basDt = (SELECT MAX(ep.basDt) FROM EtfProduct ep)")
-    List<EtfProduct> findAllWithLatestDate();
+    // 특정 날짜 종목 수
+    long countByBasDt(String basDt);
 
 }
\ No newline at end of file
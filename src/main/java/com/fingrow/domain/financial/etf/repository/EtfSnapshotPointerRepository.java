@@ -0,0 +1,9 @@
+package com.fingrow.domain.financial.etf.repository;
+
+import com.fingrow.domain.financial.etf.entity.EtfSnapshotPointer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EtfSnapshotPointerRepository extends JpaRepository<EtfSnapshotPointer, String> {
+}
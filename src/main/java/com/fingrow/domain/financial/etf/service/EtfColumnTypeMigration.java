@@ -0,0 +1,178 @@
+package com.fingrow.domain.financial.etf.service;
+
+import com.fingrow.domain.financial.sync.service.SyncLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * etf_products 문자열 컬럼 → 숫자/일시 타입 전환
+ * - ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않으므로 기동 시 한 번 직접 변환
+ * - vs, flt_rt: VARCHAR("+1.25", "-0.41%") → DECIMAL, 숫자로 읽을 수 없는 값은 NULL
+ * - created_at: VARCHAR(LocalDateTime.toString) → DATETIME(6)
+ * - 값 정리는 id 구간 단위로 나눠 실행해 긴 잠금을 피하고, 이미 변환된 컬럼은 건너뜀
+ * - (srtn_cd, bas_dt) 유니크 키 보장: EtfBulkRepository 의 ON DUPLICATE KEY upsert 가 이 키에 기대므로,
+ *   ddl-auto 가 중복 행 때문에 조용히 못 만든 경우 같은 날짜의 중복 행을 정리(가장 최근 id 유지)하고 직접 추가
+ * - 쓰이지 않는 (bas_dt, flt_rt) 인덱스 제거 (순위/등락 상위는 메모리에서 계산)
+ * - 스냅샷 로딩(ApplicationReadyEvent)보다 먼저 실행되도록 ApplicationRunner 로 둠
+ * - 여러 인스턴스가 동시에 뜨면 sync_locks 임대를 얻은 한 곳만 변환하고, 나머지는 끝날 때까지 기다림
+ * - 변환에 실패하거나 기다리는 동안 끝나지 않으면 기동을 실패시킴 (반쯤 변환된 컬럼으로 서비스하지 않음)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class EtfColumnTypeMigration implements ApplicationRunner {
+
+    private static final String TABLE = "etf_products";
+    private static final int BATCH_SIZE = 10_000;
+    private static final String NUMBER_PATTERN = "'^-?[0-9]+(\\\\.[0-9]+)?$'";
+    private static final String LOCK_NAME = "migration:etf_products";
+    private static final String UNUSED_INDEX = "idx_etf_bas_dt_flt_rt";
+    private static final String UNIQUE_KEY = "uk_etf_srtn_cd_bas_dt";
+    private static final Duration LEASE = Duration.ofMinutes(30);
+    private static final Duration MAX_WAIT = Duration.ofMinutes(30);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncLockService syncLockService;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_WAIT.toMillis();
+        while (isPending()) {
+            if (syncLockService.tryAcquire(LOCK_NAME, LEASE)) {
+                try {
+                    migrate();
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("etf_products 스키마 변환 실패 - 기동을 중단합니다: " + e.getMessage(), e);
+                } finally {
+                    syncLockService.release(LOCK_NAME);
+                }
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("다른 인스턴스의 etf_products 스키마 변환이 " + MAX_WAIT.toMinutes() + "분 안에 끝나지 않았습니다.");
+            }
+            log.info("다른 인스턴스가 etf_products 스키마 변환 중 - {}초 후 다시 확인", POLL_INTERVAL.toSeconds());
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+    }
+
+    private boolean isPending() {
+        return isText("vs") || isText("flt_rt") || isText("created_at")
+                || !hasIndex(UNIQUE_KEY) || hasIndex(UNUSED_INDEX);
+    }
+
+    /**
+     * 임대를 얻은 뒤 호출 - 단계마다 현재 상태를 다시 보고 필요한 것만 실행
+     */
+    void migrate() {
+        convertColumnTypes();
+        ensureUniqueKey();
+        if (hasIndex(UNUSED_INDEX)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP INDEX " + UNUSED_INDEX);
+            log.info("etf_products 미사용 인덱스 제거: {}", UNUSED_INDEX);
+        }
+    }
+
+    private void convertColumnTypes() {
+        boolean vsText = isText("vs");
+        boolean fltRtText = isText("flt_rt");
+        boolean createdAtText = isText("created_at");
+        if (!vsText && !fltRtText && !createdAtText) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<String> assignments = new ArrayList<>();
+        List<String> modifications = new ArrayList<>();
+        if (vsText) {
+            assignments.add("vs = " + numeric("vs"));
+            modifications.add("MODIFY vs DECIMAL(15,2) NULL");
+        }
+        if (fltRtText) {
+            assignments.add("flt_rt = " + numeric("flt_rt"));
+            modifications.add("MODIFY flt_rt DECIMAL(10,4) NULL");
+        }
+        if (createdAtText) {
+            assignments.add("created_at = " + dateTime("created_at"));
+            modifications.add("MODIFY created_at DATETIME(6) NULL");
+        }
+
+        // 1) 값 정리 (id 구간별)
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + TABLE, Long.class);
+        String update = "UPDATE " + TABLE + " SET " + String.join(", ", assignments) + " WHERE id > ? AND id <= ?";
+        long rows = 0;
+        for (long from = 0; maxId != null && from < maxId; from += BATCH_SIZE) {
+            rows += jdbcTemplate.update(update, from, from + BATCH_SIZE);
+        }
+
+        // 2) 타입 변경
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " " + String.join(", ", modifications));
+
+        log.info("etf_products 컬럼 타입 변환 완료: {} ({}행 정리, {}ms)",
+                modifications, rows, System.currentTimeMillis() - start);
+    }
+
+    private boolean isText(String column) {
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                String.class, TABLE, column);
+        if (types.isEmpty()) {
+            return false;
+        }
+        String type = types.get(0).toLowerCase(Locale.ROOT);
+        return type.contains("char") || type.contains("text");
+    }
+
+    private void ensureUniqueKey() {
+        if (hasIndex(UNIQUE_KEY)) {
+            return;
+        }
+        int removed = jdbcTemplate.update(
+                "DELETE e FROM " + TABLE + " e JOIN (" +
+                "SELECT srtn_cd, bas_dt, MAX(id) AS keep_id FROM " + TABLE + " " +
+                "GROUP BY srtn_cd, bas_dt HAVING COUNT(*) > 1) d " +
+                "ON e.srtn_cd = d.srtn_cd AND e.bas_dt = d.bas_dt AND e.id < d.keep_id");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (srtn_cd, bas_dt)");
+        if (!hasIndex(UNIQUE_KEY)) {
+            throw new IllegalStateException(UNIQUE_KEY + " 유니크 키를 만들지 못했습니다.");
+        }
+        log.info("etf_products 유니크 키 추가: {} (중복 행 {}건 정리)", UNIQUE_KEY, removed);
+    }
+
+    private boolean hasIndex(String name) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?",
+                Integer.class, TABLE, name);
+        return count != null && count > 0;
+    }
+
+    // 쉼표/부호/퍼센트 제거 후 숫자 형식이 아니면 NULL
+    private static String numeric(String column) {
+        String cleaned = "REPLACE(REPLACE(REPLACE(TRIM(" + column + "), ',', ''), '+', ''), '%', '')";
+        return "CASE WHEN " + cleaned + " REGEXP " + NUMBER_PATTERN + " THEN " + cleaned + " ELSE NULL END";
+    }
+
+    // "2025-09-18T12:34:56.123456" / "2025-09-18T12:34" → "2025-09-18 12:34:56.123456" / "2025-09-18 12:34:00"
+    private static String dateTime(String column) {
+        String spaced = "REPLACE(" + column + ", 'T', ' ')";
+        return "CASE " +
+                "WHEN " + column + " REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}T[0-9]{2}:[0-9]{2}$' THEN CONCAT(" + spaced + ", ':00') " +
+                "WHEN " + column + " REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}[T ][0-9]{2}:[0-9]{2}:[0-9]{2}' THEN LEFT(" + spaced + ", 26) " +
+                "ELSE NULL END";
+    }
+}
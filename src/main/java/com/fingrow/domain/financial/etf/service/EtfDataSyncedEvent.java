@@ -0,0 +1,9 @@
+package com.fingrow.domain.financial.etf.service;
+
+/**
+ * ETF 시세 동기화 완료 이벤트
+ *
+ * @param basDt 적재한 기준일자 (YYYYMMDD)
+ */
+public record EtfDataSyncedEvent(String basDt) {
+}
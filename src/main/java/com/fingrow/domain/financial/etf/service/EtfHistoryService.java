@@ -0,0 +1,70 @@
+package com.fingrow.domain.financial.etf.service;
+
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.repository.EtfProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.util.*;
+
+/**
+ * ETF 일별 시세 이력 보존 정책
+ * - 최근 retention-days 일은 일별 행을 모두 유지
+ * - 그 이전은 주(ISO 주차)마다 마지막 거래일 하나만 남기고 삭제 (주봉 수준으로 압축)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EtfHistoryService {
+
+    private static final DateTimeFormatter BAS_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final EtfProductRepository etfProductRepository;
+
+    @Value("${etf.history.retention-days:400}")
+    private int retentionDays;
+
+    /**
+     * 정기 실행은 SyncOrchestrator 가 KRX_ETF 잠금을 잡고 호출 (etf.history.compaction-cron)
+     */
+    @Transactional
+    public EtfDto.CompactionResponse compact() {
+        String cutoff = LocalDate.now().minusDays(retentionDays).format(BAS_DT_FORMAT);
+
+        // 주차별 마지막 거래일 (basDt 오름차순이므로 마지막 값이 남음)
+        Map<String, String> lastDayOfWeek = new HashMap<>();
+        List<String> oldDays = etfProductRepository.findDistinctBasDtBefore(cutoff);
+        for (String basDt : oldDays) {
+            lastDayOfWeek.put(weekKey(basDt), basDt);
+        }
+        Set<String> keep = new HashSet<>(lastDayOfWeek.values());
+
+        int daysDeleted = 0;
+        int rowsDeleted = 0;
+        for (String basDt : oldDays) {
+            if (!keep.contains(basDt)) {
+                rowsDeleted += etfProductRepository.deleteByBasDt(basDt);
+                daysDeleted++;
+            }
+        }
+
+        log.info("ETF 이력 정리 완료: 기준일 {}, 삭제 {}일/{}행", cutoff, daysDeleted, rowsDeleted);
+        return EtfDto.CompactionResponse.builder()
+                .cutoffDate(cutoff)
+                .daysKept(keep.size())
+                .daysDeleted(daysDeleted)
+                .rowsDeleted(rowsDeleted)
+                .build();
+    }
+
+    private static String weekKey(String basDt) {
+        LocalDate date = LocalDate.parse(basDt, BAS_DT_FORMAT);
+        return date.get(IsoFields.WEEK_BASED_YEAR) + "-" + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+}
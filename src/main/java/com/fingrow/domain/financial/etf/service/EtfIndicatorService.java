@@ -0,0 +1,184 @@
+package com.fingrow.domain.financial.etf.service;
+
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.entity.EtfIndicator;
+import com.fingrow.domain.financial.etf.entity.EtfProduct;
+import com.fingrow.domain.financial.etf.repository.EtfIndicatorRepository;
+import com.fingrow.domain.financial.etf.repository.EtfProductRepository;
+import com.fingrow.global.util.SyncJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * ETF 기술 지표 증분 계산
+ * - 동기화 커밋 후, 지표에 아직 반영되지 않은 기준일만 날짜 순으로 읽어 종목별 상태에 더함
+ * - 상태(최근 252 거래일 종가, 최고 종가/최대 낙폭)는 etf_indicators 에 함께 저장
+ * - 지표가 하나도 없으면 최근 bootstrap-days 일 이력으로 한 번 초기화
+ * - 지표는 앞으로만 진행하므로, 과거 구간을 백필한 뒤에는 rebuild 로 다시 계산
+ */
+@Slf4j
+@Service
+public class EtfIndicatorService {
+
+    private static final DateTimeFormatter BAS_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final EtfProductRepository etfProductRepository;
+    private final EtfIndicatorRepository etfIndicatorRepository;
+    private final TransactionTemplate writeTransaction;
+    private final int bootstrapDays;
+
+    public EtfIndicatorService(EtfProductRepository etfProductRepository,
+                               EtfIndicatorRepository etfIndicatorRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${etf.indicators.bootstrap-days:400}") int bootstrapDays) {
+        this.etfProductRepository = etfProductRepository;
+        this.etfIndicatorRepository = etfIndicatorRepository;
+        // 커밋 후 콜백에서 실행되므로 새 트랜잭션으로 씀
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bootstrapDays = bootstrapDays;
+    }
+
+    @Order(EtfSnapshotHolder.LISTENER_ORDER + 2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        updateSafely();
+    }
+
+    @Order(EtfSnapshotHolder.LISTENER_ORDER + 2)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEtfSynced(EtfDataSyncedEvent event) {
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            updateSafely();
+        }
+    }
+
+    private void updateSafely() {
+        try {
+            int updated = update();
+            if (updated > 0) {
+                log.info("ETF 기술 지표 갱신: {}개 종목", updated);
+            }
+        } catch (Exception e) {
+            log.error("ETF 기술 지표 갱신 실패", e);
+        }
+    }
+
+    /**
+     * @return 갱신된 종목 수
+     */
+    public int update() {
+        Integer updated = writeTransaction.execute(status -> {
+            String lastApplied = etfIndicatorRepository.findLatestBasDt();
+            String after = lastApplied != null
+                    ? lastApplied
+                    : LocalDate.now().minusDays(bootstrapDays).format(BAS_DT_FORMAT);
+            return apply(etfProductRepository.findDistinctBasDtAfter(after));
+        });
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * 지표를 모두 지우고 최근 bootstrap-days 일 이력으로 다시 계산
+     */
+    public int rebuild() {
+        Integer updated = writeTransaction.execute(status -> {
+            etfIndicatorRepository.deleteAllInBatch();
+            String after = LocalDate.now().minusDays(bootstrapDays).format(BAS_DT_FORMAT);
+            return apply(etfProductRepository.findDistinctBasDtAfter(after));
+        });
+        return updated != null ? updated : 0;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<EtfDto.IndicatorResponse> getIndicator(String srtnCd) {
+        return etfIndicatorRepository.findBySrtnCd(srtnCd).map(EtfDto.IndicatorResponse::from);
+    }
+
+    private int apply(List<String> days) {
+        if (days.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, EtfIndicator> indicators = new HashMap<>();
+        for (EtfIndicator indicator : etfIndicatorRepository.findAll()) {
+            indicators.put(indicator.getSrtnCd(), indicator);
+        }
+
+        // 종목별 창은 이번 갱신 동안 메모리에서만 굴리고 마지막에 한 번 저장
+        Map<String, PriceWindow> windows = new HashMap<>();
+        Set<String> touched = new HashSet<>();
+
+        for (String basDt : days) {
+            for (EtfProduct row : etfProductRepository.findByBasDt(basDt)) {
+                if (row.getClpr() == null || row.getClpr() <= 0) {
+                    continue;
+                }
+                EtfIndicator indicator = indicators.computeIfAbsent(row.getSrtnCd(), srtnCd -> EtfIndicator.builder()
+                        .srtnCd(srtnCd)
+                        .observedDays(0)
+                        .build());
+                if (indicator.getBasDt() != null && indicator.getBasDt().compareTo(basDt) >= 0) {
+                    continue;
+                }
+
+                PriceWindow window = windows.computeIfAbsent(row.getSrtnCd(),
+                        srtnCd -> PriceWindow.parse(indicator.getRecentCloses()));
+                long close = row.getClpr();
+                window.add(close);
+
+                // 최대 낙폭은 매일의 종가로 누적
+                long peak = indicator.getPeakClpr() != null ? Math.max(indicator.getPeakClpr(), close) : close;
+                double drawdown = (double) (close - peak) / peak * 100;
+                indicator.setPeakClpr(peak);
+                indicator.setMaxDrawdown(indicator.getMaxDrawdown() != null
+                        ? Math.min(indicator.getMaxDrawdown(), drawdown)
+                        : drawdown);
+
+                indicator.setBasDt(basDt);
+                indicator.setClpr(close);
+                indicator.setObservedDays(indicator.getObservedDays() + 1);
+                touched.add(row.getSrtnCd());
+            }
+        }
+
+        // 창 기반 지표는 마지막 상태에서 한 번만 계산
+        List<EtfIndicator> changed = new ArrayList<>(touched.size());
+        for (String srtnCd : touched) {
+            EtfIndicator indicator = indicators.get(srtnCd);
+            PriceWindow window = windows.get(srtnCd);
+            indicator.setMa5(round(window.movingAverage(5)));
+            indicator.setMa20(round(window.movingAverage(20)));
+            indicator.setMa60(round(window.movingAverage(60)));
+            indicator.setMa120(round(window.movingAverage(120)));
+            indicator.setVolatility20(round(window.volatility()));
+            indicator.setMaxDrawdown(round(indicator.getMaxDrawdown()));
+            indicator.setHigh52w(window.max());
+            indicator.setLow52w(window.min());
+            indicator.setRecentCloses(window.serialize());
+            changed.add(indicator);
+        }
+        etfIndicatorRepository.saveAll(changed);
+
+        log.debug("ETF 기술 지표 반영: 기준일 {} ~ {} ({}일)", days.get(0), days.get(days.size() - 1), days.size());
+        return changed.size();
+    }
+
+    private static Double round(Double value) {
+        return value != null ? Math.round(value * 10_000) / 10_000.0 : null;
+    }
+}
@@ -0,0 +1,150 @@
+package com.fingrow.domain.financial.etf.service;
+
+import com.fingrow.domain.financial.etf.entity.EtfProduct;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ETF 목록 정렬/필터 인덱스 (불변)
+ * - 정렬 키 x 방향 x (시장구분, 운용사) 조합마다 스냅샷 행 번호를 미리 정렬해 둔 int 배열을 가짐
+ * - 페이지 조회는 배열 구간 [position, position + size) 을 잘라 쓰므로 비용이 페이지 크기에만 비례
+ * - 값이 없는 행(null)은 방향과 관계없이 항상 뒤쪽
+ */
+public final class EtfListIndex {
+
+    private static final String ANY = "*";
+
+    public enum SortKey {
+        MRKT_TOT_AMT("mrktTotAmt", row -> toDouble(row.getMrktTotAmt())),
+        TRQU("trqu", row -> toDouble(row.getTrqu())),
+        FLT_RT("fltRt", row -> row.getFltRt() != null ? row.getFltRt().doubleValue() : null),
+        CLPR("clpr", row -> toDouble(row.getClpr()));
+
+        private final String param;
+        private final Function<EtfProduct, Double> extractor;
+
+        SortKey(String param, Function<EtfProduct, Double> extractor) {
+            this.param = param;
+            this.extractor = extractor;
+        }
+
+        public String param() {
+            return param;
+        }
+
+        public static SortKey from(String param) {
+            for (SortKey key : values()) {
+                if (key.param.equalsIgnoreCase(param)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + param
+                    + " (mrktTotAmt, trqu, fltRt, clpr 중 선택)");
+        }
+    }
+
+    /**
+     * @param rows     페이지에 담을 스냅샷 행 번호
+     * @param end      다음 페이지 시작 위치
+     * @param total    조건에 맞는 전체 건수
+     */
+    public record Slice(int[] rows, int end, int total) {
+
+        public boolean hasNext() {
+            return end < total;
+        }
+    }
+
+    private final Map<String, int[]> orders;
+
+    private EtfListIndex(Map<String, int[]> orders) {
+        this.orders = orders;
+    }
+
+    public static EtfListIndex build(List<EtfProduct> rows) {
+        Map<String, int[]> orders = new HashMap<>();
+
+        for (SortKey key : SortKey.values()) {
+            double[] values = new double[rows.size()];
+            boolean[] present = new boolean[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                Double value = key.extractor.apply(rows.get(i));
+                present[i] = value != null;
+                values[i] = value != null ? value : 0;
+            }
+
+            for (boolean ascending : new boolean[]{false, true}) {
+                Integer[] sorted = new Integer[rows.size()];
+                for (int i = 0; i < sorted.length; i++) {
+                    sorted[i] = i;
+                }
+                // 값 있는 행 먼저, 같은 값은 종목코드 순으로 고정 (커서 위치가 흔들리지 않도록)
+                Comparator<Integer> byValue = (a, b) -> ascending
+                        ? Double.compare(values[a], values[b])
+                        : Double.compare(values[b], values[a]);
+                Arrays.sort(sorted, Comparator.<Integer, Boolean>comparing(i -> !present[i])
+                        .thenComparing(byValue)
+                        .thenComparing(i -> Objects.toString(rows.get(i).getSrtnCd(), "")));
+
+                // 전체 순서를 한 번 훑으며 4가지 필터 조합 배열에 나눠 담음 (순서 유지)
+                Map<String, List<Integer>> groups = new HashMap<>();
+                for (int row : sorted) {
+                    String market = normalize(rows.get(row).getMrktCtg());
+                    String corp = normalize(rows.get(row).getCorpNm());
+                    groups.computeIfAbsent(groupKey(ANY, ANY), k -> new ArrayList<>()).add(row);
+                    if (market != null) {
+                        groups.computeIfAbsent(groupKey(market, ANY), k -> new ArrayList<>()).add(row);
+                    }
+                    if (corp != null) {
+                        groups.computeIfAbsent(groupKey(ANY, corp), k -> new ArrayList<>()).add(row);
+                    }
+                    if (market != null && corp != null) {
+                        groups.computeIfAbsent(groupKey(market, corp), k -> new ArrayList<>()).add(row);
+                    }
+                }
+                groups.forEach((group, list) -> orders.put(orderKey(key, ascending, group),
+                        list.stream().mapToInt(Integer::intValue).toArray()));
+            }
+        }
+        return new EtfListIndex(orders);
+    }
+
+    /**
+     * @param mrktCtg  시장구분 필터 (null 이면 전체)
+     * @param corpNm   운용사 필터 (null 이면 전체)
+     * @param position 시작 위치 (커서)
+     */
+    public Slice slice(SortKey key, boolean ascending, String mrktCtg, String corpNm, int position, int size) {
+        String market = normalize(mrktCtg);
+        String corp = normalize(corpNm);
+        int[] order = orders.get(orderKey(key, ascending,
+                groupKey(market != null ? market : ANY, corp != null ? corp : ANY)));
+        if (order == null) {
+            return new Slice(new int[0], 0, 0);
+        }
+
+        int from = Math.min(Math.max(position, 0), order.length);
+        int to = Math.min(from + size, order.length);
+        return new Slice(Arrays.copyOfRange(order, from, to), to, order.length);
+    }
+
+    private static String orderKey(SortKey key, boolean ascending, String group) {
+        return key.name() + (ascending ? "|asc|" : "|desc|") + group;
+    }
+
+    private static String groupKey(String market, String corp) {
+        return market + "|" + corp;
+    }
+
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Double toDouble(Long value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
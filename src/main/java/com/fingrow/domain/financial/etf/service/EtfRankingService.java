@@ -0,0 +1,176 @@
+package com.fingrow.domain.financial.etf.service;
+
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.repository.EtfProductRepository;
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import com.fingrow.domain.financial.sync.service.DatasetChangedEvent;
+import com.fingrow.global.util.SyncJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ETF 순위 위젯 (상승률/하락률/거래대금/시가총액 상위 N개)
+ * - 기준일 전체를 정렬하지 않고 크기 N 의 힙으로 한 번 훑어 선택 (O(n log N))
+ * - 최신 기준일은 동기화 커밋 직후 스냅샷에서 바로 계산, 과거 기준일은 요청 시 한 번 계산
+ * - 결과는 기준일별로 캐시 (최근 cache-size 개), 동기화되면 비움
+ */
+@Slf4j
+@Service
+public class EtfRankingService {
+
+    public static final int TOP_N = 10;
+
+    private final EtfSnapshotHolder etfSnapshotHolder;
+    private final EtfProductRepository etfProductRepository;
+    private final Map<String, EtfDto.RankingsResponse> cache;
+
+    public EtfRankingService(EtfSnapshotHolder etfSnapshotHolder,
+                             EtfProductRepository etfProductRepository,
+                             @Value("${etf.rankings.cache-size:30}") int cacheSize) {
+        this.etfSnapshotHolder = etfSnapshotHolder;
+        this.etfProductRepository = etfProductRepository;
+        // 접근 순서 LinkedHashMap 으로 오래된 기준일부터 밀어냄
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EtfDto.RankingsResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    // 스냅샷 갱신 이후에 실행
+    @Order(EtfSnapshotHolder.LISTENER_ORDER + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        cacheLatest();
+    }
+
+    @Order(EtfSnapshotHolder.LISTENER_ORDER + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEtfSynced(EtfDataSyncedEvent event) {
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            // 룩백 구간의 과거 기준일도 다시 적재되므로 전체 무효화
+            cache.clear();
+            cacheLatest();
+        }
+    }
+
+    // 다른 인스턴스가 동기화한 경우
+    @Order(EtfSnapshotHolder.LISTENER_ORDER + 1)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() == DatasetVersion.Dataset.ETF) {
+            cache.clear();
+            cacheLatest();
+        }
+    }
+
+    private void cacheLatest() {
+        EtfSnapshotHolder.Snapshot snapshot = etfSnapshotHolder.current();
+        if (snapshot.basDt() == null) {
+            return;
+        }
+        EtfDto.RankingsResponse rankings = compute(snapshot.basDt(), snapshot.items());
+        cache.put(snapshot.basDt(), rankings);
+        log.info("ETF 순위 계산 완료: 기준일 {}, 대상 {}개", snapshot.basDt(), snapshot.size());
+    }
+
+    /**
+     * @param basDt 기준일자 (null 이면 최신)
+     */
+    @Transactional(readOnly = true)
+    public EtfDto.RankingsResponse getRankings(String basDt) {
+        String date = basDt != null ? basDt : etfSnapshotHolder.current().basDt();
+        if (date == null) {
+            return compute(null, List.of());
+        }
+        if (!date.matches("\\d{8}")) {
+            throw new IllegalArgumentException("기준일자는 YYYYMMDD 형식이어야 합니다: " + basDt);
+        }
+
+        EtfDto.RankingsResponse cached = cache.get(date);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<EtfDto.EtfListItemResponse> items = etfProductRepository.findByBasDt(date).stream()
+                .map(EtfDto.EtfListItemResponse::from)
+                .toList();
+        EtfDto.RankingsResponse rankings = compute(date, items);
+        if (!items.isEmpty()) {
+            cache.put(date, rankings);
+        }
+        return rankings;
+    }
+
+    public List<EtfDto.EtfListItemResponse> getRanking(String type, String basDt) {
+        EtfDto.RankingsResponse rankings = getRankings(basDt);
+        return switch (type) {
+            case "gainers" -> rankings.getTopGainers();
+            case "losers" -> rankings.getTopLosers();
+            case "traded" -> rankings.getMostTraded();
+            case "market-cap" -> rankings.getLargest();
+            default -> throw new IllegalArgumentException(
+                    "지원하지 않는 순위 종류입니다: " + type + " (gainers, losers, traded, market-cap 중 선택)");
+        };
+    }
+
+    private static EtfDto.RankingsResponse compute(String basDt, List<EtfDto.EtfListItemResponse> items) {
+        return EtfDto.RankingsResponse.builder()
+                .baseDate(basDt)
+                .topGainers(topN(items, item -> positive(item.getFltRt()), Comparator.reverseOrder()))
+                .topLosers(topN(items, item -> negative(item.getFltRt()), Comparator.naturalOrder()))
+                .mostTraded(topN(items, EtfDto.EtfListItemResponse::getTrPrc, Comparator.reverseOrder()))
+                .largest(topN(items, EtfDto.EtfListItemResponse::getMrktTotAmt, Comparator.reverseOrder()))
+                .build();
+    }
+
+    /**
+     * 키가 null 이 아닌 항목 중 order 기준 앞선 TOP_N 개 (동점은 종목코드 순)
+     * - 힙의 head 는 현재 남긴 것 중 가장 뒤처진 항목이라 새 항목과 한 번만 비교
+     */
+    private static <K extends Comparable<K>> List<EtfDto.EtfListItemResponse> topN(
+            List<EtfDto.EtfListItemResponse> items,
+            Function<EtfDto.EtfListItemResponse, K> key,
+            Comparator<K> order) {
+        Comparator<EtfDto.EtfListItemResponse> ranking = Comparator
+                .comparing(key, order)
+                .thenComparing(item -> Objects.toString(item.getSrtnCd(), ""));
+
+        PriorityQueue<EtfDto.EtfListItemResponse> heap = new PriorityQueue<>(TOP_N + 1, ranking.reversed());
+        for (EtfDto.EtfListItemResponse item : items) {
+            if (key.apply(item) == null) {
+                continue;
+            }
+            if (heap.size() < TOP_N) {
+                heap.add(item);
+            } else if (ranking.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        List<EtfDto.EtfListItemResponse> result = new ArrayList<>(heap);
+        result.sort(ranking);
+        return List.copyOf(result);
+    }
+
+    private static BigDecimal positive(BigDecimal value) {
+        return value != null && value.signum() > 0 ? value : null;
+    }
+
+    private static BigDecimal negative(BigDecimal value) {
+        return value != null && value.signum() < 0 ? value : null;
+    }
+}
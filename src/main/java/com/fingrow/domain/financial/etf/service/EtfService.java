@@ -2,25 +2,36 @@ package com.fingrow.domain.financial.etf.service;
 
 import com.fingrow.domain.financial.etf.dto.EtfDto;
 import com.fingrow.domain.financial.etf.entity.EtfProduct;
+import com.fingrow.domain.financial.etf.entity.EtfSnapshotPointer;
+import com.fingrow.domain.financial.etf.repository.EtfBulkRepository;
 import com.fingrow.domain.financial.etf.repository.EtfProductRepository;
+import com.fingrow.domain.financial.etf.repository.EtfSnapshotPointerRepository;
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import com.fingrow.domain.financial.sync.service.DatasetVersionService;
+import com.fingrow.global.util.PublicDataItemReader;
+import com.fingrow.global.util.SyncJournal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @Transactional
@@ -29,196 +40,357 @@ import java.util.concurrent.CompletableFuture;
 public class EtfService {
 
     private final EtfProductRepository etfProductRepository;
+    private final EtfBulkRepository etfBulkRepository;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final PublicDataItemReader publicDataItemReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EtfSnapshotPointerRepository etfSnapshotPointerRepository;
+    private final EtfSnapshotHolder etfSnapshotHolder;
+    private final DatasetVersionService datasetVersionService;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${krx.api.key}")
     private String krxApiKey;
 
+    @Value("${etf.sync.lookback-days:3}")
+    private int syncLookbackDays;
+
+    @Value("${etf.sync.max-backfill-days:366}")
+    private int maxBackfillDays;
+
     private static final String KRX_BASE_URL = "https://apis.data.go.kr/1160100/service/GetSecuritiesProductInfoService";
+    private static final DateTimeFormatter BAS_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int NUM_OF_ROWS = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FAILURE_REASONS = 20;
 
     // =========================== 동기화 ===========================
 
-    // 비동기 동기화 메서드
-    @Async
-    @Transactional
-    public CompletableFuture<EtfDto.SyncResponse> syncAllEtfDataAsync() {
-        try {
-            log.info("비동기 ETF 데이터 동기화 시작");
-            EtfDto.SyncResponse result = syncAllEtfDataInternal();
-            log.info("비동기 ETF 데이터 동기화 완료: 성공 {}, 실패 {}", result.getSuccessCount(), result.getFailureCount());
-            return CompletableFuture.completedFuture(result);
-        } catch (Exception e) {
-            log.error("비동기 ETF 데이터 동기화 실패", e);
-            EtfDto.SyncResponse errorResponse = EtfDto.SyncResponse.builder()
-                    .syncType("ALL")
-                    .totalProcessed(0)
-                    .successCount(0)
-                    .failureCount(1)
-                    .failureReasons(List.of("비동기 동기화 실패: " + e.getMessage()))
-                    .startTime(LocalDateTime.now().toString())
-                    .endTime(LocalDateTime.now().toString())
-                    .duration("00:00:00")
-                    .build();
-            return CompletableFuture.completedFuture(errorResponse);
-        }
-    }
-
-    // 기존 동기 메서드
+    // 하루 단위로 트랜잭션을 나누므로 바깥 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EtfDto.SyncResponse syncAllEtfData() {
         return syncAllEtfDataInternal();
     }
 
-    // 실제 동기화 로직 (내부 메서드)
+    /**
+     * 기간 백필 (기준일자 from ~ to, 양끝 포함)
+     * - (srtnCd, basDt) 기준 upsert 이므로 같은 구간을 다시 실행해도 결과가 같음
+     * - 실패한 날은 응답의 failedDays 에 남으므로 그 구간만 다시 실행하면 됨
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EtfDto.SyncResponse backfillEtfData(LocalDate from, LocalDate to) {
+        validateBackfillRange(from, to);
+        return syncRange("BACKFILL", from, to);
+    }
+
+    // 백그라운드로 넘기기 전에 요청 스레드에서 먼저 확인
+    public void validateBackfillRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (from.plusDays(maxBackfillDays).isBefore(to)) {
+            throw new IllegalArgumentException("백필 기간은 최대 " + maxBackfillDays + "일입니다.");
+        }
+    }
+
+    // 최근 며칠 구간을 다시 받아 누락/정정분까지 반영
     private EtfDto.SyncResponse syncAllEtfDataInternal() {
+        LocalDate today = LocalDate.now();
+        return syncRange("ALL", today.minusDays(syncLookbackDays), today);
+    }
+
+    /**
+     * 기준일 하루씩 받아 반영
+     * - HTTP 수신은 트랜잭션 밖에서 끝내고, 하루치(약 1천 건)를 트랜잭션 하나로 upsert
+     * - 수신/저장에 실패한 날은 건너뛰고 failedDays 에 남김 (그날은 아무것도 쓰지 않음)
+     * - 반영된 날이 있으면 마지막에 짧은 트랜잭션으로 최신 기준일 포인터와 데이터셋 버전을 갱신하고,
+     *   커밋 후 스냅샷/검색 인덱스 재생성
+     */
+    private EtfDto.SyncResponse syncRange(String syncType, LocalDate from, LocalDate to) {
         LocalDateTime startTime = LocalDateTime.now();
-        int totalProcessed = 0, successCount = 0, failureCount = 0;
-        List<String> failureReasons = new ArrayList<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        EtfChunkWriter writer = new EtfChunkWriter();
+        List<String> failedDays = new ArrayList<>();
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            String basDt = day.format(BAS_DT_FORMAT);
+            try {
+                fetchDay(basDt, writer);
+                transactionTemplate.executeWithoutResult(status -> writer.write());
+                writer.committed();
+            } catch (Exception e) {
+                log.error("ETF {} 동기화 실패", basDt, e);
+                writer.discard();
+                failedDays.add(basDt);
+                writer.note(basDt + " 실패: " + e.getMessage());
+                SyncJournal.current().error(SyncJournal.Stage.FETCH, basDt + " 실패: " + e.getMessage());
+            }
+        }
 
-        try {
-            String baseDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        int failureCount = writer.failureCount + failedDays.size();
+        String latestBasDt = writer.latestBasDt;
+        if (latestBasDt == null) {
+            if (failedDays.isEmpty()) {
+                writer.note("ETF 데이터 없음");
+                failureCount++;
+            }
+            return createResponse(syncType, writer, failureCount, failedDays, startTime);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            advanceSnapshotPointer(latestBasDt);
+            datasetVersionService.bump(DatasetVersion.Dataset.ETF);
+            eventPublisher.publishEvent(new EtfDataSyncedEvent(latestBasDt));
+        });
+        return createResponse(syncType, writer, failureCount, failedDays, startTime);
+    }
+
+    // 하루치 전체 페이지를 버퍼로 읽음 (트랜잭션 없음)
+    private void fetchDay(String basDt, EtfChunkWriter writer) {
+        for (int pageNo = 1; ; pageNo++) {
             URI uri = UriComponentsBuilder.fromHttpUrl(KRX_BASE_URL + "/getETFPriceInfo")
                     .queryParam("serviceKey", krxApiKey)
-                    .queryParam("numOfRows", "1000")
+                    .queryParam("numOfRows", NUM_OF_ROWS)
+                    .queryParam("pageNo", pageNo)
                     .queryParam("resultType", "json")
+                    .queryParam("basDt", basDt)
                     .build()
                     .toUri();
 
-            log.info("ETF API 호출: {}", uri.toString());
+            log.info("ETF API 호출: basDt={} 페이지={}", basDt, pageNo);
 
-            String response = restTemplate.getForObject(uri, String.class);
-            if (response == null || !response.trim().startsWith("{")) {
-                throw new RuntimeException("API 응답이 JSON이 아님: " + response);
+            // 응답 전체를 문자열/트리로 만들지 않고 item 단위로 읽음
+            Long pageCount;
+            try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.FETCH)) {
+                pageCount = restTemplate.execute(uri, HttpMethod.GET, null,
+                        response -> publicDataItemReader.read(response.getBody(), writer::accept));
             }
+            SyncJournal.current().rows(SyncJournal.Stage.FETCH, 0, pageCount != null ? pageCount : 0);
 
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode itemsNode = rootNode.path("response").path("body").path("items").path("item");
-
-            if (itemsNode.isMissingNode() || itemsNode.isNull()) {
-                failureReasons.add("ETF 데이터 없음");
-                return createFailureResponse("ALL", totalProcessed, successCount, failureCount + 1, failureReasons, startTime);
+            if (pageCount == null || pageCount < NUM_OF_ROWS) {
+                return;
             }
+        }
+    }
 
-            if (!itemsNode.isArray()) {
-                itemsNode = objectMapper.createArrayNode().add(itemsNode);
-            }
+    // 과거 구간 백필로 포인터가 뒤로 가지 않도록 더 최신일 때만 이동
+    private void advanceSnapshotPointer(String basDt) {
+        if (basDt == null) {
+            return;
+        }
+        EtfSnapshotPointer pointer = etfSnapshotPointerRepository.findById(EtfSnapshotPointer.LATEST)
+                .orElseGet(() -> EtfSnapshotPointer.builder().name(EtfSnapshotPointer.LATEST).build());
+        if (pointer.getBasDt() == null || basDt.compareTo(pointer.getBasDt()) >= 0) {
+            pointer.setBasDt(basDt);
+            pointer.setRowCount(etfProductRepository.countByBasDt(basDt));
+            etfSnapshotPointerRepository.save(pointer);
+        }
+    }
 
-            // 기존 해당 날짜 데이터 삭제
-            List<EtfProduct> existingData = etfProductRepository.findByBasDt(baseDate);
-            if (!existingData.isEmpty()) {
-                etfProductRepository.deleteAll(existingData);
-                log.info("기존 {} 날짜 데이터 {}건 삭제", baseDate, existingData.size());
+    /**
+     * 하루치 ETF item 을 모아 두었다가 청크 단위로 upsert
+     * - 기준일자는 API 가 내려준 basDt 를 그대로 사용
+     * - 성공 건수와 최신 기준일은 트랜잭션이 커밋된 뒤에만 반영
+     */
+    private class EtfChunkWriter {
+        private static final int CHUNK_SIZE = 500;
+
+        // 같은 날 안의 중복 (srtnCd, basDt) 는 마지막 값만 사용
+        private final Map<String, EtfProduct> buffer = new LinkedHashMap<>();
+        // 실패 건수는 모두 세고 사유는 일부만 보관
+        private final List<String> failureReasons = new ArrayList<>();
+        private final SyncJournal journal = SyncJournal.current();
+        private String latestBasDt;
+        private String bufferedLatestBasDt;
+        private int totalProcessed;
+        private int successCount;
+        private int failureCount;
+
+        void accept(JsonNode item) {
+            totalProcessed++;
+            try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.PARSE)) {
+                String srtnCd = getTextValue(item, "srtnCd");
+                String basDt = getTextValue(item, "basDt");
+                if (srtnCd == null || basDt == null) {
+                    fail(srtnCd == null ? "srtnCd 누락" : "basDt 누락: " + srtnCd);
+                    return;
+                }
+                buffer.put(srtnCd + "|" + basDt, EtfProduct.builder()
+                        // 상품 정보
+                        .srtnCd(srtnCd)
+                        .isinCd(getTextValue(item, "isinCd"))
+                        .itmsNm(getTextValue(item, "itmsNm"))
+                        .mrktCtg(getTextValue(item, "mrktCtg"))
+                        .corpNm(extractCompanyFromName(getTextValue(item, "itmsNm")))
+                        // 시세 정보
+                        .basDt(basDt)
+                        .clpr(parseToLong(item.path("clpr")))
+                        .vs(parseToDecimal(item.path("vs")))
+                        .fltRt(parseToDecimal(item.path("fltRt")))
+                        .mkp(parseToLong(item.path("mkp")))
+                        .hipr(parseToLong(item.path("hipr")))
+                        .lopr(parseToLong(item.path("lopr")))
+                        .trqu(parseToLong(item.path("trqu")))
+                        .trPrc(parseToLong(item.path("trPrc")))
+                        .lstgStCnt(parseToLong(item.path("lstgStCnt")))
+                        .mrktTotAmt(parseToLong(item.path("mrktTotAmt")))
+                        .build());
+
+                if (bufferedLatestBasDt == null || basDt.compareTo(bufferedLatestBasDt) > 0) {
+                    bufferedLatestBasDt = basDt;
+                }
+                journal.rows(SyncJournal.Stage.PARSE, 1, 1);
+
+            } catch (Exception ex) {
+                fail("변환 실패: " + ex.getMessage());
+                log.error("변환 실패", ex);
             }
+        }
 
-            // 새 데이터 저장
-            for (JsonNode item : itemsNode) {
-                totalProcessed++;
-                try {
-                    String srtnCd = getTextValue(item, "srtnCd");
-                    if (srtnCd == null) {
-                        failureReasons.add("srtnCd 누락");
-                        failureCount++;
-                        continue;
-                    }
-
-                    EtfProduct product = EtfProduct.builder()
-                            // 상품 정보
-                            .srtnCd(srtnCd)
-                            .isinCd(getTextValue(item, "isinCd"))
-                            .itmsNm(getTextValue(item, "itmsNm"))
-                            .mrktCtg(getTextValue(item, "mrktCtg"))
-                            .corpNm(extractCompanyFromName(getTextValue(item, "itmsNm")))
-                            // 시세 정보
-                            .basDt(baseDate)
-                            .clpr(parseToLong(item.path("clpr")))
-                            .vs(getTextValue(item, "vs"))
-                            .fltRt(getTextValue(item, "fltRt"))
-                            .mkp(parseToLong(item.path("mkp")))
-                            .hipr(parseToLong(item.path("hipr")))
-                            .lopr(parseToLong(item.path("lopr")))
-                            .trqu(parseToLong(item.path("trqu")))
-                            .trPrc(parseToLong(item.path("trPrc")))
-                            .lstgStCnt(parseToLong(item.path("lstgStCnt")))
-                            .mrktTotAmt(parseToLong(item.path("mrktTotAmt")))
-                            .build();
-
-                    etfProductRepository.save(product);
-                    successCount++;
-
-                } catch (Exception ex) {
-                    failureCount++;
-                    failureReasons.add("저장 실패: " + ex.getMessage());
-                    log.error("저장 실패", ex);
+        // 트랜잭션 안에서 호출
+        void write() {
+            List<EtfProduct> rows = new ArrayList<>(buffer.values());
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                List<EtfProduct> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+                try (SyncJournal.Timer t = journal.time(SyncJournal.Stage.WRITE)) {
+                    etfBulkRepository.upsertAll(chunk);
                 }
+                journal.rows(SyncJournal.Stage.WRITE, chunk.size(), chunk.size());
             }
+        }
+
+        void committed() {
+            successCount += buffer.size();
+            if (bufferedLatestBasDt != null && (latestBasDt == null || bufferedLatestBasDt.compareTo(latestBasDt) > 0)) {
+                latestBasDt = bufferedLatestBasDt;
+            }
+            discard();
+        }
+
+        void discard() {
+            buffer.clear();
+            bufferedLatestBasDt = null;
+        }
 
-            LocalDateTime endTime = LocalDateTime.now();
-            return EtfDto.SyncResponse.builder()
-                    .syncType("ALL")
-                    .totalProcessed(totalProcessed)
-                    .successCount(successCount)
-                    .failureCount(failureCount)
-                    .failureReasons(failureReasons)
-                    .startTime(startTime.toString())
-                    .endTime(endTime.toString())
-                    .duration(calculateDuration(startTime, endTime))
-                    .build();
-
-        } catch (Exception e) {
-            log.error("ETF 동기화 실패", e);
-            failureReasons.add("동기화 실패: " + e.getMessage());
-            return createFailureResponse("ALL", totalProcessed, successCount, failureCount + 1, failureReasons, startTime);
+        void fail(String reason) {
+            failureCount++;
+            journal.rows(SyncJournal.Stage.PARSE, 1, 0);
+            journal.error(SyncJournal.Stage.PARSE, reason);
+            note(reason);
+        }
+
+        void note(String reason) {
+            if (failureReasons.size() < MAX_FAILURE_REASONS) {
+                failureReasons.add(reason);
+            }
         }
     }
 
     // =========================== 조회 ===========================
+
+    /**
+     * 최신 거래일 스냅샷 (메모리, DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EtfSnapshotHolder.Snapshot getLatestSnapshot() {
+        return etfSnapshotHolder.current();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EtfDto.EtfListResponse getAllEtfProducts() {
-        // 최신 날짜의 데이터 조회
-        List<EtfProduct> etfList = etfProductRepository.findAllWithLatestDate();
+        EtfSnapshotHolder.Snapshot snapshot = etfSnapshotHolder.current();
+        return EtfDto.EtfListResponse.builder()
+                .etfs(snapshot.products())
+                .totalCount(snapshot.size())
+                .build();
+    }
 
-        // 만약 최신 데이터가 없다면 오늘 데이터 조회
-        if (etfList.isEmpty()) {
-            String todayDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            etfList = etfProductRepository.findByBasDt(todayDate);
+    /**
+     * 정렬/필터 조건별 커서 페이지 (스냅샷의 미리 정렬된 인덱스 사용)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EtfDto.EtfPageResponse getEtfPage(String sort, String direction, String mrktCtg, String corpNm,
+                                             String cursor, int size) {
+        EtfListIndex.SortKey sortKey = EtfListIndex.SortKey.from(sort);
+        boolean ascending = resolveAscending(direction);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        EtfSnapshotHolder.Snapshot snapshot = etfSnapshotHolder.current();
+        String filters = filterFingerprint(mrktCtg, corpNm);
+        int position = decodeCursor(cursor, snapshot.basDt(), sortKey, ascending, filters);
+
+        EtfListIndex.Slice slice = snapshot.listIndex().slice(sortKey, ascending, mrktCtg, corpNm, position, pageSize);
+        List<EtfDto.EtfListItemResponse> etfs = new ArrayList<>(slice.rows().length);
+        for (int row : slice.rows()) {
+            etfs.add(snapshot.items().get(row));
         }
 
-        List<EtfDto.EtfProductResponse> etfs = etfList.stream()
-                .map(this::convertToDto)
-                .toList();
-
-        return EtfDto.EtfListResponse.builder()
+        return EtfDto.EtfPageResponse.builder()
                 .etfs(etfs)
-                .totalCount((long) etfs.size())
+                .sort(sortKey.param())
+                .direction(ascending ? "asc" : "desc")
+                .size(etfs.size())
+                .totalCount(slice.total())
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() ? encodeCursor(snapshot.basDt(), sortKey, ascending, filters, slice.end()) : null)
+                .baseDate(snapshot.basDt())
                 .build();
     }
 
-    // =========================== 유틸리티 메서드 ===========================
+    private boolean resolveAscending(String direction) {
+        if (direction == null || direction.isBlank() || direction.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 방향입니다: " + direction + " (asc, desc 중 선택)");
+    }
 
-    private EtfDto.EtfProductResponse convertToDto(EtfProduct product) {
-        return EtfDto.EtfProductResponse.builder()
-                // 기본 정보
-                .id(product.getId())
-                .srtnCd(product.getSrtnCd())
-                .isinCd(product.getIsinCd())
-                .itmsNm(product.getItmsNm())
-                .mrktCtg(product.getMrktCtg())
-                .corpNm(product.getCorpNm())
-                .createdAt(product.getCreatedAt())
-                // 시세 정보
-                .basDt(product.getBasDt())
-                .clpr(product.getClpr())
-                .vs(product.getVs())
-                .fltRt(product.getFltRt())
-                .mkp(product.getMkp())
-                .hipr(product.getHipr())
-                .lopr(product.getLopr())
-                .trqu(product.getTrqu())
-                .trPrc(product.getTrPrc())
-                .lstgStCnt(product.getLstgStCnt())
-                .mrktTotAmt(product.getMrktTotAmt())
-                .build();
+    // 커서: "기준일|정렬키|방향|필터|위치" 를 base64url 로 인코딩 (기준일이 바뀌면 무효)
+    private String encodeCursor(String basDt, EtfListIndex.SortKey sortKey, boolean ascending, String filters,
+                                int position) {
+        String raw = basDt + "|" + sortKey.name() + "|" + (ascending ? "asc" : "desc") + "|" + filters + "|" + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
+    private int decodeCursor(String cursor, String basDt, EtfListIndex.SortKey sortKey, boolean ascending,
+                             String filters) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (parts.length != 5 || !parts[1].equals(sortKey.name()) || !parts[2].equals(ascending ? "asc" : "desc")) {
+            throw new IllegalArgumentException("정렬 조건이 커서와 다릅니다. 처음부터 다시 조회해주세요.");
+        }
+        if (!parts[3].equals(filters)) {
+            throw new IllegalArgumentException("필터 조건이 커서와 다릅니다. 처음부터 다시 조회해주세요.");
+        }
+        if (!parts[0].equals(String.valueOf(basDt))) {
+            throw new IllegalArgumentException("ETF 기준일이 변경되었습니다. 처음부터 다시 조회해주세요.");
+        }
+        try {
+            return Integer.parseInt(parts[4]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // 필터 값 해시 (목록 인덱스와 같은 정규화 - 대소문자/앞뒤 공백 차이는 같은 필터)
+    private static String filterFingerprint(String mrktCtg, String corpNm) {
+        String raw = EtfListIndex.normalize(mrktCtg) + "\u0000" + EtfListIndex.normalize(corpNm);
+        return Integer.toHexString(raw.hashCode());
+    }
+
+    // =========================== 유틸리티 메서드 ===========================
+
     private String getTextValue(JsonNode node, String fieldName) {
         JsonNode n = node.path(fieldName);
         if (n.isNull() || n.isMissingNode()) return null;
@@ -238,6 +410,19 @@ public class EtfService {
         }
     }
 
+    // "+1.25", "-0.41", "1.25%" 형식 허용
+    private BigDecimal parseToDecimal(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) return null;
+        String v = node.asText(null);
+        if (v == null || v.trim().isEmpty()) return null;
+        v = v.trim().replace(",", "").replace("+", "").replace("%", "");
+        try {
+            return new BigDecimal(v);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private String extractCompanyFromName(String etfName) {
         if (etfName == null || etfName.trim().isEmpty()) return "Unknown";
         String[] parts = etfName.trim().split("\\s+");
@@ -249,56 +434,31 @@ public class EtfService {
         return String.format("%02d:%02d:%02d", d.getSeconds()/3600, (d.getSeconds()%3600)/60, d.getSeconds()%60);
     }
 
-    private EtfDto.SyncResponse createFailureResponse(String syncType, int totalProcessed, int successCount,
-                                                      int failureCount, List<String> failureReasons, LocalDateTime startTime) {
+    private EtfDto.SyncResponse createResponse(String syncType, EtfChunkWriter writer, int failureCount,
+                                               List<String> failedDays, LocalDateTime startTime) {
         LocalDateTime endTime = LocalDateTime.now();
         return EtfDto.SyncResponse.builder()
                 .syncType(syncType)
-                .totalProcessed(totalProcessed)
-                .successCount(successCount)
+                .totalProcessed(writer.totalProcessed)
+                .successCount(writer.successCount)
                 .failureCount(failureCount)
-                .failureReasons(failureReasons)
+                .failureReasons(writer.failureReasons)
+                .failedDays(failedDays)
                 .startTime(startTime.toString())
                 .endTime(endTime.toString())
                 .duration(calculateDuration(startTime, endTime))
+                .durationMs(Duration.between(startTime, endTime).toMillis())
                 .build();
     }
 
     // 간단한 리스트 조회 (FE용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EtfDto.EtfSimpleListResponse getEtfSimpleList() {
-        // 최신 날짜의 데이터 조회
-        List<EtfProduct> etfList = etfProductRepository.findAllWithLatestDate();
-
-        // 만약 최신 데이터가 없다면 오늘 데이터 조회
-        String baseDate = null;
-        if (etfList.isEmpty()) {
-            baseDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            etfList = etfProductRepository.findByBasDt(baseDate);
-        } else {
-            baseDate = etfList.get(0).getBasDt(); // 첫 번째 항목의 기준일자
-        }
-
-        List<EtfDto.EtfListItemResponse> etfs = etfList.stream()
-                .map(this::convertToSimpleDto)
-                .toList();
-
+        EtfSnapshotHolder.Snapshot snapshot = etfSnapshotHolder.current();
         return EtfDto.EtfSimpleListResponse.builder()
-                .etfs(etfs)
-                .totalCount((long) etfs.size())
-                .baseDate(baseDate)
-                .build();
-    }
-
-    private EtfDto.EtfListItemResponse convertToSimpleDto(EtfProduct product) {
-        return EtfDto.EtfListItemResponse.builder()
-                .srtnCd(product.getSrtnCd())
-                .itmsNm(product.getItmsNm())
-                .corpNm(product.getCorpNm())
-                .clpr(product.getClpr())
-                .vs(product.getVs())
-                .fltRt(product.getFltRt())
-                .trqu(product.getTrqu())
-                .mrktTotAmt(product.getMrktTotAmt())
+                .etfs(snapshot.items())
+                .totalCount(snapshot.size())
+                .baseDate(snapshot.basDt())
                 .build();
     }
-}
\ No newline at end of file
+}
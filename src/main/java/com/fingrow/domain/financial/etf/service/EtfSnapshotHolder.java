@@ -0,0 +1,144 @@
+package com.fingrow.domain.financial.etf.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.entity.EtfProduct;
+import com.fingrow.domain.financial.etf.entity.EtfSnapshotPointer;
+import com.fingrow.domain.financial.etf.repository.EtfProductRepository;
+import com.fingrow.domain.financial.etf.repository.EtfSnapshotPointerRepository;
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import com.fingrow.domain.financial.sync.service.DatasetChangedEvent;
+import com.fingrow.global.util.SyncJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 최신 거래일 ETF 시세 스냅샷 (불변, 메모리)
+ * - 기동 시와 ETF 동기화 커밋 직후 포인터가 가리키는 기준일 데이터를 한 번 읽어 교체
+ *   (다른 인스턴스가 동기화한 경우 데이터셋 버전 변경을 보고 교체)
+ * - 목록 응답의 data 부분은 미리 JSON 으로 직렬화해 두고 그대로 내려줌
+ * - 페이지 조회용 정렬/필터 인덱스(EtfListIndex)도 함께 만들어 둠
+ * - 검색 인덱스 등이 이 스냅샷을 읽으므로 리스너 순서를 가장 앞(@Order(0))으로 둠
+ */
+@Slf4j
+@Component
+public class EtfSnapshotHolder {
+
+    public static final int LISTENER_ORDER = 0;
+
+    /**
+     * @param basDt        기준일자 (데이터가 없으면 null)
+     * @param products     상세 목록
+     * @param items        간단 목록
+     * @param productsJson EtfListResponse 직렬화 결과
+     * @param itemsJson    EtfSimpleListResponse 직렬화 결과
+     * @param listIndex    items 행 번호 기준 정렬/필터 인덱스
+     */
+    public record Snapshot(String basDt,
+                           List<EtfDto.EtfProductResponse> products,
+                           List<EtfDto.EtfListItemResponse> items,
+                           RawValue productsJson,
+                           RawValue itemsJson,
+                           EtfListIndex listIndex) {
+
+        public int size() {
+            return items.size();
+        }
+    }
+
+    private final EtfProductRepository etfProductRepository;
+    private final EtfSnapshotPointerRepository etfSnapshotPointerRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicReference<Snapshot> current;
+
+    public EtfSnapshotHolder(EtfProductRepository etfProductRepository,
+                             EtfSnapshotPointerRepository etfSnapshotPointerRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.etfProductRepository = etfProductRepository;
+        this.etfSnapshotPointerRepository = etfSnapshotPointerRepository;
+        this.objectMapper = objectMapper;
+        // 커밋 후 콜백에서 실행되므로 새 트랜잭션으로 읽음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.current = new AtomicReference<>(build(null, List.of()));
+    }
+
+    public Snapshot current() {
+        return current.get();
+    }
+
+    @Order(LISTENER_ORDER)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEtfSynced(EtfDataSyncedEvent event) {
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            rebuild();
+        }
+    }
+
+    @Order(LISTENER_ORDER)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() == DatasetVersion.Dataset.ETF) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        try {
+            Snapshot snapshot = readOnlyTransaction.execute(status -> {
+                // 포인터가 없으면 (이전 버전 데이터) 한 번만 MAX 로 찾음
+                String basDt = etfSnapshotPointerRepository.findById(EtfSnapshotPointer.LATEST)
+                        .map(EtfSnapshotPointer::getBasDt)
+                        .orElseGet(etfProductRepository::findLatestBasDt);
+                return build(basDt, basDt != null ? etfProductRepository.findByBasDt(basDt) : List.of());
+            });
+            current.set(snapshot);
+            log.info("ETF 스냅샷 갱신: 기준일 {}, {}개", snapshot.basDt(), snapshot.size());
+        } catch (Exception e) {
+            // 기존 스냅샷 유지
+            log.error("ETF 스냅샷 갱신 실패", e);
+        }
+    }
+
+    private Snapshot build(String basDt, List<EtfProduct> rows) {
+        List<EtfDto.EtfProductResponse> products = rows.stream().map(EtfDto.EtfProductResponse::from).toList();
+        List<EtfDto.EtfListItemResponse> items = rows.stream().map(EtfDto.EtfListItemResponse::from).toList();
+
+        try {
+            String productsJson = objectMapper.writeValueAsString(EtfDto.EtfListResponse.builder()
+                    .etfs(products)
+                    .totalCount(products.size())
+                    .build());
+            String itemsJson = objectMapper.writeValueAsString(EtfDto.EtfSimpleListResponse.builder()
+                    .etfs(items)
+                    .totalCount(items.size())
+                    .baseDate(basDt)
+                    .build());
+            return new Snapshot(basDt, products, items, new RawValue(productsJson), new RawValue(itemsJson),
+                    EtfListIndex.build(rows));
+        } catch (Exception e) {
+            throw new IllegalStateException("ETF 스냅샷 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
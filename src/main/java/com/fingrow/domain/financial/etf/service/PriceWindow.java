@@ -0,0 +1,122 @@
+package com.fingrow.domain.financial.etf.service;
+
+/**
+ * 최근 종가 고정 크기 링 버퍼
+ * - add 는 O(1), 가장 오래된 값을 덮어씀
+ * - 이동평균용 구간 합은 창 크기별로 누적해 두고 들어오고 나가는 값만 반영
+ */
+final class PriceWindow {
+
+    static final int CAPACITY = 252;
+
+    private static final int[] MA_WINDOWS = {5, 20, 60, 120};
+    private static final int VOLATILITY_WINDOW = 20;
+
+    private final long[] closes = new long[CAPACITY];
+    private final long[] sums = new long[MA_WINDOWS.length];
+    private int start;
+    private int size;
+
+    /**
+     * @param serialized 쉼표 구분 종가 (오래된 순), null 이면 빈 창
+     */
+    static PriceWindow parse(String serialized) {
+        PriceWindow window = new PriceWindow();
+        if (serialized != null && !serialized.isBlank()) {
+            for (String value : serialized.split(",")) {
+                window.add(Long.parseLong(value.trim()));
+            }
+        }
+        return window;
+    }
+
+    String serialize() {
+        StringBuilder sb = new StringBuilder(size * 8);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(closes[(start + i) % CAPACITY]);
+        }
+        return sb.toString();
+    }
+
+    void add(long close) {
+        // 창별 합: 새 값은 더하고, 창을 벗어나는 값은 뺌
+        for (int w = 0; w < MA_WINDOWS.length; w++) {
+            sums[w] += close;
+            if (size >= MA_WINDOWS[w]) {
+                sums[w] -= fromNewest(MA_WINDOWS[w] - 1);
+            }
+        }
+
+        if (size < CAPACITY) {
+            closes[(start + size) % CAPACITY] = close;
+            size++;
+        } else {
+            closes[start] = close;
+            start = (start + 1) % CAPACITY;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 0 = 가장 최근 값
+    long fromNewest(int offset) {
+        return closes[(start + size - 1 - offset) % CAPACITY];
+    }
+
+    /**
+     * @param window 5, 20, 60, 120 중 하나
+     * @return 데이터가 부족하면 null
+     */
+    Double movingAverage(int window) {
+        for (int w = 0; w < MA_WINDOWS.length; w++) {
+            if (MA_WINDOWS[w] == window) {
+                return size >= window ? (double) sums[w] / window : null;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이동평균 구간: " + window);
+    }
+
+    /**
+     * 최근 20거래일 일간 수익률 표준편차 (연율화, %)
+     */
+    Double volatility() {
+        if (size <= VOLATILITY_WINDOW) {
+            return null;
+        }
+        double sum = 0;
+        double sumSq = 0;
+        for (int i = 0; i < VOLATILITY_WINDOW; i++) {
+            long prev = fromNewest(i + 1);
+            if (prev == 0) {
+                return null;
+            }
+            double r = (double) fromNewest(i) / prev - 1;
+            sum += r;
+            sumSq += r * r;
+        }
+        double mean = sum / VOLATILITY_WINDOW;
+        double variance = Math.max(0, (sumSq - VOLATILITY_WINDOW * mean * mean) / (VOLATILITY_WINDOW - 1));
+        return Math.sqrt(variance) * Math.sqrt(CAPACITY) * 100;
+    }
+
+    long max() {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, closes[(start + i) % CAPACITY]);
+        }
+        return max;
+    }
+
+    long min() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, closes[(start + i) % CAPACITY]);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,82 @@
+package com.fingrow.domain.financial.search.controller;
+
+import com.fingrow.domain.financial.deposit.dto.CommonResponse;
+import com.fingrow.domain.financial.search.dto.AutocompleteResponse;
+import com.fingrow.domain.financial.search.dto.ProductSearchResponse;
+import com.fingrow.domain.financial.search.service.ProductSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/financial/search")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "상품 검색 API", description = "예금, 적금, ETF 통합 검색 API")
+public class ProductSearchController {
+
+    private final ProductSearchService productSearchService;
+
+    @GetMapping
+    @Operation(
+            summary = "통합 상품 검색",
+            description = "은행명/상품명/ETF명을 부분일치, 초성(예: ㄱㅁㅇㅎ), 접두어로 검색합니다. " +
+                    "예적금은 최고금리 순, ETF는 시가총액 순으로 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<CommonResponse<ProductSearchResponse>> search(
+            @Parameter(description = "검색 키워드", example = "국민", required = true)
+            @RequestParam @NotBlank(message = "검색 키워드는 필수입니다.") String keyword,
+            @Parameter(description = "그룹별 최대 결과 수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        try {
+            ProductSearchResponse result = productSearchService.search(keyword, limit);
+            return ResponseEntity.ok(
+                    CommonResponse.success(
+                            "'" + keyword + "'로 " + result.getTotalCount() + "개 상품을 찾았습니다.",
+                            result
+                    )
+            );
+        } catch (Exception e) {
+            log.error("통합 상품 검색 실패", e);
+            return ResponseEntity.internalServerError().body(
+                    CommonResponse.error("상품 검색에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(
+            summary = "상품명 자동완성",
+            description = "은행명/상품명/ETF명 접두어(초성 포함)에 대한 추천어를 금리 또는 시가총액 순으로 최대 10개 반환합니다. " +
+                    "DB를 조회하지 않으므로 입력마다 호출해도 됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<CommonResponse<AutocompleteResponse>> autocomplete(
+            @Parameter(description = "입력 중인 접두어 (최대 30자)", example = "국ㅁ", required = true)
+            @RequestParam @NotBlank(message = "접두어는 필수입니다.") @Size(max = 30) String prefix,
+            @Parameter(description = "최대 추천어 수 (최대 10)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(10) int limit) {
+        return ResponseEntity.ok(CommonResponse.success(productSearchService.autocomplete(prefix, limit)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.fingrow.domain.financial.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "자동완성 응답")
+public class AutocompleteResponse {
+    @Schema(description = "입력한 접두어")
+    private String prefix;
+
+    @Schema(description = "추천어 (가중치 높은순)")
+    private List<Suggestion> suggestions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Suggestion {
+        @Schema(description = "추천어", example = "국민은행")
+        private String text;
+
+        @Schema(description = "유형 (BANK, DEPOSIT, SAVING, ETF)", example = "BANK")
+        private String type;
+    }
+}
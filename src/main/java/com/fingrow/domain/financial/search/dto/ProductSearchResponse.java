@@ -0,0 +1,27 @@
+package com.fingrow.domain.financial.search.dto;
+
+import com.fingrow.domain.financial.deposit.dto.ProductSummaryDto;
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "통합 상품 검색 응답")
+public class ProductSearchResponse {
+    @Schema(description = "검색어")
+    private String keyword;
+
+    @Schema(description = "예금 + 적금 (최고금리 높은순)")
+    private List<ProductSummaryDto> products;
+
+    @Schema(description = "ETF (시가총액 큰순)")
+    private List<EtfDto.EtfListItemResponse> etfs;
+
+    @Schema(description = "총 결과 수")
+    private Integer totalCount;
+}
@@ -0,0 +1,161 @@
+package com.fingrow.domain.financial.search.service;
+
+import com.fingrow.global.util.HangulUtils;
+
+import java.util.*;
+
+/**
+ * 자동완성용 불변 접두어 트라이
+ * - 각 노드에 해당 접두어로 시작하는 상위 K개 후보 번호를 미리 저장
+ * - 조회는 접두어 길이만큼 노드를 내려가 저장된 목록을 읽는 것으로 끝남 (O(접두어 길이 + K))
+ * - 정규화된 이름과 초성 이름 두 경로로 등록하므로 "국민", "ㄱㅁ" 모두 "국민은행" 으로 이어짐
+ */
+public final class AutocompleteTrie {
+
+    /** 노드당 저장하는 후보 수 (응답 최대 개수) */
+    public static final int MAX_SUGGESTIONS = 10;
+    /** 색인/조회하는 접두어 최대 길이 */
+    public static final int MAX_PREFIX_LENGTH = 30;
+
+    private static final int[] NO_SUGGESTIONS = new int[0];
+
+    /**
+     * 자동완성 후보
+     *
+     * @param text  표시할 이름
+     * @param type  BANK, DEPOSIT, SAVING, ETF
+     * @param score 0~1 로 정규화한 가중치 (금리 또는 시가총액)
+     */
+    public record Entry(String text, String type, double score) {
+    }
+
+    private final Entry[] entries;
+    private final Node root;
+
+    private AutocompleteTrie(Entry[] entries, Node root) {
+        this.entries = entries;
+        this.root = root;
+    }
+
+    public static AutocompleteTrie empty() {
+        return new Builder().build();
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return 점수 내림차순 후보 (최대 min(limit, MAX_SUGGESTIONS)개)
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = HangulUtils.normalize(prefix);
+        if (key.isEmpty() || key.length() > MAX_PREFIX_LENGTH || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        int n = Math.min(limit, node.top.length);
+        List<Entry> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(entries[node.top[i]]);
+        }
+        return result;
+    }
+
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] top;
+
+        Node(char[] keys, Node[] children, int[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        // 같은 이름은 점수가 가장 높은 것 하나만 유지
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+        public Builder add(String text, String type, double score) {
+            if (text == null || text.isBlank()) {
+                return this;
+            }
+            String key = text.trim() + "|" + type;
+            Entry existing = entries.get(key);
+            if (existing == null || existing.score() < score) {
+                entries.put(key, new Entry(text.trim(), type, score));
+            }
+            return this;
+        }
+
+        public AutocompleteTrie build() {
+            Entry[] sorted = entries.values().toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingDouble(Entry::score).reversed());
+
+            MutableNode root = new MutableNode();
+            // 점수 내림차순으로 넣으므로 각 노드는 먼저 들어온 K개만 유지하면 됨
+            for (int id = 0; id < sorted.length; id++) {
+                String normalized = HangulUtils.normalize(sorted[id].text());
+                insert(root, normalized, id);
+                String choseong = HangulUtils.toChoseong(normalized);
+                if (!choseong.equals(normalized)) {
+                    insert(root, choseong, id);
+                }
+            }
+            return new AutocompleteTrie(sorted, root.freeze());
+        }
+
+        private static void insert(MutableNode root, String key, int id) {
+            MutableNode node = root;
+            int depth = Math.min(key.length(), MAX_PREFIX_LENGTH);
+            for (int i = 0; i < depth; i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+                node.offer(id);
+            }
+        }
+    }
+
+    private static final class MutableNode {
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private final List<Integer> top = new ArrayList<>(2);
+
+        void offer(int id) {
+            // 일반 경로와 초성 경로가 같은 노드를 지날 수 있어 중복 확인
+            if (top.size() < MAX_SUGGESTIONS && !top.contains(id)) {
+                top.add(id);
+            }
+        }
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                frozen[i] = child.getValue().freeze();
+                i++;
+            }
+            int[] ids = top.isEmpty() ? NO_SUGGESTIONS : top.stream().mapToInt(Integer::intValue).toArray();
+            return new Node(keys, frozen, ids);
+        }
+    }
+}
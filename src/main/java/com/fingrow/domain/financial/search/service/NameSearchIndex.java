@@ -0,0 +1,199 @@
+package com.fingrow.domain.financial.search.service;
+
+import com.fingrow.global.util.HangulUtils;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 이름 검색용 불변 인덱스
+ * - 문서는 가중치(금리, 시가총액 등) 내림차순으로 번호를 매기므로 결과가 항상 순위 순서로 나옴
+ * - 초성 문자열의 1/2-gram 역색인으로 후보를 좁히고, 원문과 위치별로 대조해 확정
+ * - 검색어의 자음(ㄱ, ㅁ ...)은 해당 위치 음절의 초성과, 나머지 문자는 원문과 비교
+ *   예) "ㄱㅁ", "국ㅁ", "국민" 모두 "국민은행" 과 일치
+ * - 한 글자 검색도 이전 LIKE '%x%' 와 같이 어느 위치든 일치 (1-gram 목록으로 후보를 좁힘)
+ *
+ * @param <T> 결과로 돌려줄 값
+ */
+public final class NameSearchIndex<T> {
+
+    private static final char FIELD_SEPARATOR = '\u0001';
+
+    private final List<T> payloads;
+    private final String[] texts;
+    private final String[] choseongs;
+    private final Map<Integer, int[]> postings;
+
+    private NameSearchIndex(List<T> payloads, String[] texts, String[] choseongs, Map<Integer, int[]> postings) {
+        this.payloads = payloads;
+        this.texts = texts;
+        this.choseongs = choseongs;
+        this.postings = postings;
+    }
+
+    public static <T> NameSearchIndex<T> empty() {
+        return new Builder<T>().build();
+    }
+
+    public int size() {
+        return payloads.size();
+    }
+
+    /**
+     * @param keyword 검색어 (공백/대소문자 무시)
+     * @param filter  결과 필터 (null 이면 전체)
+     * @param limit   최대 결과 수
+     * @return 가중치 내림차순 결과
+     */
+    public List<T> search(String keyword, Predicate<T> filter, int limit) {
+        String query = HangulUtils.normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String queryCho = HangulUtils.toChoseong(query);
+
+        int[][] lists = new int[Math.max(1, queryCho.length() - 1)][];
+        if (queryCho.length() == 1) {
+            lists[0] = postings.get(gram(queryCho.charAt(0)));
+        } else {
+            for (int i = 0; i < queryCho.length() - 1; i++) {
+                lists[i] = postings.get(gram(queryCho.charAt(i), queryCho.charAt(i + 1)));
+            }
+        }
+        for (int[] list : lists) {
+            if (list == null) {
+                return List.of();
+            }
+        }
+        // 가장 짧은 목록을 기준으로 교집합
+        Arrays.sort(lists, Comparator.comparingInt(a -> a.length));
+
+        List<T> result = new ArrayList<>(Math.min(limit, lists[0].length));
+        for (int doc : lists[0]) {
+            if (!inAll(lists, doc) || !matches(doc, query)) {
+                continue;
+            }
+            T payload = payloads.get(doc);
+            if (filter == null || filter.test(payload)) {
+                result.add(payload);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean inAll(int[][] lists, int doc) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i], doc) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(int doc, String query) {
+        String text = texts[doc];
+        String cho = choseongs[doc];
+        int last = text.length() - query.length();
+        for (int start = 0; start <= last; start++) {
+            if (matchesAt(text, cho, query, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAt(String text, String cho, String query, int start) {
+        for (int j = 0; j < query.length(); j++) {
+            char q = query.charAt(j);
+            char actual = HangulUtils.isChoseong(q) ? cho.charAt(start + j) : text.charAt(start + j);
+            if (actual != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int gram(char c) {
+        return c;
+    }
+
+    private static int gram(char a, char b) {
+        // 0x10000 이상은 2-gram (1-gram 과 겹치지 않음)
+        return ((a + 1) << 16) | b;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+        private final List<Document<T>> documents = new ArrayList<>();
+
+        /**
+         * @param weight 높을수록 앞 순위
+         * @param fields 검색 대상 이름들 (예: 은행명, 상품명)
+         */
+        public Builder<T> add(T payload, double weight, String... fields) {
+            StringBuilder text = new StringBuilder();
+            for (String field : fields) {
+                String normalized = HangulUtils.normalize(field);
+                if (!normalized.isEmpty()) {
+                    if (!text.isEmpty()) {
+                        text.append(FIELD_SEPARATOR);
+                    }
+                    text.append(normalized);
+                }
+            }
+            if (!text.isEmpty()) {
+                documents.add(new Document<>(payload, weight, text.toString()));
+            }
+            return this;
+        }
+
+        public NameSearchIndex<T> build() {
+            List<Document<T>> sorted = new ArrayList<>(documents);
+            // 안정 정렬: 가중치가 같으면 추가 순서 유지
+            sorted.sort(Comparator.comparingDouble((Document<T> d) -> d.weight()).reversed());
+
+            List<T> payloads = new ArrayList<>(sorted.size());
+            String[] texts = new String[sorted.size()];
+            String[] choseongs = new String[sorted.size()];
+            Map<Integer, List<Integer>> building = new HashMap<>();
+
+            for (int doc = 0; doc < sorted.size(); doc++) {
+                Document<T> d = sorted.get(doc);
+                payloads.add(d.payload());
+                texts[doc] = d.text();
+                choseongs[doc] = HangulUtils.toChoseong(d.text());
+
+                Set<Integer> grams = new HashSet<>();
+                String cho = choseongs[doc];
+                for (int i = 0; i < cho.length(); i++) {
+                    char a = cho.charAt(i);
+                    if (a == FIELD_SEPARATOR) {
+                        continue;
+                    }
+                    grams.add(gram(a));
+                    if (i + 1 < cho.length() && cho.charAt(i + 1) != FIELD_SEPARATOR) {
+                        grams.add(gram(a, cho.charAt(i + 1)));
+                    }
+                }
+                // doc 오름차순으로 추가되므로 목록은 자동으로 정렬됨
+                for (Integer g : grams) {
+                    building.computeIfAbsent(g, k -> new ArrayList<>()).add(doc);
+                }
+            }
+
+            Map<Integer, int[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((g, docs) -> postings.put(g, docs.stream().mapToInt(Integer::intValue).toArray()));
+
+            return new NameSearchIndex<>(List.copyOf(payloads), texts, choseongs, postings);
+        }
+    }
+
+    private record Document<T>(T payload, double weight, String text) {
+    }
+}
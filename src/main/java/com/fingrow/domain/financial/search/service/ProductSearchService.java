@@ -0,0 +1,227 @@
+package com.fingrow.domain.financial.search.service;
+
+import com.fingrow.domain.financial.deposit.dto.ProductSummaryDto;
+import com.fingrow.domain.financial.deposit.repository.DepositProductRepository;
+import com.fingrow.domain.financial.deposit.repository.SavingProductRepository;
+import com.fingrow.domain.financial.deposit.service.ProductCatalogSyncedEvent;
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.service.EtfDataSyncedEvent;
+import com.fingrow.domain.financial.etf.service.EtfService;
+import com.fingrow.domain.financial.etf.service.EtfSnapshotHolder;
+import com.fingrow.domain.financial.search.dto.AutocompleteResponse;
+import com.fingrow.domain.financial.search.dto.ProductSearchResponse;
+import com.fingrow.domain.financial.sync.service.DatasetChangedEvent;
+import com.fingrow.global.util.SyncJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 예금/적금/ETF 이름 검색 및 자동완성
+ * - 기동 시와 각 동기화 커밋 직후 인덱스를 새로 만들어 통째로 교체
+ *   (다른 인스턴스가 동기화한 경우 데이터셋 버전 변경을 보고 교체)
+ * - 검색/자동완성은 메모리 인덱스만 사용하며 DB 를 조회하지 않음
+ */
+@Slf4j
+@Service
+public class ProductSearchService {
+
+    // ETF 스냅샷 갱신 이후에 실행
+    private static final int INDEX_LISTENER_ORDER = EtfSnapshotHolder.LISTENER_ORDER + 10;
+
+    private final DepositProductRepository depositProductRepository;
+    private final SavingProductRepository savingProductRepository;
+    private final EtfService etfService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer searchTimer;
+    private final Timer autocompleteTimer;
+
+    private final AtomicReference<NameSearchIndex<ProductSummaryDto>> productIndex =
+            new AtomicReference<>(NameSearchIndex.empty());
+    private final AtomicReference<NameSearchIndex<EtfDto.EtfListItemResponse>> etfIndex =
+            new AtomicReference<>(NameSearchIndex.empty());
+    private final AtomicReference<AutocompleteTrie> productTrie = new AtomicReference<>(AutocompleteTrie.empty());
+    private final AtomicReference<AutocompleteTrie> etfTrie = new AtomicReference<>(AutocompleteTrie.empty());
+
+    public ProductSearchService(DepositProductRepository depositProductRepository,
+                                SavingProductRepository savingProductRepository,
+                                EtfService etfService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.depositProductRepository = depositProductRepository;
+        this.savingProductRepository = savingProductRepository;
+        this.etfService = etfService;
+        // 커밋 후 콜백에서 실행되므로 새 트랜잭션으로 읽음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchTimer = Timer.builder("product.search.latency")
+                .description("메모리 인덱스 검색 소요 시간")
+                .register(meterRegistry);
+        this.autocompleteTimer = Timer.builder("product.autocomplete.latency")
+                .description("자동완성 조회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    // =========================== 검색 ===========================
+
+    /**
+     * 예금/적금/ETF 통합 검색 (그룹별 최대 limit 개)
+     */
+    public ProductSearchResponse search(String keyword, int limit) {
+        return searchTimer.record(() -> {
+            List<ProductSummaryDto> products = productIndex.get().search(keyword, null, limit);
+            List<EtfDto.EtfListItemResponse> etfs = etfIndex.get().search(keyword, null, limit);
+            return ProductSearchResponse.builder()
+                    .keyword(keyword)
+                    .products(products)
+                    .etfs(etfs)
+                    .totalCount(products.size() + etfs.size())
+                    .build();
+        });
+    }
+
+    /**
+     * 예금 또는 적금만 검색
+     *
+     * @param productType "예금" 또는 "적금"
+     */
+    public List<ProductSummaryDto> searchProducts(String keyword, String productType, int limit) {
+        return searchTimer.record(() ->
+                productIndex.get().search(keyword, p -> productType.equals(p.getProductType()), limit));
+    }
+
+    /**
+     * 은행명/상품명/ETF명 자동완성
+     * - 예적금은 최고금리, ETF 는 시가총액 기준 점수(0~1)로 합쳐 상위 limit 개
+     */
+    public AutocompleteResponse autocomplete(String prefix, int limit) {
+        return autocompleteTimer.record(() -> {
+            int size = Math.min(limit, AutocompleteTrie.MAX_SUGGESTIONS);
+            List<AutocompleteTrie.Entry> merged = new ArrayList<>(size * 2);
+            merged.addAll(productTrie.get().suggest(prefix, size));
+            merged.addAll(etfTrie.get().suggest(prefix, size));
+            merged.sort(Comparator.comparingDouble(AutocompleteTrie.Entry::score).reversed());
+
+            List<AutocompleteResponse.Suggestion> suggestions = merged.stream()
+                    .limit(size)
+                    .map(e -> AutocompleteResponse.Suggestion.builder().text(e.text()).type(e.type()).build())
+                    .toList();
+
+            return AutocompleteResponse.builder()
+                    .prefix(prefix)
+                    .suggestions(suggestions)
+                    .build();
+        });
+    }
+
+    // =========================== 인덱스 갱신 ===========================
+
+    @Order(INDEX_LISTENER_ORDER)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildProducts();
+        rebuildEtfs();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogSynced(ProductCatalogSyncedEvent event) {
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            rebuildProducts();
+        }
+    }
+
+    @Order(INDEX_LISTENER_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEtfSynced(EtfDataSyncedEvent event) {
+        try (SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.INDEX)) {
+            rebuildEtfs();
+        }
+    }
+
+    @Order(INDEX_LISTENER_ORDER)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        switch (event.dataset()) {
+            case DEPOSIT, SAVING -> rebuildProducts();
+            case ETF -> rebuildEtfs();
+        }
+    }
+
+    public void rebuildProducts() {
+        try {
+            List<ProductSummaryDto> products = readOnlyTransaction.execute(status -> {
+                List<ProductSummaryDto> all = new ArrayList<>();
+                depositProductRepository.findAllSummaries().forEach(v -> all.add(ProductSummaryDto.from(v, "예금")));
+                savingProductRepository.findAllSummaries().forEach(v -> all.add(ProductSummaryDto.from(v, "적금")));
+                return all;
+            });
+
+            NameSearchIndex.Builder<ProductSummaryDto> builder = NameSearchIndex.builder();
+            for (ProductSummaryDto product : products) {
+                builder.add(product, product.getBestRate(), product.getBankName(), product.getProductName());
+            }
+            NameSearchIndex<ProductSummaryDto> index = builder.build();
+
+            // 자동완성 점수: 최고금리 / 전체 최고금리
+            double maxRate = products.stream().mapToDouble(ProductSummaryDto::getBestRate).max().orElse(0);
+            AutocompleteTrie.Builder trie = AutocompleteTrie.builder();
+            for (ProductSummaryDto product : products) {
+                double score = maxRate > 0 ? product.getBestRate() / maxRate : 0;
+                trie.add(product.getBankName(), "BANK", score);
+                trie.add(product.getProductName(), "예금".equals(product.getProductType()) ? "DEPOSIT" : "SAVING", score);
+            }
+
+            productIndex.set(index);
+            productTrie.set(trie.build());
+            log.info("예적금 검색 인덱스 갱신: {}건", index.size());
+        } catch (Exception e) {
+            // 기존 인덱스 유지
+            log.error("예적금 검색 인덱스 갱신 실패", e);
+        }
+    }
+
+    public void rebuildEtfs() {
+        try {
+            // 최신 거래일 스냅샷 사용 (EtfSnapshotHolder 가 먼저 갱신됨)
+            List<EtfDto.EtfListItemResponse> etfs = etfService.getEtfSimpleList().getEtfs();
+
+            NameSearchIndex.Builder<EtfDto.EtfListItemResponse> builder = NameSearchIndex.builder();
+            for (EtfDto.EtfListItemResponse etf : etfs) {
+                builder.add(etf, marketCapOf(etf), etf.getItmsNm(), etf.getCorpNm());
+            }
+            NameSearchIndex<EtfDto.EtfListItemResponse> index = builder.build();
+
+            // 자동완성 점수: 시가총액 로그 스케일 / 전체 최대 (편차가 커서 로그로 완화)
+            double maxLog = Math.log1p(etfs.stream().mapToDouble(this::marketCapOf).max().orElse(0));
+            AutocompleteTrie.Builder trie = AutocompleteTrie.builder();
+            for (EtfDto.EtfListItemResponse etf : etfs) {
+                trie.add(etf.getItmsNm(), "ETF", maxLog > 0 ? Math.log1p(marketCapOf(etf)) / maxLog : 0);
+            }
+
+            etfIndex.set(index);
+            etfTrie.set(trie.build());
+            log.info("ETF 검색 인덱스 갱신: {}건", index.size());
+        } catch (Exception e) {
+            log.error("ETF 검색 인덱스 갱신 실패", e);
+        }
+    }
+
+    private double marketCapOf(EtfDto.EtfListItemResponse etf) {
+        return etf.getMrktTotAmt() != null ? etf.getMrktTotAmt() : 0;
+    }
+}
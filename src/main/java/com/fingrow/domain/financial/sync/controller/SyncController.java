@@ -0,0 +1,104 @@
+package com.fingrow.domain.financial.sync.controller;
+
+import com.fingrow.domain.financial.deposit.dto.CommonResponse;
+import com.fingrow.domain.financial.sync.dto.SyncRunResponse;
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.entity.SyncRunStage;
+import com.fingrow.domain.financial.sync.repository.SyncRunRepository;
+import com.fingrow.domain.financial.sync.repository.SyncRunStageRepository;
+import com.fingrow.domain.financial.sync.service.SyncOrchestrator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "동기화 관리 API", description = "외부 데이터 정기 동기화 실행 및 이력 조회 API")
+public class SyncController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SyncOrchestrator syncOrchestrator;
+    private final SyncRunRepository syncRunRepository;
+    private final SyncRunStageRepository syncRunStageRepository;
+
+    @PostMapping("/{source}")
+    @Operation(
+            summary = "동기화 수동 실행",
+            description = "FINLIFE, KRX_ETF, BOND 중 하나를 백그라운드로 실행합니다. 다른 인스턴스가 실행 중이면 건너뜁니다."
+    )
+    public ResponseEntity<CommonResponse<SyncRunResponse>> runSync(
+            @Parameter(description = "동기화 소스", example = "KRX_ETF")
+            @PathVariable String source) {
+        SyncRun.Source target;
+        try {
+            target = SyncRun.Source.valueOf(source.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    CommonResponse.error("지원하지 않는 동기화 소스입니다: " + source + " (FINLIFE, KRX_ETF, BOND 중 선택)"));
+        }
+
+        SyncRun run = syncOrchestrator.submit(target, SyncRun.Trigger.MANUAL);
+        if (run == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    CommonResponse.error(target + " 동기화가 이미 실행 중입니다."));
+        }
+        return ResponseEntity.ok(CommonResponse.success(
+                target + " 동기화가 시작되었습니다. 결과는 실행 이력에서 확인하세요.", SyncRunResponse.from(run)));
+    }
+
+    @GetMapping("/runs")
+    @Operation(
+            summary = "동기화 실행 이력 조회",
+            description = "최근 동기화 실행 이력을 최신순으로 조회합니다."
+    )
+    public ResponseEntity<CommonResponse<List<SyncRunResponse>>> getRuns(
+            @Parameter(description = "동기화 소스 (없으면 전체)", example = "KRX_ETF")
+            @RequestParam(required = false) SyncRun.Source source,
+            @Parameter(description = "조회 건수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        PageRequest page = PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        List<SyncRun> runs = source != null
+                ? syncRunRepository.findBySourceOrderByStartedAtDesc(source, page)
+                : syncRunRepository.findAllByOrderByStartedAtDesc(page);
+
+        // 단계 계측은 한 번에 읽어 실행별로 묶음
+        Map<Long, List<SyncRunStage>> stagesByRun = syncRunStageRepository
+                .findByRunIdInOrderById(runs.stream().map(SyncRun::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(SyncRunStage::getRunId));
+
+        List<SyncRunResponse> response = runs.stream()
+                .map(run -> SyncRunResponse.from(run, stagesByRun.getOrDefault(run.getId(), List.of())))
+                .toList();
+        return ResponseEntity.ok(CommonResponse.success(response.size() + "건의 동기화 이력을 조회했습니다.", response));
+    }
+
+    @GetMapping("/runs/{id}")
+    @Operation(
+            summary = "동기화 실행 상세 조회",
+            description = "실행 하나의 결과와 단계별(FETCH, PARSE, DIFF, WRITE, INDEX) 시간, 바이트, 행 수, 오류 샘플을 조회합니다."
+    )
+    public ResponseEntity<CommonResponse<SyncRunResponse>> getRun(
+            @Parameter(description = "실행 ID", example = "1")
+            @PathVariable Long id) {
+        return syncRunRepository.findById(id)
+                .map(run -> ResponseEntity.ok(CommonResponse.success("동기화 실행 상세를 조회했습니다.",
+                        SyncRunResponse.from(run, syncRunStageRepository.findByRunIdOrderById(id)))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                        CommonResponse.error("동기화 실행 이력을 찾을 수 없습니다: " + id)));
+    }
+}
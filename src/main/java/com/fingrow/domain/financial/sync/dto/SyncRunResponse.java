@@ -0,0 +1,79 @@
+package com.fingrow.domain.financial.sync.dto;
+
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.entity.SyncRunStage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncRunResponse {
+    private Long id;
+    private String source;         // FINLIFE, KRX_ETF, BOND
+    private String triggerType;    // SCHEDULED, MANUAL, STARTUP
+    private String status;         // RUNNING, SUCCESS, FAILED
+    private String owner;          // 실행 인스턴스
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+    private String summary;
+    private String errorMessage;
+    private List<StageResponse> stages; // 단계별 계측 (실행 중이면 빈 목록)
+
+    public static SyncRunResponse from(SyncRun run) {
+        return from(run, List.of());
+    }
+
+    public static SyncRunResponse from(SyncRun run, List<SyncRunStage> stages) {
+        return SyncRunResponse.builder()
+                .id(run.getId())
+                .source(run.getSource().name())
+                .triggerType(run.getTriggerType().name())
+                .status(run.getStatus().name())
+                .owner(run.getOwner())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .durationMs(run.getDurationMs())
+                .summary(run.getSummary())
+                .errorMessage(run.getErrorMessage())
+                .stages(stages.stream().map(StageResponse::from).toList())
+                .build();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageResponse {
+        private String stage;          // FETCH, PARSE, DIFF, WRITE, INDEX
+        private long wallMs;           // 첫 시작 ~ 마지막 종료
+        private Long threadMs;         // 스레드별 시간 합 (이전 실행은 null)
+        private long bytes;            // 내려받은 바이트 (FETCH 만)
+        private long rowsIn;
+        private long rowsOut;
+        private long errorCount;
+        private List<String> errorSamples;
+
+        public static StageResponse from(SyncRunStage stage) {
+            return StageResponse.builder()
+                    .stage(stage.getStage().name())
+                    .wallMs(stage.getWallMs())
+                    .threadMs(stage.getThreadMs())
+                    .bytes(stage.getBytes())
+                    .rowsIn(stage.getRowsIn())
+                    .rowsOut(stage.getRowsOut())
+                    .errorCount(stage.getErrorCount())
+                    .errorSamples(stage.getErrorSamples() != null
+                            ? List.of(stage.getErrorSamples().split("\n"))
+                            : List.of())
+                    .build();
+        }
+    }
+}
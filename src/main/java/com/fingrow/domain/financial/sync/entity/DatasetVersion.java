@@ -0,0 +1,38 @@
+package com.fingrow.domain.financial.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터셋별 버전 표시
+ * - 동기화가 데이터를 쓰는 트랜잭션 안에서 함께 올리므로 데이터와 버전이 같이 커밋됨
+ * - 모든 인스턴스가 주기적으로 읽어 버전이 바뀌면 메모리 카탈로그/인덱스를 다시 만듦
+ *   (동기화 잠금을 얻지 못한 인스턴스도 재시작 없이 새 데이터를 봄)
+ */
+@Entity
+@Table(name = "dataset_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatasetVersion {
+
+    @Id
+    @Column(name = "name", length = 20)
+    private String name; // Dataset 이름
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Dataset {
+        DEPOSIT,  // 예금 카탈로그
+        SAVING,   // 적금 카탈로그
+        ETF       // 최신 ETF 시세
+    }
+}
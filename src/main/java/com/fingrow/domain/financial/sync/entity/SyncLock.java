@@ -0,0 +1,31 @@
+package com.fingrow.domain.financial.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 작업 임대(lease) 잠금
+ * - 여러 인스턴스가 떠 있어도 lockedUntil 이 지난 행을 조건부 UPDATE 로 먼저 차지한 인스턴스만 실행
+ * - 인스턴스가 죽어도 lockedUntil 이 지나면 다른 인스턴스가 다시 가져감
+ */
+@Entity
+@Table(name = "sync_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncLock {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name; // 작업 이름 (예: sync:KRX_ETF)
+
+    @Column(name = "owner", length = 100)
+    private String owner; // 잠금을 가진 인스턴스
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil; // 임대 만료 시각 (DB 시계 기준)
+}
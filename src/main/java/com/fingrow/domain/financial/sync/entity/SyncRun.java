@@ -0,0 +1,69 @@
+package com.fingrow.domain.financial.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 데이터 동기화 실행 이력
+ */
+@Entity
+@Table(name = "sync_runs", indexes = {
+        @Index(name = "idx_sync_run_source_started", columnList = "source, started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private Source source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type", nullable = false, length = 20)
+    private Trigger triggerType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "owner", length = 100)
+    private String owner; // 실행한 인스턴스
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "summary", length = 1000)
+    private String summary; // 결과 요약 (건수 등)
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public enum Source {
+        FINLIFE,  // 금융감독원 예금/적금
+        KRX_ETF,  // KRX ETF 시세
+        BOND      // 금융채 발행정보
+    }
+
+    public enum Trigger {
+        SCHEDULED, MANUAL, STARTUP
+    }
+
+    public enum Status {
+        RUNNING, SUCCESS, FAILED
+    }
+}
@@ -0,0 +1,66 @@
+package com.fingrow.domain.financial.sync.entity;
+
+import com.fingrow.global.util.SyncJournal;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 동기화 실행의 단계별 계측 (수집/파싱/비교/저장/인덱스)
+ */
+@Entity
+@Table(name = "sync_run_stages", indexes = {
+        @Index(name = "idx_sync_run_stage_run", columnList = "run_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncRunStage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 20)
+    private SyncJournal.Stage stage;
+
+    @Column(name = "wall_ms", nullable = false)
+    private Long wallMs; // 단계 첫 시작 ~ 마지막 종료 (실제 경과 시간)
+
+    @Column(name = "thread_ms")
+    private Long threadMs; // 스레드별 배타 시간의 합 (병렬 단계는 wall_ms 보다 클 수 있음)
+
+    @Column(name = "bytes", nullable = false)
+    private Long bytes; // 내려받은 바이트 (FETCH 단계만)
+
+    @Column(name = "rows_in", nullable = false)
+    private Long rowsIn;
+
+    @Column(name = "rows_out", nullable = false)
+    private Long rowsOut;
+
+    @Column(name = "error_count", nullable = false)
+    private Long errorCount;
+
+    @Column(name = "error_samples", columnDefinition = "TEXT")
+    private String errorSamples; // 줄바꿈 구분, 최대 SyncJournal.MAX_ERROR_SAMPLES 개
+
+    public static SyncRunStage of(Long runId, SyncJournal.Stage stage, SyncJournal.StageStats stats) {
+        return SyncRunStage.builder()
+                .runId(runId)
+                .stage(stage)
+                .wallMs(stats.wallMs())
+                .threadMs(stats.threadMs())
+                .bytes(stats.bytes())
+                .rowsIn(stats.rowsIn())
+                .rowsOut(stats.rowsOut())
+                .errorCount(stats.errors())
+                .errorSamples(stats.errorSamples().isEmpty() ? null : String.join("\n", stats.errorSamples()))
+                .build();
+    }
+}
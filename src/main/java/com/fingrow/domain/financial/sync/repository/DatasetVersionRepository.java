@@ -0,0 +1,22 @@
+package com.fingrow.domain.financial.sync.repository;
+
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DatasetVersionRepository extends JpaRepository<DatasetVersion, String> {
+
+    // 행이 없으면 1 로 생성, 있으면 1 증가 (행 잠금은 데이터 트랜잭션 커밋까지 유지)
+    @Modifying
+    @Query(value = "INSERT INTO dataset_versions (name, version, updated_at) VALUES (:name, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = NOW()",
+            nativeQuery = true)
+    int increment(@Param("name") String name);
+
+    @Query(value = "SELECT version FROM dataset_versions WHERE name = :name", nativeQuery = true)
+    Long findVersion(@Param("name") String name);
+}
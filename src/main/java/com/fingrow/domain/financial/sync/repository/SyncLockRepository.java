@@ -0,0 +1,39 @@
+package com.fingrow.domain.financial.sync.repository;
+
+import com.fingrow.domain.financial.sync.entity.SyncLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncLockRepository extends JpaRepository<SyncLock, String> {
+
+    // 잠금 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO sync_locks (name, locked_until) VALUES (:name, '1970-01-01 00:00:00')",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    // 만료된 잠금만 차지 (행 잠금으로 한 인스턴스만 1 을 받음, 내가 가진 잠금도 다시 얻지 않음)
+    @Modifying
+    @Query(value = "UPDATE sync_locks SET owner = :owner, " +
+            "locked_until = DATE_ADD(NOW(), INTERVAL :leaseSeconds SECOND) " +
+            "WHERE name = :name AND locked_until < NOW()",
+            nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // 아직 내가 가진 잠금의 임대 연장 (다른 인스턴스가 가져갔으면 0)
+    @Modifying
+    @Query(value = "UPDATE sync_locks SET locked_until = DATE_ADD(NOW(), INTERVAL :leaseSeconds SECOND) " +
+            "WHERE name = :name AND owner = :owner",
+            nativeQuery = true)
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query(value = "UPDATE sync_locks SET locked_until = DATE_SUB(NOW(), INTERVAL 1 SECOND) " +
+            "WHERE name = :name AND owner = :owner",
+            nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,16 @@
+package com.fingrow.domain.financial.sync.repository;
+
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SyncRunRepository extends JpaRepository<SyncRun, Long> {
+
+    List<SyncRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+
+    List<SyncRun> findBySourceOrderByStartedAtDesc(SyncRun.Source source, Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.fingrow.domain.financial.sync.repository;
+
+import com.fingrow.domain.financial.sync.entity.SyncRunStage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncRunStageRepository extends JpaRepository<SyncRunStage, Long> {
+
+    List<SyncRunStage> findByRunIdOrderById(Long runId);
+
+    List<SyncRunStage> findByRunIdInOrderById(Collection<Long> runIds);
+}
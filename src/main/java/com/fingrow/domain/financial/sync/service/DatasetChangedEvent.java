@@ -0,0 +1,12 @@
+package com.fingrow.domain.financial.sync.service;
+
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+
+/**
+ * 다른 인스턴스가 커밋한 데이터셋 버전을 발견했을 때 발행 (메모리 카탈로그/인덱스 재생성용)
+ *
+ * @param dataset 바뀐 데이터셋
+ * @param version 새 버전
+ */
+public record DatasetChangedEvent(DatasetVersion.Dataset dataset, long version) {
+}
@@ -0,0 +1,94 @@
+package com.fingrow.domain.financial.sync.service;
+
+import com.fingrow.domain.financial.sync.entity.DatasetVersion;
+import com.fingrow.domain.financial.sync.repository.DatasetVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 데이터셋 버전 발행/감시
+ * - 동기화한 인스턴스: 데이터 트랜잭션 안에서 bump() 로 버전을 올리고, 커밋 이벤트로 직접 메모리를 갱신
+ * - 나머지 인스턴스: poll-interval-ms 마다 버전을 읽어 바뀐 데이터셋에 대해 DatasetChangedEvent 발행
+ */
+@Slf4j
+@Service
+public class DatasetVersionService {
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이 인스턴스 메모리에 반영된 버전
+    private final Map<DatasetVersion.Dataset, Long> applied = new ConcurrentHashMap<>();
+
+    public DatasetVersionService(DatasetVersionRepository datasetVersionRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.datasetVersionRepository = datasetVersionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 데이터를 쓰는 트랜잭션 안에서 호출
+     *
+     * @return 새 버전
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long bump(DatasetVersion.Dataset dataset) {
+        datasetVersionRepository.increment(dataset.name());
+        long version = datasetVersionRepository.findVersion(dataset.name());
+        // 이 인스턴스는 커밋 이벤트 리스너가 갱신하므로 폴링에서 다시 만들지 않게 표시
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applied.merge(dataset, version, Math::max);
+            }
+        });
+        return version;
+    }
+
+    // 메모리 카탈로그/인덱스를 만들기 전에 현재 버전을 기록
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            datasetVersionRepository.findAll().forEach(row -> applied.put(dataset(row), row.getVersion()));
+        } catch (Exception e) {
+            log.error("데이터셋 버전 조회 실패", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${sync.version.poll-interval-ms:5000}",
+            fixedDelayString = "${sync.version.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            for (DatasetVersion row : datasetVersionRepository.findAll()) {
+                DatasetVersion.Dataset dataset = dataset(row);
+                Long previous = applied.get(dataset);
+                if (previous != null && previous >= row.getVersion()) {
+                    continue;
+                }
+                applied.merge(dataset, row.getVersion(), Math::max);
+                log.info("{} 데이터 버전 변경 감지: v{} → v{}", dataset, previous, row.getVersion());
+                eventPublisher.publishEvent(new DatasetChangedEvent(dataset, row.getVersion()));
+            }
+        } catch (Exception e) {
+            log.warn("데이터셋 버전 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private static DatasetVersion.Dataset dataset(DatasetVersion row) {
+        return DatasetVersion.Dataset.valueOf(row.getName());
+    }
+}
@@ -0,0 +1,104 @@
+package com.fingrow.domain.financial.sync.service;
+
+import com.fingrow.domain.financial.sync.repository.SyncLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 행 기반 분산 잠금
+ * - 만료 시각은 DB 시계(NOW())로 비교하므로 인스턴스 간 시계 차이에 영향받지 않음
+ * - 잠금 획득/연장/해제는 각각 별도 트랜잭션으로 바로 커밋
+ * - 재진입하지 않음: 같은 인스턴스에서 실행 중인 잠금은 메모리 표시로 먼저 거절하고, DB 도 만료된 잠금만 내줌
+ * - 가진 잠금은 heartbeat-seconds 마다 임대를 연장하므로 lease-minutes 보다 오래 걸리는 실행도 빼앗기지 않음
+ */
+@Slf4j
+@Service
+public class SyncLockService {
+
+    private final SyncLockRepository syncLockRepository;
+    private final TransactionTemplate lockTransaction;
+    private final String instanceId;
+
+    // 이 인스턴스가 가진 잠금 → 임대 기간
+    private final Map<String, Duration> held = new ConcurrentHashMap<>();
+
+    public SyncLockService(SyncLockRepository syncLockRepository, PlatformTransactionManager transactionManager) {
+        this.syncLockRepository = syncLockRepository;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.instanceId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * @return 잠금을 얻었으면 true (이 인스턴스가 이미 가진 잠금이면 false)
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        if (held.putIfAbsent(name, lease) != null) {
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            acquired = Boolean.TRUE.equals(lockTransaction.execute(status -> {
+                syncLockRepository.insertIfAbsent(name);
+                return syncLockRepository.tryAcquire(name, instanceId, lease.toSeconds()) == 1;
+            }));
+            return acquired;
+        } finally {
+            if (!acquired) {
+                held.remove(name);
+            }
+        }
+    }
+
+    public void release(String name) {
+        try {
+            Integer released = lockTransaction.execute(status -> syncLockRepository.release(name, instanceId));
+            if (released == null || released == 0) {
+                log.warn("잠금 해제 대상 없음 (이미 만료되어 다른 인스턴스가 가져감): {}", name);
+            }
+        } finally {
+            held.remove(name);
+        }
+    }
+
+    /**
+     * 실행 중인 잠금의 임대 연장
+     */
+    @Scheduled(fixedDelayString = "${sync.lock.heartbeat-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void renewHeld() {
+        held.forEach((name, lease) -> {
+            try {
+                Integer renewed = lockTransaction.execute(status ->
+                        syncLockRepository.renew(name, instanceId, lease.toSeconds()));
+                if (renewed == null || renewed == 0) {
+                    log.error("잠금 임대 연장 실패 - 다른 인스턴스가 가져감: {}", name);
+                }
+            } catch (Exception e) {
+                log.warn("잠금 임대 연장 중 오류: {} ({})", name, e.getMessage());
+            }
+        });
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.fingrow.domain.financial.sync.service;
+
+import com.fingrow.domain.financial.bond.repository.BondProductRepository;
+import com.fingrow.domain.financial.bond.service.BondSyncService;
+import com.fingrow.domain.financial.deposit.service.FinancialProductService;
+import com.fingrow.domain.financial.etf.dto.EtfDto;
+import com.fingrow.domain.financial.etf.service.EtfHistoryService;
+import com.fingrow.domain.financial.etf.service.EtfService;
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.entity.SyncRunStage;
+import com.fingrow.domain.financial.sync.repository.SyncRunRepository;
+import com.fingrow.domain.financial.sync.repository.SyncRunStageRepository;
+import com.fingrow.global.util.SyncJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 데이터 정기 동기화 오케스트레이터
+ * - 소스별 cron(Asia/Seoul)에 맞춰 0 ~ jitter 초 뒤에 실행해 여러 인스턴스/소스가 동시에 몰리지 않게 함
+ * - DB 임대 잠금(sync_locks)을 얻은 인스턴스 하나만 실행하고, 실행 이력은 sync_runs 에 남김
+ * - 단계별 시간/바이트/행 수/오류 샘플은 SyncJournal 로 모아 sync_run_stages 에 남김
+ * - 실제 동기화는 syncTaskExecutor 에서 돌려 스케줄러 스레드를 막지 않음
+ * - cron 을 "-" 로 두면 해당 소스 정기 동기화를 끔
+ * - 수동 동기화/백필/이력 정리 등 같은 테이블을 쓰는 작업도 모두 이 클래스를 거쳐 같은 잠금과 이력을 씀
+ */
+@Slf4j
+@Service
+public class SyncOrchestrator {
+
+    private final FinancialProductService financialProductService;
+    private final EtfService etfService;
+    private final EtfHistoryService etfHistoryService;
+    private final BondSyncService bondSyncService;
+    private final BondProductRepository bondProductRepository;
+    private final SyncLockService syncLockService;
+    private final SyncRunRepository syncRunRepository;
+    private final SyncRunStageRepository syncRunStageRepository;
+    private final TaskScheduler taskScheduler;
+    private final Executor syncTaskExecutor;
+
+    /**
+     * 작업 결과 (동기 실행용)
+     *
+     * @param run    실행 이력
+     * @param result 작업 반환값 (실패하면 null 일 수 있음)
+     */
+    public record Outcome<T>(SyncRun run, T result) {
+    }
+
+    @Value("${sync.schedule.jitter-seconds:120}")
+    private long jitterSeconds;
+
+    @Value("${sync.lock.lease-minutes:30}")
+    private long leaseMinutes;
+
+    public SyncOrchestrator(FinancialProductService financialProductService,
+                            EtfService etfService,
+                            EtfHistoryService etfHistoryService,
+                            BondSyncService bondSyncService,
+                            BondProductRepository bondProductRepository,
+                            SyncLockService syncLockService,
+                            SyncRunRepository syncRunRepository,
+                            SyncRunStageRepository syncRunStageRepository,
+                            TaskScheduler taskScheduler,
+                            @Qualifier("syncTaskExecutor") Executor syncTaskExecutor) {
+        this.financialProductService = financialProductService;
+        this.etfService = etfService;
+        this.etfHistoryService = etfHistoryService;
+        this.bondSyncService = bondSyncService;
+        this.bondProductRepository = bondProductRepository;
+        this.syncLockService = syncLockService;
+        this.syncRunRepository = syncRunRepository;
+        this.syncRunStageRepository = syncRunStageRepository;
+        this.taskScheduler = taskScheduler;
+        this.syncTaskExecutor = syncTaskExecutor;
+    }
+
+    // =========================== 정기 실행 ===========================
+
+    // 금융감독원 금융상품 공시 갱신 이후 (기본: 평일 10시)
+    @Scheduled(cron = "${sync.schedule.finlife.cron:0 0 10 * * MON-FRI}", zone = "Asia/Seoul")
+    public void scheduleFinlife() {
+        scheduleWithJitter(SyncRun.Source.FINLIFE);
+    }
+
+    // 장 마감(15:30) 이후, 게시 지연분은 etf.sync.lookback-days 로 다시 받음 (기본: 평일 18시)
+    @Scheduled(cron = "${sync.schedule.krx-etf.cron:0 0 18 * * MON-FRI}", zone = "Asia/Seoul")
+    public void scheduleKrxEtf() {
+        scheduleWithJitter(SyncRun.Source.KRX_ETF);
+    }
+
+    // 채권 발행정보 (기본: 평일 19시)
+    @Scheduled(cron = "${sync.schedule.bond.cron:0 0 19 * * MON-FRI}", zone = "Asia/Seoul")
+    public void scheduleBond() {
+        scheduleWithJitter(SyncRun.Source.BOND);
+    }
+
+    // ETF 시세 이력 정리 (기본: 일요일 4시), 같은 테이블을 쓰므로 ETF 동기화 잠금으로 실행
+    @Scheduled(cron = "${etf.history.compaction-cron:0 0 4 * * SUN}", zone = "Asia/Seoul")
+    public void scheduleEtfHistoryCompaction() {
+        run(SyncRun.Source.KRX_ETF, SyncRun.Trigger.SCHEDULED, etfHistoryService::compact);
+    }
+
+    // 채권 테이블이 비어 있으면 기동 직후 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncEmptySourcesOnStartup() {
+        if (bondProductRepository.count() == 0) {
+            submit(SyncRun.Source.BOND, SyncRun.Trigger.STARTUP);
+        }
+    }
+
+    private void scheduleWithJitter(SyncRun.Source source) {
+        long delayMs = jitterSeconds > 0 ? ThreadLocalRandom.current().nextLong(jitterSeconds * 1000) : 0;
+        log.info("{} 정기 동기화 예약: {}초 후", source, delayMs / 1000);
+        taskScheduler.schedule(() -> submit(source, SyncRun.Trigger.SCHEDULED),
+                Instant.now().plusMillis(delayMs));
+    }
+
+    /**
+     * 잠금과 실행 이력(RUNNING)을 먼저 잡고 실제 동기화는 백그라운드로 실행
+     *
+     * @return 실행 이력 (이미 실행 중이면 null)
+     */
+    public SyncRun submit(SyncRun.Source source, SyncRun.Trigger trigger) {
+        return submit(source, trigger, defaultTask(source));
+    }
+
+    /**
+     * 정기 동기화 외의 작업(백필 등)을 같은 소스 잠금으로 백그라운드 실행
+     *
+     * @return 실행 이력 (이미 실행 중이면 null)
+     */
+    public SyncRun submit(SyncRun.Source source, SyncRun.Trigger trigger, Callable<?> task) {
+        SyncRun run = begin(source, trigger);
+        if (run == null) {
+            return null;
+        }
+        try {
+            syncTaskExecutor.execute(() -> complete(run, task));
+        } catch (RuntimeException e) {
+            // 실행기가 가득 찬 경우 잠금과 이력을 바로 정리
+            finish(run, SyncRun.Status.FAILED, null, "동기화 작업 대기열이 가득 찼습니다", null);
+            throw e;
+        }
+        return run;
+    }
+
+    // =========================== 실행 ===========================
+
+    /**
+     * @return 실행 이력 (이미 실행 중이면 null)
+     */
+    public SyncRun run(SyncRun.Source source, SyncRun.Trigger trigger) {
+        Outcome<?> outcome = run(source, trigger, defaultTask(source));
+        return outcome != null ? outcome.run() : null;
+    }
+
+    /**
+     * 같은 소스 잠금으로 현재 스레드에서 실행하고 결과까지 반환
+     *
+     * @return 실행 결과 (이미 실행 중이면 null)
+     */
+    public <T> Outcome<T> run(SyncRun.Source source, SyncRun.Trigger trigger, Callable<T> task) {
+        SyncRun run = begin(source, trigger);
+        return run != null ? complete(run, task) : null;
+    }
+
+    private SyncRun begin(SyncRun.Source source, SyncRun.Trigger trigger) {
+        if (!syncLockService.tryAcquire(lockName(source), Duration.ofMinutes(leaseMinutes))) {
+            log.info("{} 동기화 건너뜀 - 이미 실행 중", source);
+            return null;
+        }
+
+        try {
+            return syncRunRepository.save(SyncRun.builder()
+                    .source(source)
+                    .triggerType(trigger)
+                    .status(SyncRun.Status.RUNNING)
+                    .owner(syncLockService.instanceId())
+                    .startedAt(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            syncLockService.release(lockName(source));
+            throw e;
+        }
+    }
+
+    private <T> Outcome<T> complete(SyncRun run, Callable<T> task) {
+        // 하위 서비스와 커밋 후 인덱스 리스너가 이 스레드의 저널에 단계별로 기록
+        SyncJournal journal = SyncJournal.begin();
+        SyncRun.Status status = SyncRun.Status.FAILED;
+        String summary = null;
+        String errorMessage = null;
+        T result = null;
+        try {
+            result = task.call();
+            summary = summarize(result);
+            errorMessage = failureOf(result);
+            status = errorMessage == null ? SyncRun.Status.SUCCESS : SyncRun.Status.FAILED;
+        } catch (Exception e) {
+            log.error("{} 동기화 실패", run.getSource(), e);
+            errorMessage = e.getMessage();
+        } finally {
+            SyncJournal.end();
+            finish(run, status, summary, errorMessage, journal);
+        }
+
+        log.info("{} 동기화 {} ({}ms)", run.getSource(), run.getStatus(), run.getDurationMs());
+        return new Outcome<>(run, result);
+    }
+
+    private void finish(SyncRun run, SyncRun.Status status, String summary, String errorMessage, SyncJournal journal) {
+        try {
+            run.setStatus(status);
+            run.setSummary(truncate(summary));
+            run.setErrorMessage(truncate(errorMessage));
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMs(Duration.between(run.getStartedAt(), run.getFinishedAt()).toMillis());
+            syncRunRepository.save(run);
+            if (journal != null) {
+                saveStages(run.getId(), journal);
+            }
+        } catch (Exception e) {
+            log.error("{} 동기화 이력 저장 실패 (runId={})", run.getSource(), run.getId(), e);
+        } finally {
+            syncLockService.release(lockName(run.getSource()));
+        }
+    }
+
+    private void saveStages(Long runId, SyncJournal journal) {
+        List<SyncRunStage> stages = new ArrayList<>();
+        journal.stages().forEach((stage, stats) -> {
+            if (!stats.isEmpty()) {
+                stages.add(SyncRunStage.of(runId, stage, stats));
+            }
+        });
+        syncRunStageRepository.saveAll(stages);
+
+        if (log.isDebugEnabled()) {
+            stages.forEach(s -> log.debug("  {} {}ms (스레드 합 {}ms), {}bytes, rows {} -> {}, 오류 {}",
+                    s.getStage(), s.getWallMs(), s.getThreadMs(), s.getBytes(), s.getRowsIn(), s.getRowsOut(),
+                    s.getErrorCount()));
+        }
+    }
+
+    private Callable<?> defaultTask(SyncRun.Source source) {
+        return switch (source) {
+            case FINLIFE -> () -> List.of(
+                    financialProductService.syncDepositProducts(),
+                    financialProductService.syncSavingProducts());
+            case KRX_ETF -> etfService::syncAllEtfData;
+            case BOND -> bondSyncService::syncBonds;
+        };
+    }
+
+    private static String summarize(Object result) {
+        if (result instanceof EtfDto.SyncResponse response) {
+            String summary = String.format("처리 %d, 성공 %d, 실패 %d",
+                    response.getTotalProcessed(), response.getSuccessCount(), response.getFailureCount());
+            if (response.getFailedDays() != null && !response.getFailedDays().isEmpty()) {
+                summary += ", 실패일 " + String.join(",", response.getFailedDays());
+            }
+            return summary;
+        }
+        return result != null ? result.toString() : null;
+    }
+
+    // 예외 없이 끝났지만 실패로 기록할 결과 (ETF 는 실패 사유를 응답에 담아 반환)
+    private static String failureOf(Object result) {
+        if (result instanceof EtfDto.SyncResponse response
+                && response.getSuccessCount() == 0 && response.getFailureCount() > 0) {
+            return "ETF 동기화 실패: " + response.getFailureReasons();
+        }
+        return null;
+    }
+
+    private static String lockName(SyncRun.Source source) {
+        return "sync:" + source.name();
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 1000 ? value.substring(0, 1000) : value;
+    }
+}
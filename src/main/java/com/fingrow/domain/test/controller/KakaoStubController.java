@@ -0,0 +1,56 @@
+package com.fingrow.domain.test.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 카카오 스텁 (kakao.stub.enabled=true 일 때만 등록)
+ * - kakao.api.auth-base-url / api-base-url 을 http://localhost:8080/kakao-stub 으로 두고 사용
+ * - 응답은 kakao.stub.latency-ms 만큼 지연하되 스레드를 잡지 않음 (Mono.delay)
+ * - 같은 토큰이면 같은 사용자 ID를 돌려주므로 신규 가입/기존 로그인 경로를 모두 재현 가능
+ */
+@Hidden
+@RestController
+@RequestMapping("/kakao-stub")
+@ConditionalOnProperty(name = "kakao.stub.enabled", havingValue = "true")
+public class KakaoStubController {
+
+    @Value("${kakao.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @PostMapping(value = "/oauth/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public Mono<Map<String, Object>> token(@RequestParam("code") String code) {
+        return Mono.delay(Duration.ofMillis(latencyMs))
+                .thenReturn(Map.of(
+                        "token_type", "bearer",
+                        "access_token", "stub-" + code,
+                        "expires_in", 21599));
+    }
+
+    @GetMapping("/v2/user/me")
+    public Mono<ResponseEntity<Map<String, Object>>> userInfo(
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return Mono.just(ResponseEntity.status(401).body(Map.of("code", -401, "msg", "this access token does not exist")));
+        }
+
+        long id = Integer.toUnsignedLong(authorization.substring("Bearer ".length()).hashCode());
+        Map<String, Object> body = Map.of(
+                "id", id,
+                "kakao_account", Map.of(
+                        "email", "stub" + id + "@example.com",
+                        "profile", Map.of(
+                                "nickname", "stub" + id,
+                                "profile_image_url", "http://localhost/stub.png")));
+        return Mono.delay(Duration.ofMillis(latencyMs))
+                .thenReturn(ResponseEntity.ok(body));
+    }
+}
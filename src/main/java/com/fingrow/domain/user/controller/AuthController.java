@@ -3,8 +3,8 @@ package com.fingrow.domain.user.controller;
 import com.fingrow.domain.user.dto.AuthDto;
 import com.fingrow.domain.user.entity.User;
 import com.fingrow.domain.user.repository.UserRepository;
+import com.fingrow.domain.user.service.AuthTokenService;
 import com.fingrow.domain.user.service.KakaoOAuthService;
-import com.fingrow.global.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,55 +31,85 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final KakaoOAuthService kakaoOAuthService;
+    private final AuthTokenService authTokenService;
 
     @Operation(summary = "카카오 로그인", description = "플러터에서 받은 카카오 액세스 토큰으로 로그인합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그인 성공",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(example = "{\"accessToken\": \"eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...\", \"user\": {\"id\": 1, \"email\": \"user@example.com\", \"name\": \"홍길동\", \"profileImage\": \"profile_url\", \"provider\": \"KAKAO\", \"role\": \"USER\"}}"))),
+                            schema = @Schema(example = "{\"accessToken\": \"eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...\", \"refreshToken\": \"eyJhbGciOiJIUzI1NiJ9...\", \"user\": {\"id\": 1, \"email\": \"user@example.com\", \"name\": \"홍길동\", \"profileImage\": \"profile_url\", \"provider\": \"KAKAO\", \"role\": \"USER\"}}"))),
             @ApiResponse(responseCode = "400", description = "잘못된 액세스 토큰 또는 로그인 실패")
     })
     @PostMapping(value = "/kakao", consumes = {"application/json", "application/x-www-form-urlencoded"})
-    public ResponseEntity<?> kakaoLogin(
+    public Mono<ResponseEntity<?>> kakaoLogin(
             @Parameter(description = "카카오 액세스 토큰", required = true,
                     schema = @Schema(example = "{\"accessToken\": \"kakao_access_token_from_flutter\"}"))
             @RequestBody AuthDto.KakaoLoginRequest request) {
-        try {
-            String kakaoAccessToken = request.getAccessToken();
-
-            if (kakaoAccessToken == null || kakaoAccessToken.isEmpty()) {
-                return ResponseEntity.badRequest().body("Kakao access token is required");
-            }
+        String kakaoAccessToken = request.getAccessToken();
 
-            // 카카오 액세스 토큰으로 사용자 정보 조회 및 처리
-            User user = kakaoOAuthService.processKakaoLoginWithToken(kakaoAccessToken);
+        if (kakaoAccessToken == null || kakaoAccessToken.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body("Kakao access token is required"));
+        }
 
-            // 서버 JWT 토큰 생성
-            String accessToken = jwtUtil.generateAccessToken(user.getId().toString());
+        // 카카오 호출을 기다리는 동안 요청 스레드를 반납 (응답은 비동기로 씀)
+        return kakaoOAuthService.processKakaoLoginWithToken(kakaoAccessToken)
+                .<ResponseEntity<?>>map(user -> {
+                    // 서버 JWT 토큰 생성 (리프레시 토큰은 메모리 저장소에만 기록되므로 블로킹 없음)
+                    AuthTokenService.TokenPair tokens = authTokenService.issue(user.getId());
 
-            // 응답 생성
-            AuthDto.LoginResponse response = AuthDto.LoginResponse.builder()
-                    .accessToken(accessToken)
-                    .user(AuthDto.UserInfo.builder()
-                            .id(user.getId())
-                            .email(user.getEmail())
-                            .name(user.getName())
-                            .profileImage(user.getProfileImage())
-                            .provider(user.getProvider().name())
-                            .role(user.getRole().name())
-                            .build())
-                    .build();
+                    // 응답 생성
+                    AuthDto.LoginResponse response = AuthDto.LoginResponse.builder()
+                            .accessToken(tokens.accessToken())
+                            .refreshToken(tokens.refreshToken())
+                            .user(AuthDto.UserInfo.builder()
+                                    .id(user.getId())
+                                    .email(user.getEmail())
+                                    .name(user.getName())
+                                    .profileImage(user.getProfileImage())
+                                    .provider(user.getProvider().name())
+                                    .role(user.getRole().name())
+                                    .build())
+                            .build();
 
-            return ResponseEntity.ok(response);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> {
+                    log.error("Kakao login failed", e);
+                    return Mono.just(ResponseEntity.badRequest().body("로그인에 실패했습니다: " + e.getMessage()));
+                });
+    }
 
-        } catch (Exception e) {
-            log.error("Kakao login failed", e);
-            return ResponseEntity.badRequest().body("로그인에 실패했습니다: " + e.getMessage());
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새 액세스/리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 더 이상 쓸 수 없습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "갱신 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = "{\"accessToken\": \"eyJhbGciOiJIUzI1NiJ9...\", \"refreshToken\": \"eyJhbGciOiJIUzI1NiJ9...\"}"))),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 리프레시 토큰")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody AuthDto.RefreshRequest request) {
+        try {
+            AuthTokenService.TokenPair tokens = authTokenService.refresh(request.getRefreshToken());
+            return ResponseEntity.ok(AuthDto.TokenResponse.builder()
+                    .accessToken(tokens.accessToken())
+                    .refreshToken(tokens.refreshToken())
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
     }
 
+    @Operation(summary = "로그아웃", description = "리프레시 토큰과 같은 계열의 토큰을 모두 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody AuthDto.RefreshRequest request) {
+        try {
+            authTokenService.logout(request.getRefreshToken());
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -23,6 +23,7 @@ public class AuthDto {
     @AllArgsConstructor
     public static class LoginResponse {
         private String accessToken;
+        private String refreshToken;
         private UserInfo user;
     }
 
@@ -47,4 +48,21 @@ public class AuthDto {
         private String accessToken;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshRequest {
+        private String refreshToken;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TokenResponse {
+        private String accessToken;
+        private String refreshToken;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.fingrow.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 상태 (토큰 원문은 저장하지 않고 jti 로 식별)
+ * - 한 번 로그인하면 계열(family)이 생기고, 교체할 때마다 같은 계열에 새 토큰이 추가됨
+ * - 상태는 ACTIVE → ROTATED → REVOKED 순으로만 바뀜
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires", columnList = "expires_at"),
+        @Index(name = "idx_refresh_token_updated", columnList = "updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId; // jti
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 선언 순서가 진행 순서 (ordinal 이 큰 쪽이 최신 상태)
+    public enum Status {
+        ACTIVE,   // 사용 가능
+        ROTATED,  // 새 토큰으로 교체됨 (다시 쓰이면 탈취로 보고 계열 전체 폐기)
+        REVOKED   // 로그아웃/재사용 감지로 폐기
+    }
+}
@@ -0,0 +1,69 @@
+package com.fingrow.domain.user.repository;
+
+import com.fingrow.domain.user.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 상태 write-behind 적재용 JDBC 리포지토리
+ * - token_id 기준 upsert, 상태는 ACTIVE → ROTATED → REVOKED 로만 진행 (늦게 도착한 이전 상태로 되돌리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO refresh_tokens " +
+            "(token_id, user_id, family_id, status, expires_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "status = CASE " +
+            "  WHEN status = 'REVOKED' THEN status " +
+            "  WHEN status = 'ROTATED' AND VALUES(status) = 'ACTIVE' THEN status " +
+            "  ELSE VALUES(status) END, " +
+            "updated_at = VALUES(updated_at)";
+
+    // 다른 인스턴스와 동시에 교체해도 한 쪽만 1행을 바꿈
+    private static final String MARK_ROTATED_SQL =
+            "UPDATE refresh_tokens SET status = 'ROTATED', updated_at = ? " +
+            "WHERE token_id = ? AND status = 'ACTIVE'";
+
+    private static final String REVOKE_FAMILY_SQL =
+            "UPDATE refresh_tokens SET status = 'REVOKED', updated_at = ? " +
+            "WHERE family_id = ? AND status <> 'REVOKED'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 바뀐 행 수 (0 이면 이미 교체/폐기되었거나 아직 적재 전인 토큰)
+     */
+    public int markRotated(String tokenId, LocalDateTime updatedAt) {
+        return jdbcTemplate.update(MARK_ROTATED_SQL, Timestamp.valueOf(updatedAt), tokenId);
+    }
+
+    /**
+     * @return 새로 폐기된 행 수
+     */
+    public int revokeFamily(String familyId, LocalDateTime updatedAt) {
+        return jdbcTemplate.update(REVOKE_FAMILY_SQL, Timestamp.valueOf(updatedAt), familyId);
+    }
+
+    public void upsertAll(List<RefreshToken> tokens) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, tokens, BATCH_SIZE, (ps, token) -> {
+            ps.setString(1, token.getTokenId());
+            ps.setLong(2, token.getUserId());
+            ps.setString(3, token.getFamilyId());
+            ps.setString(4, token.getStatus().name());
+            ps.setTimestamp(5, Timestamp.valueOf(token.getExpiresAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(token.getCreatedAt()));
+            ps.setTimestamp(7, token.getUpdatedAt() != null ? Timestamp.valueOf(token.getUpdatedAt()) : null);
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.fingrow.domain.user.repository;
+
+import com.fingrow.domain.user.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 기동 시 메모리 인덱스 적재용
+    List<RefreshToken> findByExpiresAtAfter(LocalDateTime now);
+
+    List<RefreshToken> findByFamilyId(String familyId);
+
+    // 다른 인스턴스가 바꾼 상태를 메모리 인덱스에 반영하기 위한 조회
+    List<RefreshToken> findByUpdatedAtAfter(LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
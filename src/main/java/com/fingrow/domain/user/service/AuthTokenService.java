@@ -0,0 +1,83 @@
+package com.fingrow.domain.user.service;
+
+import com.fingrow.domain.user.entity.RefreshToken;
+import com.fingrow.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 액세스/리프레시 토큰 발급과 교체
+ * - 로그인할 때 새 계열(family)로 리프레시 토큰을 발급하고, 갱신할 때마다 같은 계열의 새 토큰으로 교체
+ * - 이미 교체된 리프레시 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기 (다시 로그인해야 함)
+ * - 갱신 경로는 서명 검증 한 번과 RefreshTokenStore 메모리 조회만으로 끝남
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthTokenService {
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+
+    public record TokenPair(String accessToken, String refreshToken) {
+    }
+
+    /**
+     * 로그인 직후 새 계열로 발급
+     */
+    public TokenPair issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    public TokenPair refresh(String refreshToken) {
+        Claims claims = verify(refreshToken);
+        RefreshTokenStore.TokenState state = refreshTokenStore.find(claims.getId())
+                .filter(s -> s.userId().toString().equals(claims.getSubject()))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (state.status() == RefreshToken.Status.REVOKED) {
+            throw new IllegalArgumentException("폐기된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+        if (!refreshTokenStore.rotate(state.tokenId())) {
+            int revoked = refreshTokenStore.revokeFamily(state.familyId());
+            log.warn("리프레시 토큰 재사용 감지 - 계열 폐기: userId={}, familyId={}, 폐기 {}개",
+                    state.userId(), state.familyId(), revoked);
+            throw new IllegalArgumentException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+
+        return issue(state.userId(), state.familyId());
+    }
+
+    /**
+     * 로그아웃: 해당 계열의 리프레시 토큰을 모두 폐기 (이미 발급된 액세스 토큰은 만료까지 유효)
+     */
+    public void logout(String refreshToken) {
+        Claims claims = verify(refreshToken);
+        refreshTokenStore.find(claims.getId())
+                .ifPresent(state -> refreshTokenStore.revokeFamily(state.familyId()));
+    }
+
+    private TokenPair issue(Long userId, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        String accessToken = jwtUtil.generateAccessToken(userId.toString());
+        String refreshToken = jwtUtil.generateRefreshToken(userId.toString(), tokenId, familyId);
+        refreshTokenStore.add(tokenId, userId, familyId,
+                LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTokenValidityInSeconds()));
+        return new TokenPair(accessToken, refreshToken);
+    }
+
+    private Claims verify(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("리프레시 토큰이 필요합니다.");
+        }
+        return jwtUtil.parseVerifiedClaims(refreshToken)
+                .filter(JwtUtil::isRefreshToken)
+                .filter(claims -> claims.getId() != null)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+    }
+}
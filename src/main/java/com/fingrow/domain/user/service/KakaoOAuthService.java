@@ -2,96 +2,87 @@ package com.fingrow.domain.user.service;
 
 import com.fingrow.domain.user.entity.User;
 import com.fingrow.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.fingrow.global.http.UpstreamGuard;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.Map;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 카카오 로그인
+ * - 앱에서 받은 카카오 액세스 토큰으로 사용자 정보를 조회해 회원가입 또는 로그인 처리
+ * - 사용자 조회는 카카오 전용 WebClient 로 논블로킹 호출하고, 타임아웃은 UpstreamGuard 안에서 걸어 실패로 집계
+ * - 사용자 저장(JPA)만 loginTaskExecutor 에서 실행하므로 요청 스레드는 카카오 응답을 기다리며 붙잡히지 않음
+ * - kakao.api.*-base-url 을 로컬 스텁(/kakao-stub)으로 바꾸면 카카오 없이 부하 테스트 가능
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoOAuthService {
 
-    private final UserRepository userRepository;
-    private final WebClient webClient;
-
-    @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
-    private String clientId;
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_MAP = new ParameterizedTypeReference<>() {
+    };
 
-    @Value("${spring.security.oauth2.client.registration.kakao.client-secret}")
-    private String clientSecret;
-
-    @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
-    private String redirectUri;
+    private final UserRepository userRepository;
+    private final WebClient kakaoWebClient;
+    private final Scheduler loginScheduler;
 
-    public User processKakaoLogin(String authorizationCode) {
-        // 1. 인가 코드로 액세스 토큰 획득
-        String accessToken = getKakaoAccessToken(authorizationCode);
+    @Value("${kakao.api.api-base-url:https://kapi.kakao.com}")
+    private String apiBaseUrl;
 
-        // 2. 액세스 토큰으로 사용자 정보 조회
-        Map<String, Object> userInfo = getKakaoUserInfo(accessToken);
+    @Value("${kakao.api.user-info-timeout-ms:3000}")
+    private long userInfoTimeoutMs;
 
-        // 3. 사용자 정보로 회원가입 또는 로그인 처리
-        return saveOrUpdateUser(userInfo);
+    public KakaoOAuthService(UserRepository userRepository,
+                             WebClient kakaoWebClient,
+                             @Qualifier("loginTaskExecutor") Executor loginTaskExecutor) {
+        this.userRepository = userRepository;
+        this.kakaoWebClient = kakaoWebClient;
+        this.loginScheduler = Schedulers.fromExecutor(loginTaskExecutor);
     }
 
-    public User processKakaoLoginWithToken(String kakaoAccessToken) {
+    public Mono<User> processKakaoLoginWithToken(String kakaoAccessToken) {
         // 테스트용 토큰 처리
         if ("test_kakao_access_token".equals(kakaoAccessToken)) {
-            return userRepository.findByProviderAndProviderId(User.Provider.KAKAO, "test_kakao_id_123")
-                    .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다."));
+            return Mono.fromCallable(() -> userRepository.findByProviderAndProviderId(User.Provider.KAKAO, "test_kakao_id_123")
+                            .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다.")))
+                    .subscribeOn(loginScheduler);
         }
 
-        // 1. 플러터에서 받은 카카오 액세스 토큰으로 사용자 정보 조회
-        Map<String, Object> userInfo = getKakaoUserInfo(kakaoAccessToken);
-
-        // 2. 사용자 정보로 회원가입 또는 로그인 처리
-        return saveOrUpdateUser(userInfo);
+        // 1. 플러터에서 받은 카카오 액세스 토큰으로 사용자 정보 조회 → 2. 회원가입 또는 로그인 처리
+        return getKakaoUserInfo(kakaoAccessToken)
+                .flatMap(this::saveOrUpdateUserAsync);
     }
 
-    private String getKakaoAccessToken(String authorizationCode) {
-        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-        body.add("grant_type", "authorization_code");
-        body.add("client_id", clientId);
-        body.add("client_secret", clientSecret);
-        body.add("redirect_uri", redirectUri);
-        body.add("code", authorizationCode);
-        
-        try {
-            Map<String, Object> response = webClient.post()
-                    .uri("https://kauth.kakao.com/oauth/token")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(body))
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-            
-            return (String) response.get("access_token");
-        } catch (Exception e) {
-            log.error("Failed to get Kakao access token", e);
-            throw new RuntimeException("카카오 액세스 토큰 획득에 실패했습니다.");
-        }
+    private Mono<Map<String, Object>> getKakaoUserInfo(String accessToken) {
+        return kakaoWebClient.get()
+                .uri(apiBaseUrl + "/v2/user/me")
+                .header("Authorization", "Bearer " + accessToken)
+                // 타임아웃은 UpstreamGuard 안에서 걸어 차단기 실패로 집계
+                .attribute(UpstreamGuard.TIMEOUT_ATTRIBUTE, Duration.ofMillis(userInfoTimeoutMs))
+                .retrieve()
+                .bodyToMono(JSON_MAP)
+                .onErrorMap(e -> {
+                    log.error("Failed to get Kakao user info", e);
+                    return new RuntimeException(e instanceof TimeoutException
+                            ? "카카오 사용자 정보 응답 시간이 초과되었습니다."
+                            : "카카오 사용자 정보 조회에 실패했습니다.", e);
+                });
     }
 
-    private Map<String, Object> getKakaoUserInfo(String accessToken) {
-        try {
-            return webClient.get()
-                    .uri("https://kapi.kakao.com/v2/user/me")
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("Failed to get Kakao user info", e);
-            throw new RuntimeException("카카오 사용자 정보 조회에 실패했습니다.");
-        }
+    // JPA 는 블로킹이므로 로그인 전용 풀에서 실행
+    private Mono<User> saveOrUpdateUserAsync(Map<String, Object> userInfo) {
+        return Mono.fromCallable(() -> saveOrUpdateUser(userInfo))
+                .subscribeOn(loginScheduler);
     }
 
     private User saveOrUpdateUser(Map<String, Object> userInfo) {
@@ -0,0 +1,314 @@
+package com.fingrow.domain.user.service;
+
+import com.fingrow.domain.user.entity.RefreshToken;
+import com.fingrow.domain.user.repository.RefreshTokenBulkRepository;
+import com.fingrow.domain.user.repository.RefreshTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 상태 저장소 (메모리 인덱스 + refresh_tokens 테이블)
+ * - 발급/교체/폐기는 메모리 인덱스에서 바로 끝나고, DB 에는 flush-interval-ms 마다 모아서 upsert (write-behind)
+ * - 조회는 메모리 인덱스를 먼저 보고, 없을 때만 DB 에서 계열 전체를 읽어 인덱스에 넣음
+ * - 다른 인스턴스가 바꾼 상태는 flush 때 updated_at 기준으로 읽어 와 합침 (상태는 앞으로만 진행)
+ * - 만료된 토큰은 purge-cron 에 메모리와 DB 에서 함께 지움
+ * - 여러 인스턴스 운영:
+ *   교체는 DB 조건부 UPDATE(ACTIVE 일 때만)로 확정해 같은 토큰이 노드마다 한 번씩 교체되지 않게 하고,
+ *   계열 폐기는 DB 에 바로 반영함. 폐기는 항상 계열 단위이므로 REVOKED 행을 하나라도 보면 계열 전체를 폐기로 표시해
+ *   아직 적재 전이던 같은 계열의 새 토큰도 이후 합쳐질 때 거부함
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    // 인스턴스 간 시계 차이와 flush 지연을 덮는 여유
+    private static final Duration PULL_OVERLAP = Duration.ofSeconds(30);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenBulkRepository refreshTokenBulkRepository;
+    private final boolean pullRemoteChanges;
+
+    private final ConcurrentHashMap<String, TokenState> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> families = new ConcurrentHashMap<>();
+    // 아직 DB 에 쓰지 않은 최신 상태 (같은 토큰은 마지막 상태 하나만 남음)
+    private final ConcurrentHashMap<String, TokenState> pending = new ConcurrentHashMap<>();
+    // 폐기된 계열 → 표시를 유지할 시각 (계열에서 본 가장 늦은 만료 시각)
+    private final ConcurrentHashMap<String, LocalDateTime> revokedFamilies = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastPulledAt = LocalDateTime.now();
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             RefreshTokenBulkRepository refreshTokenBulkRepository,
+                             @Value("${jwt.refresh.pull-remote-changes:true}") boolean pullRemoteChanges) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenBulkRepository = refreshTokenBulkRepository;
+        this.pullRemoteChanges = pullRemoteChanges;
+    }
+
+    public record TokenState(String tokenId, Long userId, String familyId, RefreshToken.Status status,
+                             LocalDateTime expiresAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        TokenState advance(RefreshToken.Status next) {
+            return new TokenState(tokenId, userId, familyId, next, expiresAt, createdAt, LocalDateTime.now());
+        }
+
+        public boolean isExpired() {
+            return expiresAt.isBefore(LocalDateTime.now());
+        }
+
+        static TokenState from(RefreshToken entity) {
+            return new TokenState(entity.getTokenId(), entity.getUserId(), entity.getFamilyId(), entity.getStatus(),
+                    entity.getExpiresAt(), entity.getCreatedAt(), entity.getUpdatedAt());
+        }
+
+        RefreshToken toEntity() {
+            return RefreshToken.builder()
+                    .tokenId(tokenId)
+                    .userId(userId)
+                    .familyId(familyId)
+                    .status(status)
+                    .expiresAt(expiresAt)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+
+    // =========================== 조회/변경 ===========================
+
+    public void add(String tokenId, Long userId, String familyId, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken.Status status = revokedFamilies.containsKey(familyId)
+                ? RefreshToken.Status.REVOKED : RefreshToken.Status.ACTIVE;
+        TokenState state = new TokenState(tokenId, userId, familyId, status, expiresAt, now, now);
+        tokens.put(tokenId, state);
+        families.computeIfAbsent(familyId, k -> ConcurrentHashMap.newKeySet()).add(tokenId);
+        pending.put(tokenId, state);
+    }
+
+    public Optional<TokenState> find(String tokenId) {
+        TokenState state = tokens.get(tokenId);
+        if (state != null) {
+            return Optional.of(state);
+        }
+        // 기동 이후 다른 인스턴스가 발급한 토큰: 계열 전체를 읽어 두어야 재사용 시 계열 폐기가 가능
+        Optional<RefreshToken> entity = refreshTokenRepository.findById(tokenId);
+        if (entity.isEmpty()) {
+            return Optional.empty();
+        }
+        for (RefreshToken member : refreshTokenRepository.findByFamilyId(entity.get().getFamilyId())) {
+            merge(TokenState.from(member));
+        }
+        return Optional.ofNullable(tokens.get(tokenId));
+    }
+
+    /**
+     * ACTIVE 인 토큰만 ROTATED 로 바꿈 (같은 토큰으로 동시에 들어와도 한 요청만 성공)
+     * - 메모리에서 먼저 거르고, DB 조건부 UPDATE 로 다른 인스턴스와의 경합을 확정
+     * - DB 에 아직 없는 토큰(이 노드가 방금 발급해 flush 전)은 다른 노드가 찾을 수 없으므로 메모리 결과로 확정
+     *
+     * @return 교체 성공 여부 (이미 교체/폐기된 토큰이면 false)
+     */
+    public boolean rotate(String tokenId) {
+        boolean[] rotated = {false};
+        TokenState next = tokens.computeIfPresent(tokenId, (k, state) -> {
+            if (state.status() != RefreshToken.Status.ACTIVE) {
+                return state;
+            }
+            rotated[0] = true;
+            return state.advance(RefreshToken.Status.ROTATED);
+        });
+        if (!rotated[0]) {
+            return false;
+        }
+        pending.put(tokenId, next);
+
+        try {
+            if (refreshTokenBulkRepository.markRotated(tokenId, next.updatedAt()) == 1) {
+                pending.remove(tokenId, next);
+                return true;
+            }
+            // 행이 있는데 바뀌지 않았으면 다른 인스턴스가 먼저 교체/폐기함 (메모리는 ROTATED 로 둠)
+            return !refreshTokenRepository.existsById(tokenId);
+        } catch (Exception e) {
+            // DB 장애 시에는 메모리 결과로 진행 (pending 이 나중에 적재)
+            log.warn("리프레시 토큰 교체 DB 확인 실패 - 메모리 결과로 진행: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 계열의 모든 토큰을 REVOKED 로 바꿈
+     * - 메모리의 계열 토큰과 함께 DB 의 계열 행도 한 번의 UPDATE 로 바로 폐기
+     * - 아직 이 노드에 없는 계열 토큰(다른 노드가 발급해 적재 전)은 이후 합쳐질 때 폐기 표시로 거부됨
+     *
+     * @return 새로 폐기된 토큰 수 (메모리/DB 중 큰 쪽)
+     */
+    public int revokeFamily(String familyId) {
+        markFamilyRevoked(familyId, LocalDateTime.now());
+        int revoked = revokeLocal(familyId);
+        try {
+            revoked = Math.max(revoked, refreshTokenBulkRepository.revokeFamily(familyId, LocalDateTime.now()));
+        } catch (Exception e) {
+            // 메모리에서 폐기한 상태는 pending 으로 다음 flush 때 적재됨
+            log.error("리프레시 토큰 계열 DB 폐기 실패: familyId={}", familyId, e);
+        }
+        return revoked;
+    }
+
+    private int revokeLocal(String familyId) {
+        Set<String> members = families.get(familyId);
+        if (members == null) {
+            return 0;
+        }
+        int revoked = 0;
+        for (String tokenId : members) {
+            boolean[] changed = {false};
+            TokenState next = tokens.computeIfPresent(tokenId, (k, state) -> {
+                if (state.status() == RefreshToken.Status.REVOKED) {
+                    return state;
+                }
+                changed[0] = true;
+                return state.advance(RefreshToken.Status.REVOKED);
+            });
+            if (changed[0]) {
+                pending.put(tokenId, next);
+                revoked++;
+            }
+        }
+        return revoked;
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    // =========================== 적재/동기화 ===========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<RefreshToken> alive = refreshTokenRepository.findByExpiresAtAfter(now);
+            alive.forEach(entity -> merge(TokenState.from(entity)));
+            lastPulledAt = now;
+            log.info("리프레시 토큰 인덱스 적재: {}개", alive.size());
+        } catch (Exception e) {
+            // 인덱스가 비어 있어도 조회 시 DB 에서 채워지므로 기동은 계속
+            log.error("리프레시 토큰 인덱스 적재 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.flush-interval-ms:1000}")
+    public void flush() {
+        flushPending();
+        if (pullRemoteChanges) {
+            pullRemote();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<TokenState> batch = new ArrayList<>(pending.size());
+        for (String tokenId : new ArrayList<>(pending.keySet())) {
+            TokenState state = pending.remove(tokenId);
+            if (state != null) {
+                batch.add(state);
+            }
+        }
+        try {
+            refreshTokenBulkRepository.upsertAll(batch.stream().map(TokenState::toEntity).toList());
+            log.debug("리프레시 토큰 상태 {}건 저장", batch.size());
+        } catch (Exception e) {
+            // 그 사이 더 새 상태가 들어왔으면 그쪽을 남기고 다음 주기에 다시 씀
+            batch.forEach(state -> pending.putIfAbsent(state.tokenId(), state));
+            log.error("리프레시 토큰 상태 저장 실패: {}건 재시도 예정", batch.size(), e);
+        }
+    }
+
+    private void pullRemote() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<RefreshToken> changed = refreshTokenRepository.findByUpdatedAtAfter(lastPulledAt.minus(PULL_OVERLAP));
+            changed.forEach(entity -> merge(TokenState.from(entity)));
+            lastPulledAt = now;
+        } catch (Exception e) {
+            log.warn("리프레시 토큰 변경분 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${jwt.refresh.purge-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedFamilies.values().removeIf(until -> until.isBefore(now));
+        int removed = 0;
+        for (TokenState state : tokens.values()) {
+            if (state.expiresAt().isBefore(now) && tokens.remove(state.tokenId(), state)) {
+                families.computeIfPresent(state.familyId(), (k, members) -> {
+                    members.remove(state.tokenId());
+                    return members.isEmpty() ? null : members;
+                });
+                removed++;
+            }
+        }
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(now);
+            log.info("만료된 리프레시 토큰 정리: 메모리 {}개, DB {}개", removed, deleted);
+        } catch (Exception e) {
+            log.error("만료된 리프레시 토큰 DB 정리 실패", e);
+        }
+    }
+
+    /**
+     * 메모리 인덱스에 상태를 합침 (이미 더 진행된 상태가 있으면 유지)
+     * - 폐기는 계열 단위로만 일어나므로 REVOKED 를 보면 계열 전체를 폐기
+     */
+    private void merge(TokenState incoming) {
+        if (incoming.isExpired()) {
+            return;
+        }
+        tokens.merge(incoming.tokenId(), incoming,
+                (current, other) -> other.status().ordinal() > current.status().ordinal() ? other : current);
+        families.computeIfAbsent(incoming.familyId(), k -> ConcurrentHashMap.newKeySet()).add(incoming.tokenId());
+
+        boolean familyRevoked = revokedFamilies.containsKey(incoming.familyId());
+        if (incoming.status() == RefreshToken.Status.REVOKED || familyRevoked) {
+            markFamilyRevoked(incoming.familyId(), incoming.expiresAt());
+            revokeLocal(incoming.familyId());
+        }
+    }
+
+    private void markFamilyRevoked(String familyId, LocalDateTime until) {
+        LocalDateTime horizon = until;
+        Set<String> members = families.get(familyId);
+        if (members != null) {
+            for (String tokenId : members) {
+                TokenState state = tokens.get(tokenId);
+                if (state != null && state.expiresAt().isAfter(horizon)) {
+                    horizon = state.expiresAt();
+                }
+            }
+        }
+        revokedFamilies.merge(familyId, horizon, (a, b) -> a.isAfter(b) ? a : b);
+    }
+}
@@ -1,5 +1,6 @@
 package com.fingrow.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +22,27 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // finlife 페이지 병렬 수집용 (동시 호출 수 제한)
+    @Bean(name = "finlifeFetchExecutor")
+    public Executor finlifeFetchExecutor(@Value("${finlife.api.max-concurrency:4}") int maxConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setThreadNamePrefix("Finlife-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 카카오 로그인 후 사용자 저장 (JPA) 전용, 로그인이 몰려도 DB 동시 작업 수를 제한
+    @Bean(name = "loginTaskExecutor")
+    public Executor loginTaskExecutor(@Value("${kakao.login.db-pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("Login-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,102 @@
+package com.fingrow.global.config;
+
+import com.fingrow.global.http.Upstream;
+import com.fingrow.global.http.UpstreamGuard;
+import com.fingrow.global.http.UpstreamGuards;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 클라이언트 (finlife, KRX, 채권, 카카오 공용)
+ * - RestTemplate: 대상별 JDK HttpClient (연결 재사용 풀 내장)
+ *   https 는 HTTP/2 우선(ALPN 으로 협상, 안 되면 HTTP/1.1), http 는 HTTP/1.1 만 사용
+ *   (http 에 HTTP/2 를 켜면 새 연결마다 h2c Upgrade 헤더를 보내는데, data.go.kr 등 일부 게이트웨이가 이를 거절함)
+ *   연결/읽기 타임아웃은 대상별 설정을 따르며, 호출 수 한도는 벌크헤드가 대상별로 제한
+ * - WebClient: 카카오 전용 reactor-netty 연결 풀
+ * - 두 클라이언트 모두 UpstreamGuards 로 재시도/차단기/벌크헤드/지연 히스토그램을 적용
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public RestTemplate restTemplate(UpstreamGuards upstreamGuards) {
+        // 대상별로 연결 풀과 타임아웃을 분리하고, 요청 URI 의 대상과 스킴으로 골라 씀
+        Map<Upstream, ClientHttpRequestFactory> secureFactories = new EnumMap<>(Upstream.class);
+        Map<Upstream, ClientHttpRequestFactory> plainFactories = new EnumMap<>(Upstream.class);
+        for (Upstream upstream : Upstream.values()) {
+            UpstreamGuard.Settings settings = upstreamGuards.get(upstream).settings();
+            secureFactories.put(upstream, requestFactory(settings, HttpClient.Version.HTTP_2));
+            plainFactories.put(upstream, requestFactory(settings, HttpClient.Version.HTTP_1_1));
+        }
+
+        RestTemplate restTemplate = new RestTemplate((uri, method) -> {
+            Map<Upstream, ClientHttpRequestFactory> factories =
+                    "https".equalsIgnoreCase(uri.getScheme()) ? secureFactories : plainFactories;
+            return factories.get(Upstream.of(uri)).createRequest(uri, method);
+        });
+        restTemplate.getInterceptors().add(upstreamGuards.interceptor());
+        return restTemplate;
+    }
+
+    private static ClientHttpRequestFactory requestFactory(UpstreamGuard.Settings settings, HttpClient.Version version) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.readTimeout());
+        return factory;
+    }
+
+    /**
+     * 카카오(kauth/kapi) 전용 WebClient - 다른 호출과 연결 풀을 나눠 로그인 폭주가 다른 외부 호출에 번지지 않게 함
+     */
+    @Bean
+    public WebClient kakaoWebClient(UpstreamGuards upstreamGuards,
+                                    @Value("${kakao.api.auth-base-url:https://kauth.kakao.com}") String authBaseUrl,
+                                    @Value("${kakao.api.api-base-url:https://kapi.kakao.com}") String apiBaseUrl) {
+        UpstreamGuard.Settings settings = upstreamGuards.get(Upstream.KAKAO).settings();
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao")
+                .maxConnections(settings.maxConcurrent())
+                .pendingAcquireTimeout(settings.acquireTimeout())
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+
+        // HTTP/2 는 TLS(ALPN)에서만 협상하므로, 로컬 스텁(http) 주소면 HTTP/1.1 만 사용
+        boolean secure = authBaseUrl.startsWith("https://") && apiBaseUrl.startsWith("https://");
+        reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(connectionProvider)
+                .protocol(secure ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11} : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .followRedirect(true)
+                .responseTimeout(settings.readTimeout())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.connectTimeout().toMillis());
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .filter(upstreamGuards.filter(Upstream.KAKAO))
+                .defaultHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                .defaultHeader("Accept", "application/json, text/plain, */*")
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.fingrow.global.config;
 
 import com.fingrow.global.security.JwtAuthenticationFilter;
+import com.fingrow.global.security.PublicRoutes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -33,22 +34,8 @@ public class SecurityConfig {
                         // 모든 API 경로 허용 (개발/테스트용)
                         .requestMatchers("/api/**").permitAll()
 
-                        // 정적 파일 접근 허용
-                        .requestMatchers("/test/**").permitAll()
-                        .requestMatchers("/static/**").permitAll()
-                        .requestMatchers("/*.html").permitAll()
-
-                        // 콜백 경로
-                        .requestMatchers("/oauth/**").permitAll()
-                        .requestMatchers("/callback").permitAll()
-
-                        // Swagger 관련 경로
-                        .requestMatchers("/swagger-ui/**").permitAll()
-                        .requestMatchers("/swagger-ui.html").permitAll()
-                        .requestMatchers("/v3/api-docs/**").permitAll()
-                        .requestMatchers("/api-docs/**").permitAll()
-                        .requestMatchers("/swagger-resources/**").permitAll()
-                        .requestMatchers("/webjars/**").permitAll()
+                        // 정적 파일, 콜백, Swagger 등 공개 경로 (JWT 필터 우회 목록과 공유)
+                        .requestMatchers(PublicRoutes.PATTERNS).permitAll()
 
                         .anyRequest().permitAll()
                 )
@@ -1,38 +1,13 @@
 package com.fingrow.global.config;
 
-import io.netty.channel.ChannelOption;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class
 WebConfig implements WebMvcConfigurer {
 
-    @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
-                .followRedirect(true)
-                .responseTimeout(java.time.Duration.ofSeconds(30))
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
-
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
-                .build();
-
-        return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .exchangeStrategies(strategies)
-                .defaultHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .defaultHeader("Accept", "application/json, text/plain, */*")
-                .build();
-    }
-
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/test/**")
@@ -41,4 +16,4 @@ WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.fingrow.global.http;
+
+import java.net.URI;
+
+/**
+ * 외부 API 호출 대상
+ * - 호스트(와 경로 접두어)로 구분하며, 대상별로 연결 풀/타임아웃/재시도/차단기/벌크헤드를 따로 둠
+ * - 설정 키: http.upstream.{key}.*
+ */
+public enum Upstream {
+    FINLIFE("finlife", "finlife.fss.or.kr", null),                                        // 금융감독원 금융상품
+    KRX("krx", "apis.data.go.kr", "/1160100/service/GetSecuritiesProductInfoService"),    // 공공데이터 ETF 시세
+    BOND("bond", "apis.data.go.kr", "/1160100/service/GetBondTradInfoService"),           // 공공데이터 채권 발행정보
+    KAKAO("kakao", "kakao.com", null),                                                    // kauth/kapi.kakao.com
+    OTHER("other", null, null);
+
+    private final String key;
+    private final String host;
+    private final String pathPrefix;
+
+    Upstream(String key, String host, String pathPrefix) {
+        this.key = key;
+        this.host = host;
+        this.pathPrefix = pathPrefix;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Upstream of(URI uri) {
+        String uriHost = uri.getHost();
+        String path = uri.getPath() != null ? uri.getPath() : "";
+        if (uriHost != null) {
+            for (Upstream upstream : values()) {
+                if (upstream.host != null
+                        && (uriHost.equals(upstream.host) || uriHost.endsWith("." + upstream.host))
+                        && (upstream.pathPrefix == null || path.startsWith(upstream.pathPrefix))) {
+                    return upstream;
+                }
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,399 @@
+package com.fingrow.global.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 외부 API 하나에 대한 호출 보호 (벌크헤드 → 차단기 → 재시도)
+ * - 벌크헤드: 동시 호출 수를 maxConcurrent 로 제한, acquireTimeout 안에 자리가 안 나면 거절
+ * - 차단기: 연속 실패 failureThreshold 번이면 openDuration 동안 호출 없이 거절, 이후 시험 호출 1건으로 복구 판단
+ * - 재시도: GET/HEAD 만, 연결 오류와 429/502/503/504 에 대해 지수 백오프 + full jitter
+ * - 실패로 보는 응답: 연결/읽기 오류, 타임아웃, 취소, 429, 5xx (4xx 는 상대가 살아 있는 것으로 봄)
+ * - 벌크헤드 자리를 얻은 호출은 어떤 경로로 끝나든 성공/실패 중 하나로 기록하고 자리를 돌려줌
+ *   (시험 호출이 결과 없이 사라져 차단기가 HALF_OPEN 에 멈추는 일이 없도록)
+ *
+ * 메트릭: http.upstream.requests{upstream, outcome} (히스토그램), http.upstream.retries{upstream},
+ *        http.upstream.rejected{upstream, reason}, http.upstream.circuit.state{upstream}, http.upstream.bulkhead.available{upstream}
+ */
+@Slf4j
+public class UpstreamGuard {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    /**
+     * WebClient 요청 속성: 시도 한 번의 응답 타임아웃(Duration), 없으면 readTimeout
+     */
+    public static final String TIMEOUT_ATTRIBUTE = UpstreamGuard.class.getName() + ".timeout";
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    /**
+     * @param maxAttempts 첫 호출 포함 최대 시도 횟수
+     */
+    public record Settings(Duration connectTimeout, Duration readTimeout, int maxConcurrent, Duration acquireTimeout,
+                           int maxAttempts, Duration baseBackoff, Duration maxBackoff,
+                           int failureThreshold, Duration openDuration) {
+    }
+
+    private final Upstream upstream;
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntilNanos;
+
+    private final Counter retries;
+    private final Counter rejectedOpen;
+    private final Counter rejectedFull;
+
+    public UpstreamGuard(Upstream upstream, Settings settings, MeterRegistry meterRegistry) {
+        this.upstream = upstream;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(settings.maxConcurrent(), true);
+
+        this.retries = meterRegistry.counter("http.upstream.retries", "upstream", upstream.key());
+        this.rejectedOpen = meterRegistry.counter("http.upstream.rejected", "upstream", upstream.key(), "reason", "circuit_open");
+        this.rejectedFull = meterRegistry.counter("http.upstream.rejected", "upstream", upstream.key(), "reason", "bulkhead_full");
+        Gauge.builder("http.upstream.circuit.state", state, s -> s.get().ordinal())
+                .description("차단기 상태 (0: 닫힘, 1: 시험 중, 2: 열림)")
+                .tag("upstream", upstream.key())
+                .register(meterRegistry);
+        Gauge.builder("http.upstream.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("남은 동시 호출 자리")
+                .tag("upstream", upstream.key())
+                .register(meterRegistry);
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    // =========================== 동기 호출 (RestTemplate) ===========================
+
+    @FunctionalInterface
+    public interface Call {
+        ClientHttpResponse execute() throws IOException;
+    }
+
+    /**
+     * 응답 본문을 다 읽고 닫을 때까지 벌크헤드 자리를 잡고 있고, 닫는 시점에 지연 시간을 기록
+     */
+    public ClientHttpResponse execute(HttpMethod method, Call call) throws IOException {
+        int maxAttempts = isIdempotent(method) ? settings.maxAttempts() : 1;
+        for (int attempt = 1; ; attempt++) {
+            acquire(settings.acquireTimeout());
+            long start = System.nanoTime();
+
+            ClientHttpResponse response = null;
+            int status;
+            try {
+                response = call.execute();
+                status = response.getStatusCode().value();
+            } catch (IOException | RuntimeException e) {
+                closeQuietly(response);
+                bulkhead.release();
+                record(start, "IO_ERROR");
+                onFailure();
+                // 인터셉터 체인의 런타임 오류는 재시도하지 않음
+                if (e instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (attempt >= maxAttempts) {
+                    throw (IOException) e;
+                }
+                log.debug("{} 호출 오류, 재시도 {}/{}: {}", upstream, attempt, maxAttempts - 1, e.getMessage());
+                sleepBeforeRetry(attempt);
+                continue;
+            }
+
+            if (isFailureStatus(status)) {
+                onFailure();
+                if (RETRYABLE_STATUSES.contains(status) && attempt < maxAttempts) {
+                    response.close();
+                    bulkhead.release();
+                    record(start, outcomeOf(status));
+                    log.debug("{} 응답 {}, 재시도 {}/{}", upstream, status, attempt, maxAttempts - 1);
+                    sleepBeforeRetry(attempt);
+                    continue;
+                }
+            } else {
+                onSuccess();
+            }
+            return new GuardedResponse(response, () -> {
+                bulkhead.release();
+                record(start, outcomeOf(status));
+            });
+        }
+    }
+
+    /**
+     * 벌크헤드 자리를 먼저 얻고 나서 차단기를 확인
+     * - 열린 차단기를 시험 상태로 바꾼 뒤 자리가 없어 거절되면 시험 호출이 영영 끝나지 않으므로 순서가 중요
+     */
+    private void acquire(Duration timeout) throws IOException {
+        // 열려 있는 동안에는 자리를 기다리지 않고 바로 거절
+        if (isOpen()) {
+            rejectOpen();
+        }
+        boolean acquired;
+        try {
+            acquired = timeout.isZero()
+                    ? bulkhead.tryAcquire()
+                    : bulkhead.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(upstream + " 호출 대기 중 인터럽트");
+        }
+        if (!acquired) {
+            rejectedFull.increment();
+            throw new UpstreamRejectedException(upstream + " 동시 호출 한도(" + settings.maxConcurrent() + ") 초과");
+        }
+        if (!allowRequest()) {
+            bulkhead.release();
+            rejectOpen();
+        }
+    }
+
+    private void rejectOpen() throws UpstreamRejectedException {
+        rejectedOpen.increment();
+        throw new UpstreamRejectedException(upstream + " 호출 차단 중 (연속 실패로 차단기 열림)");
+    }
+
+    private void sleepBeforeRetry(int attempt) throws InterruptedIOException {
+        retries.increment();
+        try {
+            Thread.sleep(backoff(attempt).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(upstream + " 재시도 대기 중 인터럽트");
+        }
+    }
+
+    // full jitter: 0 ~ min(max, base * 2^(attempt-1))
+    private Duration backoff(int attempt) {
+        long cap = Math.min(settings.maxBackoff().toMillis(),
+                settings.baseBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    // =========================== 비동기 호출 (WebClient) ===========================
+
+    /**
+     * WebClient 용: 벌크헤드 자리는 응답 헤더를 받을 때까지 잡고, 자리가 없으면 기다리지 않고 거절
+     * - 응답 헤더는 TIMEOUT_ATTRIBUTE(없으면 readTimeout) 안에 와야 하며, 넘기면 실패로 기록 (재시도 대상)
+     * - 구독이 취소되어도 실패로 기록하고 자리를 돌려줌
+     */
+    public Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next) {
+        int maxAttempts = isIdempotent(request.method()) ? settings.maxAttempts() : 1;
+        AtomicInteger attempts = new AtomicInteger();
+        Duration timeout = request.attribute(TIMEOUT_ATTRIBUTE)
+                .map(Duration.class::cast)
+                .orElse(settings.readTimeout());
+
+        Mono<ClientResponse> attempt = Mono.defer(() -> {
+            int current = attempts.incrementAndGet();
+            try {
+                acquire(Duration.ZERO);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            long start = System.nanoTime();
+            // 시도 하나의 결과는 한 번만 기록
+            AtomicBoolean settled = new AtomicBoolean();
+            return next.exchange(request)
+                    .timeout(timeout)
+                    .flatMap(response -> {
+                        int status = response.statusCode().value();
+                        settled.set(true);
+                        record(start, outcomeOf(status));
+                        if (!isFailureStatus(status)) {
+                            onSuccess();
+                            return Mono.just(response);
+                        }
+                        onFailure();
+                        if (RETRYABLE_STATUSES.contains(status) && current < maxAttempts) {
+                            return response.releaseBody().then(Mono.error(new RetryableStatusException(status)));
+                        }
+                        return Mono.just(response);
+                    })
+                    .doOnError(e -> settled.compareAndSet(false, true), e -> {
+                        record(start, e instanceof TimeoutException ? "TIMEOUT" : "IO_ERROR");
+                        onFailure();
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL && settled.compareAndSet(false, true)) {
+                            record(start, "CANCELLED");
+                            onFailure();
+                        }
+                        bulkhead.release();
+                    });
+        });
+
+        if (maxAttempts <= 1) {
+            return attempt;
+        }
+        return attempt.retryWhen(Retry.backoff(maxAttempts - 1, settings.baseBackoff())
+                .maxBackoff(settings.maxBackoff())
+                .jitter(0.5)
+                .filter(e -> !(e instanceof UpstreamRejectedException))
+                .doBeforeRetry(signal -> retries.increment())
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private static class RetryableStatusException extends IOException {
+        RetryableStatusException(int status) {
+            super("재시도 대상 응답: " + status);
+        }
+    }
+
+    // =========================== 차단기 ===========================
+
+    private boolean isOpen() {
+        return state.get() == State.OPEN && System.nanoTime() - openUntilNanos < 0;
+    }
+
+    private boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            // 열린 시간이 지나면 시험 호출 1건만 통과
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("{} 차단기 닫힘 (호출 복구)", upstream);
+        }
+    }
+
+    private void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= settings.failureThreshold()) {
+            openUntilNanos = System.nanoTime() + settings.openDuration().toNanos();
+            consecutiveFailures.set(0);
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("{} 차단기 열림: {}초 동안 호출 차단", upstream, settings.openDuration().toSeconds());
+            }
+        }
+    }
+
+    // =========================== 공통 ===========================
+
+    private void record(long startNanos, String outcome) {
+        Timer.builder("http.upstream.requests")
+                .description("외부 API 호출 지연")
+                .tag("upstream", upstream.key())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static void closeQuietly(ClientHttpResponse response) {
+        if (response != null) {
+            try {
+                response.close();
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private static boolean isIdempotent(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    private static boolean isFailureStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    /**
+     * 닫힐 때 한 번만 콜백을 실행하는 응답 래퍼
+     */
+    private static final class GuardedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private GuardedResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fingrow.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 API 별 호출 보호 모음
+ * - 설정은 http.upstream.{key}.* 에서 읽고, 없으면 http.upstream.default.* → 코드 기본값 순으로 사용
+ * - RestTemplate 인터셉터와 WebClient 필터가 같은 보호를 공유하므로 어떤 클라이언트로 호출해도 한도가 합산됨
+ */
+@Component
+public class UpstreamGuards {
+
+    private final Map<Upstream, UpstreamGuard> guards = new EnumMap<>(Upstream.class);
+
+    public UpstreamGuards(Environment environment, MeterRegistry meterRegistry) {
+        for (Upstream upstream : Upstream.values()) {
+            guards.put(upstream, new UpstreamGuard(upstream, settingsOf(environment, upstream), meterRegistry));
+        }
+    }
+
+    public UpstreamGuard get(Upstream upstream) {
+        return guards.get(upstream);
+    }
+
+    public UpstreamGuard get(URI uri) {
+        return guards.get(Upstream.of(uri));
+    }
+
+    public ClientHttpRequestInterceptor interceptor() {
+        return (request, body, execution) ->
+                get(request.getURI()).execute(request.getMethod(), () -> execution.execute(request, body));
+    }
+
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> get(request.url()).exchange(request, next);
+    }
+
+    // 특정 대상 전용 WebClient 용 (주소를 스텁으로 바꿔도 같은 한도/메트릭을 씀)
+    public ExchangeFilterFunction filter(Upstream upstream) {
+        UpstreamGuard guard = get(upstream);
+        return guard::exchange;
+    }
+
+    private static UpstreamGuard.Settings settingsOf(Environment env, Upstream upstream) {
+        String prefix = "http.upstream." + upstream.key() + ".";
+        return new UpstreamGuard.Settings(
+                Duration.ofMillis(property(env, prefix, "connect-timeout-ms", 5_000)),
+                Duration.ofMillis(property(env, prefix, "read-timeout-ms", 10_000)),
+                (int) property(env, prefix, "max-concurrent", 8),
+                Duration.ofMillis(property(env, prefix, "acquire-timeout-ms", 5_000)),
+                (int) property(env, prefix, "max-attempts", 3),
+                Duration.ofMillis(property(env, prefix, "base-backoff-ms", 200)),
+                Duration.ofMillis(property(env, prefix, "max-backoff-ms", 5_000)),
+                (int) property(env, prefix, "failure-threshold", 5),
+                Duration.ofSeconds(property(env, prefix, "open-seconds", 30)));
+    }
+
+    private static long property(Environment env, String prefix, String name, long defaultValue) {
+        Long value = env.getProperty(prefix + name, Long.class);
+        if (value == null) {
+            value = env.getProperty("http.upstream.default." + name, Long.class, defaultValue);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,14 @@
+package com.fingrow.global.http;
+
+import java.io.IOException;
+
+/**
+ * 차단기가 열려 있거나 동시 호출 한도가 찬 경우 호출하지 않고 바로 실패
+ * - IOException 이므로 RestTemplate 에서는 ResourceAccessException 으로 감싸져 기존 오류 처리 경로를 탐
+ */
+public class UpstreamRejectedException extends IOException {
+
+    public UpstreamRejectedException(String message) {
+        super(message);
+    }
+}
@@ -23,48 +23,46 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<SimpleGrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         
-        // 인증이 필요없는 경로들 우회
-        String requestURI = request.getRequestURI();
-        log.debug("Processing request: {} {}", request.getMethod(), requestURI);
-        
-        if (isPublicPath(requestURI)) {
-            log.debug("Public path detected, skipping authentication: {}", requestURI);
-            filterChain.doFilter(request, response);
-            return;
-        }
-        
         String token = getTokenFromRequest(request);
         
-        if (token != null && jwtUtil.validateToken(token)) {
-            String userId = jwtUtil.getUserIdFromToken(token);
-            
-            UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userId, null, 
-                            List.of(new SimpleGrantedAuthority("ROLE_USER")));
-            
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            // 이미 검증한 토큰이면 캐시에서, 처음 보는 토큰이면 서명 검증 후 캐시에 넣음
+            String userId = verifiedTokenCache.get(token);
+            if (userId == null) {
+                userId = jwtUtil.parseVerifiedClaims(token)
+                        // 리프레시 토큰으로는 API 를 호출할 수 없음
+                        .filter(claims -> !JwtUtil.isRefreshToken(claims))
+                        .map(claims -> {
+                            verifiedTokenCache.put(token, claims.getSubject(), claims.getExpiration());
+                            return claims.getSubject();
+                        })
+                        .orElse(null);
+            }
+
+            if (userId != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userId, null, AUTHORITIES);
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         
         filterChain.doFilter(request, response);
     }
     
-    private boolean isPublicPath(String requestURI) {
-        return requestURI.startsWith("/api/v1/auth/") ||
-               requestURI.startsWith("/api/public/") ||
-               requestURI.equals("/api/v1/onboard/questions") ||
-               requestURI.startsWith("/api/financial/") ||
-               requestURI.startsWith("/test/") ||
-               requestURI.startsWith("/swagger-ui/") ||
-               requestURI.startsWith("/v3/api-docs/") ||
-               requestURI.equals("/callback") ||
-               requestURI.contains("/api/v1/test/");
+    // 인증이 필요없는 경로는 필터를 타지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicRoutes.matches(request.getRequestURI());
     }
 
     private String getTokenFromRequest(HttpServletRequest request) {
@@ -0,0 +1,58 @@
+package com.fingrow.global.security;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 인증 없이 접근하는 경로 목록 (SecurityConfig 허용 목록과 JWT 필터 우회 목록이 함께 씀)
+ * - 패턴은 기동 시 PathPatternParser 로 한 번만 컴파일
+ */
+public final class PublicRoutes {
+
+    public static final String[] PATTERNS = {
+            // 인증/공개 API
+            "/api/v1/auth/**",
+            "/api/public/**",
+            "/api/v1/onboard/questions",
+            "/api/financial/**",
+            "/api/v1/test/**",
+            "/kakao-stub/**",
+
+            // 정적 파일
+            "/test/**",
+            "/static/**",
+            "/*.html",
+
+            // 콜백 경로
+            "/oauth/**",
+            "/callback",
+
+            // Swagger 관련 경로
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/api-docs/**",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    private static final List<PathPattern> COMPILED = Arrays.stream(PATTERNS)
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    private PublicRoutes() {
+    }
+
+    public static boolean matches(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : COMPILED) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package com.fingrow.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 액세스 토큰 캐시 (토큰 SHA-256 → userId, 만료 시각)
+ * - 같은 토큰이 반복해서 오면 서명 검증/클레임 파싱 없이 userId 를 꺼냄
+ * - 토큰 원문은 보관하지 않고, 만료 시각이 지난 항목은 조회 시 바로 버림
+ * - 최대 max-size 개까지만 보관: 가득 차면 만료된 항목부터 지우고, 그래도 차 있으면 일부를 밀어냄
+ *
+ * 메트릭: auth.token.cache.requests{result=hit|miss}, auth.token.cache.size
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private record Entry(String userId, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.hits = meterRegistry.counter("auth.token.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("auth.token.cache.requests", "result", "miss");
+        Gauge.builder("auth.token.cache.size", entries, Map::size)
+                .description("캐시된 검증 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시에 있고 아직 만료되지 않았으면 userId, 아니면 null
+     */
+    public String get(String token) {
+        String key = keyOf(token);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAtMillis() > System.currentTimeMillis()) {
+            hits.increment();
+            return entry.userId();
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String token, String userId, Date expiration) {
+        if (userId == null || expiration == null || maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(keyOf(token), new Entry(userId, expiration.getTime()));
+    }
+
+    public void invalidate(String token) {
+        entries.remove(keyOf(token));
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        // 만료된 항목만으로 자리가 안 나면 1/10 을 비움 (다음 요청에서 다시 검증해 채워짐)
+        int excess = entries.size() - maxSize * 9 / 10;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String keyOf(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
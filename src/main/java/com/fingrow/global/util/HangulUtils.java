@@ -0,0 +1,66 @@
+package com.fingrow.global.util;
+
+import java.text.Normalizer;
+
+/**
+ * 한글 검색용 문자열 유틸
+ * - 완성형 음절(가~힣)의 초성 추출
+ * - 검색 비교용 정규화 (NFC, 소문자, 공백 제거)
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /** 초성으로 쓰일 수 있는 호환 자모(ㄱ, ㄲ, ㄴ ...)인지 여부 */
+    public static boolean isChoseong(char c) {
+        for (char cho : CHOSEONG) {
+            if (cho == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 음절이면 초성, 그 외 문자는 그대로 반환 */
+    public static char choseongOf(char c) {
+        return isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG] : c;
+    }
+
+    public static String toChoseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = choseongOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /** 검색 비교용 정규화: NFC 결합, 소문자, 공백 제거 */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -2,6 +2,8 @@ package com.fingrow.global.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -9,25 +11,66 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
+    // 토큰 종류 클레임: 리프레시 토큰을 액세스 토큰으로 쓰지 못하게 구분
+    public static final String TYPE_CLAIM = "typ";
+    public static final String ACCESS_TYPE = "access";
+    public static final String REFRESH_TYPE = "refresh";
+    // 리프레시 토큰 계열 ID (교체될 때마다 이어짐)
+    public static final String FAMILY_CLAIM = "fam";
+
     private final SecretKey key;
     private final long accessTokenValidityInSeconds;
+    private final long refreshTokenValidityInSeconds;
+    // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 모든 요청에서 공유
+    private final JwtParser parser;
+    private final Timer verifyTimer;
 
     public JwtUtil(@Value("${jwt.secret}") String secretKey,
-                   @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds) {
+                   @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
+                   @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+                   MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
         this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifyTimer = Timer.builder("auth.jwt.verify")
+                .description("요청당 JWT 서명 검증 + 클레임 파싱 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     public String generateAccessToken(String userId) {
-        return generateToken(userId, accessTokenValidityInSeconds);
+        return builder(userId, accessTokenValidityInSeconds)
+                .claim(TYPE_CLAIM, ACCESS_TYPE)
+                .compact();
+    }
+
+    /**
+     * @param tokenId  리프레시 토큰 ID (jti, 저장소 키)
+     * @param familyId 처음 로그인할 때 만들어져 교체된 토큰에 그대로 이어지는 계열 ID
+     */
+    public String generateRefreshToken(String userId, String tokenId, String familyId) {
+        return builder(userId, refreshTokenValidityInSeconds)
+                .id(tokenId)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
+                .claim(FAMILY_CLAIM, familyId)
+                .compact();
     }
 
-    private String generateToken(String userId, long validityInSeconds) {
+    public long getRefreshTokenValidityInSeconds() {
+        return refreshTokenValidityInSeconds;
+    }
+
+    private JwtBuilder builder(String userId, long validityInSeconds) {
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime validity = now.plusSeconds(validityInSeconds);
 
@@ -35,24 +78,38 @@ public class JwtUtil {
                 .subject(userId)
                 .issuedAt(Date.from(now.toInstant()))
                 .expiration(Date.from(validity.toInstant()))
-                .signWith(key)
-                .compact();
+                .signWith(key);
     }
 
-    public String getUserIdFromToken(String token) {
-        return getClaims(token).getSubject();
+    public static boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명과 만료를 한 번에 검증하고 클레임을 반환 (요청당 한 번만 호출)
+     *
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<Claims> parseVerifiedClaims(String token) {
+        long start = System.nanoTime();
         try {
-            getClaims(token);
-            return true;
+            return Optional.of(getClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
             log.error("JWT token validation error: {}", e.getMessage());
-            return false;
+            return Optional.empty();
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
+    public String getUserIdFromToken(String token) {
+        return getClaims(token).getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parseVerifiedClaims(token).isPresent();
+    }
+
     public boolean isTokenExpired(String token) {
         try {
             return getClaims(token).getExpiration().before(new Date());
@@ -62,10 +119,6 @@ public class JwtUtil {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package com.fingrow.global.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 공공데이터포털(apis.data.go.kr) JSON 응답 스트리밍 리더
+ * - response.body.items.item 경로만 토큰 단위로 따라가고 나머지는 건너뜀
+ * - item 은 한 건씩 작은 JsonNode 로 만들어 바로 넘기므로 전체 응답 트리를 만들지 않음
+ * - item 이 배열이 아닌 단건 객체로 오는 경우도 처리
+ * - 읽은 바이트 수는 현재 동기화 저널에 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicDataItemReader {
+
+    private static final String[] ITEM_PATH = {"response", "body", "items", "item"};
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 전달한 item 개수
+     */
+    public long read(InputStream in, Consumer<JsonNode> itemConsumer) throws IOException {
+        CountingInputStream counting = new CountingInputStream(in);
+        try (JsonParser parser = objectMapper.getFactory().createParser(counting)) {
+            JsonToken first;
+            try {
+                first = parser.nextToken();
+            } catch (JsonParseException e) {
+                // 인증키 오류 등은 XML 로 내려옴
+                throw new IOException("API 응답이 JSON이 아님: " + e.getOriginalMessage(), e);
+            }
+            if (first != JsonToken.START_OBJECT) {
+                throw new IOException("API 응답이 JSON 객체가 아님: " + first);
+            }
+            return descend(parser, 0, itemConsumer);
+        } finally {
+            SyncJournal.current().bytes(counting.count);
+        }
+    }
+
+    // parser 는 현재 단계 객체의 START_OBJECT 에 위치
+    private long descend(JsonParser parser, int depth, Consumer<JsonNode> itemConsumer) throws IOException {
+        long count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (!ITEM_PATH[depth].equals(name)) {
+                parser.skipChildren();
+            } else if (depth == ITEM_PATH.length - 1) {
+                count += emitItems(parser, value, itemConsumer);
+            } else if (value == JsonToken.START_OBJECT) {
+                count += descend(parser, depth + 1, itemConsumer);
+            } else {
+                // 결과가 없으면 items 가 빈 문자열로 오기도 함
+                parser.skipChildren();
+            }
+        }
+        return count;
+    }
+
+    private long emitItems(JsonParser parser, JsonToken value, Consumer<JsonNode> itemConsumer) throws IOException {
+        if (value == JsonToken.START_OBJECT) {
+            itemConsumer.accept(parser.readValueAsTree());
+            return 1;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        long count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                itemConsumer.accept(parser.readValueAsTree());
+                count++;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return count;
+    }
+
+    // 응답 크기 계측용 (동기화 저널의 FETCH bytes)
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.fingrow.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 단일 스냅샷 캐시 (stale-while-revalidate)
+ * - TTL 이내: 캐시 값 반환 (hit)
+ * - TTL 초과 ~ maxStale 이내: 기존 값을 바로 반환하고 백그라운드 갱신 (stale)
+ * - 값이 없거나 maxStale 초과: 갱신이 끝날 때까지 대기 (miss)
+ * - 동시에 몇 건이 몰려도 로더는 한 번만 실행 (single-flight)
+ *
+ * 메트릭: {name}.requests{result=hit|stale|miss}, {name}.refresh{result=success|failure}, {name}.age.seconds
+ */
+@Slf4j
+public class RefreshingSnapshotCache<T> {
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final Executor executor;
+    private final Duration ttl;
+    private final Duration maxStale;
+
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    public RefreshingSnapshotCache(String name, Supplier<T> loader, Executor executor,
+                                   Duration ttl, Duration maxStale, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.loader = loader;
+        this.executor = executor;
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+
+        this.hits = meterRegistry.counter(name + ".requests", "result", "hit");
+        this.staleHits = meterRegistry.counter(name + ".requests", "result", "stale");
+        this.misses = meterRegistry.counter(name + ".requests", "result", "miss");
+        this.refreshSuccess = meterRegistry.counter(name + ".refresh", "result", "success");
+        this.refreshFailure = meterRegistry.counter(name + ".refresh", "result", "failure");
+        Gauge.builder(name + ".age.seconds", this, c -> c.ageSeconds())
+                .description("마지막 갱신 이후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    public T get() {
+        Snapshot<T> snapshot = current.get();
+        long now = System.currentTimeMillis();
+
+        if (snapshot != null) {
+            long age = now - snapshot.loadedAt();
+            if (age < ttl.toMillis()) {
+                hits.increment();
+                return snapshot.value();
+            }
+            if (age < maxStale.toMillis()) {
+                staleHits.increment();
+                refresh();
+                return snapshot.value();
+            }
+        }
+
+        misses.increment();
+        try {
+            return refresh().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 시작. 이미 진행 중이면 그 작업을 그대로 반환
+     */
+    public CompletableFuture<T> refresh() {
+        while (true) {
+            CompletableFuture<T> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+
+            CompletableFuture<T> future = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, future)) {
+                try {
+                    executor.execute(() -> load(future));
+                } catch (RuntimeException e) {
+                    // 큐가 가득 차 거절되면 자리를 비워야 다음 refresh 가 다시 시도할 수 있음
+                    refreshFailure.increment();
+                    log.warn("{} 캐시 갱신 작업 제출 실패: {}", name, e.getMessage());
+                    future.completeExceptionally(e);
+                    inFlight.compareAndSet(future, null);
+                }
+                return future;
+            }
+        }
+    }
+
+    private void load(CompletableFuture<T> future) {
+        try {
+            T value = loader.get();
+            current.set(new Snapshot<>(value, System.currentTimeMillis()));
+            refreshSuccess.increment();
+            future.complete(value);
+        } catch (Exception e) {
+            refreshFailure.increment();
+            log.warn("{} 캐시 갱신 실패: {}", name, e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private double ageSeconds() {
+        Snapshot<T> snapshot = current.get();
+        return snapshot != null ? (System.currentTimeMillis() - snapshot.loadedAt()) / 1000.0 : Double.NaN;
+    }
+
+    private record Snapshot<T>(T value, long loadedAt) {
+    }
+}
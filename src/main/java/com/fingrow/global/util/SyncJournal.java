@@ -0,0 +1,215 @@
+package com.fingrow.global.util;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동기화 실행 단계별 계측 (수집 → 파싱 → 비교 → 저장 → 인덱스 재생성)
+ * - 실행 스레드에 begin() 으로 묶어 두면 하위 서비스는 current() 로 꺼내 기록
+ *   (묶인 저널이 없으면 아무것도 하지 않는 저널이 반환되므로 수동 호출/기동 시에도 그대로 동작)
+ * - 단계 시간은 배타적으로 잼: 수집 중 파싱 타이머가 열리면 그동안 수집 타이머는 멈춤
+ * - 병렬 작업 스레드는 bind() 로 같은 저널을 묶어 기록
+ * - 단계마다 두 가지 시간을 남김
+ *   wallMs: 그 단계 타이머가 처음 열린 때부터 마지막으로 닫힌 때까지 (병렬 실행에도 실제 경과 시간, 중첩된 하위 단계 포함)
+ *   threadMs: 스레드별 배타 시간의 합 (병렬 단계는 동시 실행 수만큼 커질 수 있음)
+ * - 오류는 단계별로 건수만 세고 메시지는 MAX_ERROR_SAMPLES 개까지만 보관
+ */
+public final class SyncJournal {
+
+    public enum Stage {
+        FETCH, PARSE, DIFF, WRITE, INDEX
+    }
+
+    public static final int MAX_ERROR_SAMPLES = 10;
+    private static final int MAX_ERROR_LENGTH = 300;
+
+    private static final SyncJournal NOOP = new SyncJournal(false);
+    private static final ThreadLocal<SyncJournal> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Timer>> RUNNING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final boolean enabled;
+    private final Map<Stage, StageStats> stages;
+
+    private SyncJournal(boolean enabled) {
+        this.enabled = enabled;
+        EnumMap<Stage, StageStats> map = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            map.put(stage, new StageStats());
+        }
+        this.stages = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 현재 스레드에 새 저널을 묶음 (끝나면 end() 호출)
+     */
+    public static SyncJournal begin() {
+        SyncJournal journal = new SyncJournal(true);
+        CURRENT.set(journal);
+        return journal;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+        RUNNING.remove();
+    }
+
+    public static SyncJournal current() {
+        SyncJournal journal = CURRENT.get();
+        return journal != null ? journal : NOOP;
+    }
+
+    /**
+     * 다른 스레드에서 이 저널에 기록하도록 묶음 (try-with-resources 로 해제)
+     */
+    public Scope bind() {
+        SyncJournal previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public Timer time(Stage stage) {
+        if (!enabled) {
+            return Timer.NOOP;
+        }
+        Deque<Timer> running = RUNNING.get();
+        long now = System.nanoTime();
+        Timer parent = running.peek();
+        if (parent != null) {
+            parent.pause(now);
+        }
+        Timer timer = new Timer(stages.get(stage), running, now);
+        running.push(timer);
+        return timer;
+    }
+
+    public void bytes(long bytes) {
+        if (enabled) {
+            stages.get(Stage.FETCH).bytes.add(bytes);
+        }
+    }
+
+    public void rows(Stage stage, long rowsIn, long rowsOut) {
+        if (enabled) {
+            stages.get(stage).rowsIn.add(rowsIn);
+            stages.get(stage).rowsOut.add(rowsOut);
+        }
+    }
+
+    public void error(Stage stage, String message) {
+        if (enabled) {
+            stages.get(stage).error(message);
+        }
+    }
+
+    public Map<Stage, StageStats> stages() {
+        return stages;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static final class Timer implements AutoCloseable {
+
+        private static final Timer NOOP = new Timer(null, null, 0);
+
+        private final StageStats stats;
+        private final Deque<Timer> running;
+        private final long startedAt;
+        private long resumedAt;
+        private long elapsed;
+
+        private Timer(StageStats stats, Deque<Timer> running, long now) {
+            this.stats = stats;
+            this.running = running;
+            this.startedAt = now;
+            this.resumedAt = now;
+        }
+
+        private void pause(long now) {
+            elapsed += now - resumedAt;
+        }
+
+        @Override
+        public void close() {
+            if (stats == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            stats.nanos.add(elapsed + now - resumedAt);
+            stats.firstStart.accumulate(startedAt);
+            stats.lastEnd.accumulate(now);
+            running.remove(this);
+            Timer parent = running.peek();
+            if (parent != null) {
+                parent.resumedAt = now;
+            }
+        }
+    }
+
+    public static final class StageStats {
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator firstStart = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator lastEnd = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder rowsIn = new LongAdder();
+        private final LongAdder rowsOut = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final List<String> errorSamples = new ArrayList<>();
+
+        private void error(String message) {
+            errors.increment();
+            synchronized (errorSamples) {
+                if (errorSamples.size() < MAX_ERROR_SAMPLES) {
+                    String text = String.valueOf(message);
+                    errorSamples.add(text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text);
+                }
+            }
+        }
+
+        public long wallMs() {
+            long start = firstStart.get();
+            long end = lastEnd.get();
+            return end > start ? (end - start) / 1_000_000 : 0;
+        }
+
+        public long threadMs() {
+            return nanos.sum() / 1_000_000;
+        }
+
+        public long bytes() {
+            return bytes.sum();
+        }
+
+        public long rowsIn() {
+            return rowsIn.sum();
+        }
+
+        public long rowsOut() {
+            return rowsOut.sum();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        public List<String> errorSamples() {
+            synchronized (errorSamples) {
+                return List.copyOf(errorSamples);
+            }
+        }
+
+        public boolean isEmpty() {
+            return nanos.sum() == 0 && bytes.sum() == 0 && rowsIn.sum() == 0 && rowsOut.sum() == 0 && errors.sum() == 0;
+        }
+    }
+}
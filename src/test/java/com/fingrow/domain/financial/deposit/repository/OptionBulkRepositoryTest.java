@@ -0,0 +1,149 @@
+package com.fingrow.domain.financial.deposit.repository;
+
+import com.fingrow.domain.financial.deposit.entity.DepositOption;
+import com.fingrow.domain.financial.deposit.entity.DepositProduct;
+import com.fingrow.domain.financial.deposit.entity.SavingOption;
+import com.fingrow.domain.financial.deposit.entity.SavingProduct;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 옵션 JDBC 배치 INSERT 가 배치 크기를 넘는 건수와 null 컬럼을 그대로 적재하는지
+ * - saveAll 과 같은 건수를 넣어 문장 수와 소요 시간을 비교 (H2 메모리 DB 라 시간은 상대 비교용)
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OptionBulkRepository.class)
+class OptionBulkRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OptionBulkRepository optionBulkRepository;
+
+    @Autowired
+    private DepositOptionRepository depositOptionRepository;
+
+    @Test
+    void insertsDepositOptionsAcrossSeveralBatches() {
+        DepositProduct product = DepositProduct.builder().finPrdtCd("D-1").korCoNm("국민은행").finPrdtNm("정기예금").build();
+        entityManager.persist(product);
+        entityManager.flush();
+
+        List<DepositOption> options = new ArrayList<>();
+        for (int i = 0; i < 1_201; i++) {
+            options.add(DepositOption.builder()
+                    .depositProduct(product)
+                    .intrRateType("S")
+                    .intrRateTypeNm("단리")
+                    .intrRate(2.0 + i * 0.001)
+                    .intrRate2(i % 2 == 0 ? null : 3.0)
+                    .saveTrm(12)
+                    .build());
+        }
+
+        assertThat(optionBulkRepository.insertDepositOptions(options)).isEqualTo(1_201);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM deposit_options WHERE deposit_product_id = ?", Long.class, product.getId()))
+                .isEqualTo(1_201L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM deposit_options WHERE intr_rate2 IS NULL", Long.class))
+                .isEqualTo(601L);
+    }
+
+    @Test
+    void insertsSavingOptionColumns() {
+        SavingProduct product = SavingProduct.builder().finPrdtCd("S-1").korCoNm("신한은행").finPrdtNm("자유적금").build();
+        entityManager.persist(product);
+        entityManager.flush();
+
+        optionBulkRepository.insertSavingOptions(List.of(SavingOption.builder()
+                .savingProduct(product)
+                .intrRateType("M")
+                .intrRateTypeNm("복리")
+                .rsrvType("F")
+                .rsrvTypeNm("자유적립식")
+                .intrRate(3.1)
+                .saveTrm(24)
+                .build()));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM saving_options WHERE saving_product_id = ?",
+                product.getId());
+        assertThat(row.get("rsrv_type")).isEqualTo("F");
+        assertThat(row.get("intr_rate")).isEqualTo(3.1);
+        assertThat(row.get("intr_rate2")).isNull();
+        assertThat(row.get("save_trm")).isEqualTo(24);
+    }
+
+    @Test
+    void batchInsertAvoidsPerRowStatementsOfSaveAll() {
+        int rows = 2_000;
+        DepositProduct product = DepositProduct.builder().finPrdtCd("D-2").korCoNm("우리은행").finPrdtNm("예금").build();
+        entityManager.persist(product);
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // saveAll: IDENTITY 라 Hibernate 배치가 꺼져 행마다 INSERT 한 번
+        statistics.clear();
+        long start = System.nanoTime();
+        depositOptionRepository.saveAll(options(product, rows));
+        entityManager.flush();
+        long saveAllMs = (System.nanoTime() - start) / 1_000_000;
+        long saveAllStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        // JDBC 배치: Hibernate 문장 없이 500행씩 executeBatch
+        statistics.clear();
+        start = System.nanoTime();
+        optionBulkRepository.insertDepositOptions(options(product, rows));
+        long batchMs = (System.nanoTime() - start) / 1_000_000;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        log.info("옵션 {}건 적재: saveAll {}ms (문장 {}개), JDBC 배치 {}ms (Hibernate 문장 {}개)",
+                rows, saveAllMs, saveAllStatements, batchMs, batchStatements);
+        assertThat(saveAllStatements).isGreaterThanOrEqualTo(rows);
+        assertThat(batchStatements).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM deposit_options WHERE deposit_product_id = ?", Long.class, product.getId()))
+                .isEqualTo(rows * 2L);
+    }
+
+    private static List<DepositOption> options(DepositProduct product, int rows) {
+        List<DepositOption> options = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            options.add(DepositOption.builder()
+                    .depositProduct(product).intrRateType("S").intrRate(2.0).saveTrm(i).build());
+        }
+        return options;
+    }
+}
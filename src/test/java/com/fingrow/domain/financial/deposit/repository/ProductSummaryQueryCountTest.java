@@ -0,0 +1,129 @@
+package com.fingrow.domain.financial.deposit.repository;
+
+import com.fingrow.domain.financial.deposit.entity.DepositOption;
+import com.fingrow.domain.financial.deposit.entity.DepositProduct;
+import com.fingrow.domain.financial.deposit.entity.SavingOption;
+import com.fingrow.domain.financial.deposit.entity.SavingProduct;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요약 조회가 상품 수와 관계없이 SQL 한 번으로 끝나는지 (옵션 지연 로딩 N+1 회귀 방지)
+ * - 운영 DB 대신 H2(MySQL 모드)에서 Hibernate 통계로 준비된 문장 수를 셈
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:summary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductSummaryQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DepositProductRepository depositProductRepository;
+
+    @Autowired
+    private SavingProductRepository savingProductRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void depositSummariesUseOneStatementRegardlessOfCatalogSize() {
+        persistDeposits(0, 2);
+        assertThat(statementsFor(() -> assertThat(depositProductRepository.findAllSummaries()).hasSize(2))).isEqualTo(1);
+
+        persistDeposits(2, 30);
+        assertThat(statementsFor(() -> assertThat(depositProductRepository.findAllSummaries()).hasSize(30))).isEqualTo(1);
+        assertThat(statementsFor(() -> depositProductRepository.searchSummaries("은행"))).isEqualTo(1);
+    }
+
+    @Test
+    void savingSummariesUseOneStatementRegardlessOfCatalogSize() {
+        persistSavings(0, 2);
+        assertThat(statementsFor(() -> assertThat(savingProductRepository.findAllSummaries()).hasSize(2))).isEqualTo(1);
+
+        persistSavings(2, 30);
+        assertThat(statementsFor(() -> assertThat(savingProductRepository.findAllSummaries()).hasSize(30))).isEqualTo(1);
+    }
+
+    @Test
+    void summaryPicksBestOptionPreferringPreferentialRate() {
+        DepositProduct product = DepositProduct.builder().finPrdtCd("D-1").korCoNm("국민은행").finPrdtNm("정기예금").build();
+        entityManager.persist(product);
+        entityManager.persist(depositOption(product, 3.2, null, 24));
+        entityManager.persist(depositOption(product, 3.0, 3.5, 12));
+        entityManager.persist(depositOption(product, 3.1, 0.0, 6));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ProductSummaryView> summaries = depositProductRepository.findAllSummaries();
+
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getBankName()).isEqualTo("국민은행");
+        assertThat(summaries.get(0).getBestRate()).isEqualTo(3.5);
+        assertThat(summaries.get(0).getBestTerm()).isEqualTo(12);
+    }
+
+    // =========================== 헬퍼 ===========================
+
+    private long statementsFor(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistDeposits(int from, int to) {
+        for (int i = from; i < to; i++) {
+            DepositProduct product = DepositProduct.builder()
+                    .finPrdtCd("D-" + i).korCoNm("테스트은행" + i).finPrdtNm("예금" + i).build();
+            entityManager.persist(product);
+            entityManager.persist(depositOption(product, 2.0 + i * 0.01, 2.5 + i * 0.01, 12));
+            entityManager.persist(depositOption(product, 2.1 + i * 0.01, null, 24));
+        }
+    }
+
+    private void persistSavings(int from, int to) {
+        for (int i = from; i < to; i++) {
+            SavingProduct product = SavingProduct.builder()
+                    .finPrdtCd("S-" + i).korCoNm("테스트은행" + i).finPrdtNm("적금" + i).build();
+            entityManager.persist(product);
+            entityManager.persist(SavingOption.builder().savingProduct(product).intrRate(3.0).intrRate2(3.5).saveTrm(12).build());
+            entityManager.persist(SavingOption.builder().savingProduct(product).intrRate(3.2).saveTrm(24).build());
+        }
+    }
+
+    private static DepositOption depositOption(DepositProduct product, Double intrRate, Double intrRate2, int saveTrm) {
+        return DepositOption.builder()
+                .depositProduct(product)
+                .intrRate(intrRate)
+                .intrRate2(intrRate2)
+                .saveTrm(saveTrm)
+                .build();
+    }
+}
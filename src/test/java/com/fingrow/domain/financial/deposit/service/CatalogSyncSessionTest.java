@@ -0,0 +1,155 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.ProductSyncResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSyncSessionTest {
+
+    @Test
+    void createdOptionsAreSavedButNotAddedToTheManagedCollection() {
+        TestSession session = new TestSession(new HashMap<>());
+
+        session.apply(List.of(new ProductDto("P1")), List.of(new OptionDto("P1", "12"), new OptionDto("P1", "24")));
+
+        // 배치로 넣은 옵션이 cascade 컬렉션에 들어가면 커밋 때 다시 INSERT 됨
+        assertThat(session.products.get("P1").options).isEmpty();
+        assertThat(session.saved).extracting(option -> option.key).containsExactly("12", "24");
+    }
+
+    @Test
+    void optionsCreatedEarlierInTheSessionAreNotInsertedTwice() {
+        TestSession session = new TestSession(new HashMap<>());
+
+        session.apply(List.of(new ProductDto("P1")), List.of(new OptionDto("P1", "12")));
+        session.apply(List.of(new ProductDto("P1")), List.of(new OptionDto("P1", "12")));
+
+        ProductSyncResult result = session.finish(true);
+        assertThat(result.getOptionsInserted()).isEqualTo(1);
+        assertThat(session.saved).hasSize(1);
+    }
+
+    @Test
+    void existingOptionsMissingFromThePageAreDeleted() {
+        Product existing = new Product("P1");
+        existing.options.add(new Option("12"));
+        existing.options.add(new Option("24"));
+        Map<String, Product> current = new HashMap<>();
+        current.put("P1", existing);
+        TestSession session = new TestSession(current);
+
+        session.apply(List.of(new ProductDto("P1")), List.of(new OptionDto("P1", "12")));
+        ProductSyncResult result = session.finish(true);
+
+        assertThat(existing.options).extracting(option -> option.key).containsExactly("12");
+        assertThat(session.deleted).extracting(option -> option.key).containsExactly("24");
+        assertThat(result.getOptionsDeleted()).isEqualTo(1);
+        assertThat(result.getOptionsInserted()).isZero();
+    }
+
+    // =========================== 테스트용 카탈로그 ===========================
+
+    record ProductDto(String code) {
+    }
+
+    record OptionDto(String productCode, String key) {
+    }
+
+    static final class Product {
+        final String code;
+        final List<Option> options = new ArrayList<>();
+
+        Product(String code) {
+            this.code = code;
+        }
+    }
+
+    static final class Option {
+        final String key;
+
+        Option(String key) {
+            this.key = key;
+        }
+    }
+
+    static final class TestSession extends CatalogSyncSession<Product, Option, ProductDto, OptionDto> {
+
+        final Map<String, Product> products;
+        final List<Option> saved = new ArrayList<>();
+        final List<Option> deleted = new ArrayList<>();
+
+        TestSession(Map<String, Product> products) {
+            super("TEST", products);
+            this.products = products;
+        }
+
+        @Override
+        protected String productCodeOf(ProductDto dto) {
+            return dto.code();
+        }
+
+        @Override
+        protected Product createProduct(ProductDto dto) {
+            return new Product(dto.code());
+        }
+
+        @Override
+        protected boolean updateProduct(Product product, ProductDto dto) {
+            return false;
+        }
+
+        @Override
+        protected List<Option> optionsOf(Product product) {
+            return product.options;
+        }
+
+        @Override
+        protected String optionProductCodeOf(OptionDto dto) {
+            return dto.productCode();
+        }
+
+        @Override
+        protected String optionKeyOf(OptionDto dto) {
+            return dto.key();
+        }
+
+        @Override
+        protected String optionKey(Option option) {
+            return option.key;
+        }
+
+        @Override
+        protected Option createOption(Product product, OptionDto dto) {
+            return new Option(dto.key());
+        }
+
+        @Override
+        protected boolean updateOption(Option option, OptionDto dto) {
+            return false;
+        }
+
+        @Override
+        protected void saveProducts(List<Product> products) {
+        }
+
+        @Override
+        protected void saveOptions(List<Option> options) {
+            saved.addAll(options);
+        }
+
+        @Override
+        protected void deleteOptions(List<Option> options) {
+            deleted.addAll(options);
+        }
+
+        @Override
+        protected void deleteProducts(List<Product> products) {
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.fingrow.domain.financial.deposit.service;
+
+import com.fingrow.domain.financial.deposit.dto.DepositOptionDto;
+import com.fingrow.domain.financial.deposit.dto.DepositProductDto;
+import com.fingrow.domain.financial.deposit.dto.ProductSyncResult;
+import com.fingrow.domain.financial.deposit.entity.DepositOption;
+import com.fingrow.domain.financial.deposit.entity.DepositProduct;
+import com.fingrow.domain.financial.deposit.repository.DepositOptionRepository;
+import com.fingrow.domain.financial.deposit.repository.DepositProductRepository;
+import com.fingrow.domain.financial.deposit.repository.OptionBulkRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예금 카탈로그 동기화를 H2 에서 실제 JPA + JDBC 배치로 돌려 커밋 시점의 행 수를 확인
+ * - 배치로 넣은 옵션이 cascade 로 다시 INSERT 되는 회귀 방지
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalogsync;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OptionBulkRepository.class)
+class DepositCatalogSyncSessionTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DepositProductRepository depositProductRepository;
+
+    @Autowired
+    private DepositOptionRepository depositOptionRepository;
+
+    @Autowired
+    private OptionBulkRepository optionBulkRepository;
+
+    @BeforeEach
+    void setUp() {
+        DepositProduct existing = DepositProduct.builder().finPrdtCd("P1").korCoNm("국민은행").finPrdtNm("정기예금").build();
+        entityManager.persist(existing);
+        entityManager.persist(DepositOption.builder()
+                .depositProduct(existing).intrRateType("S").intrRate(3.0).saveTrm(12).build());
+        entityManager.persist(DepositOption.builder()
+                .depositProduct(existing).intrRateType("S").intrRate(3.1).saveTrm(36).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void reconcilingOnePageWritesEachOptionOnce() {
+        ProductSyncResult result = sync();
+        // 커밋 시 flush 와 같은 시점: 여기서 cascade PERSIST 가 일어나면 행이 늘어남
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(result.getProductsInserted()).isEqualTo(1);
+        assertThat(result.getOptionsInserted()).isEqualTo(2);
+        assertThat(result.getOptionsUpdated()).isEqualTo(1);
+        assertThat(result.getOptionsDeleted()).isEqualTo(1);
+        assertThat(optionRows()).isEqualTo(3);
+        assertThat(optionRows("P1")).isEqualTo(2);
+        assertThat(optionRows("P2")).isEqualTo(1);
+    }
+
+    @Test
+    void secondSyncOfTheSamePageChangesNothing() {
+        sync();
+        entityManager.flush();
+        entityManager.clear();
+
+        ProductSyncResult result = sync();
+        entityManager.flush();
+
+        assertThat(result.getOptionsInserted()).isZero();
+        assertThat(result.getOptionsUpdated()).isZero();
+        assertThat(result.getOptionsDeleted()).isZero();
+        assertThat(optionRows()).isEqualTo(3);
+    }
+
+    // =========================== 헬퍼 ===========================
+
+    // P1: 12개월 금리 변경, 24개월 신규, 36개월 삭제 / P2: 신규 상품
+    private ProductSyncResult sync() {
+        DepositCatalogSyncSession session = new DepositCatalogSyncSession(
+                depositProductRepository, depositOptionRepository, optionBulkRepository);
+        session.apply(
+                List.of(product("P1", "정기예금"), product("P2", "자유예금")),
+                List.of(option("P1", 12, 3.2), option("P1", 24, 3.4), option("P2", 12, 2.9)));
+        return session.finish(true);
+    }
+
+    private long optionRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM deposit_options", Long.class);
+    }
+
+    private long optionRows(String finPrdtCd) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM deposit_options o JOIN deposit_products p ON p.id = o.deposit_product_id " +
+                "WHERE p.fin_prdt_cd = ?", Long.class, finPrdtCd);
+    }
+
+    private static DepositProductDto product(String code, String name) {
+        DepositProductDto dto = new DepositProductDto();
+        dto.setFinPrdtCd(code);
+        dto.setKorCoNm("국민은행");
+        dto.setFinPrdtNm(name);
+        return dto;
+    }
+
+    private static DepositOptionDto option(String code, int saveTrm, double intrRate) {
+        DepositOptionDto dto = new DepositOptionDto();
+        dto.setFinPrdtCd(code);
+        dto.setIntrRateType("S");
+        dto.setSaveTrm(saveTrm);
+        dto.setIntrRate(intrRate);
+        return dto;
+    }
+}
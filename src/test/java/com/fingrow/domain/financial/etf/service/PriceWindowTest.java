@@ -0,0 +1,119 @@
+package com.fingrow.domain.financial.etf.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PriceWindowTest {
+
+    @Test
+    void movingAveragesMatchFullRecomputationAcrossWrapAround() {
+        Random random = new Random(42);
+        PriceWindow window = new PriceWindow();
+        List<Long> closes = new ArrayList<>();
+
+        // 용량(252)을 두 번 넘게 채워 링 버퍼가 여러 번 돌도록 함
+        for (int day = 0; day < 600; day++) {
+            long close = 10_000 + random.nextInt(2_000);
+            window.add(close);
+            closes.add(close);
+
+            for (int w : new int[]{5, 20, 60, 120}) {
+                Double expected = closes.size() >= w ? average(closes.subList(closes.size() - w, closes.size())) : null;
+                if (expected == null) {
+                    assertThat(window.movingAverage(w)).isNull();
+                } else {
+                    assertThat(window.movingAverage(w)).isCloseTo(expected, within(1e-9));
+                }
+            }
+        }
+        assertThat(window.size()).isEqualTo(PriceWindow.CAPACITY);
+    }
+
+    @Test
+    void serializeAndParseRoundTripKeepsState() {
+        PriceWindow window = new PriceWindow();
+        for (int i = 1; i <= 300; i++) {
+            window.add(i * 10L);
+        }
+
+        PriceWindow restored = PriceWindow.parse(window.serialize());
+
+        assertThat(restored.size()).isEqualTo(PriceWindow.CAPACITY);
+        assertThat(restored.serialize()).isEqualTo(window.serialize());
+        assertThat(restored.movingAverage(20)).isEqualTo(window.movingAverage(20));
+        assertThat(restored.fromNewest(0)).isEqualTo(3000L);
+        // 가장 오래 남은 값은 49번째 입력 (300 - 252 + 1)
+        assertThat(restored.fromNewest(PriceWindow.CAPACITY - 1)).isEqualTo(490L);
+    }
+
+    @Test
+    void parseHandlesEmptyInput() {
+        assertThat(PriceWindow.parse(null).size()).isZero();
+        assertThat(PriceWindow.parse(" ").size()).isZero();
+        assertThat(PriceWindow.parse("").serialize()).isEmpty();
+    }
+
+    @Test
+    void maxAndMinOnlyCoverRetainedCloses() {
+        PriceWindow window = new PriceWindow();
+        window.add(99_999);
+        window.add(1);
+        for (int i = 0; i < PriceWindow.CAPACITY; i++) {
+            window.add(500 + i);
+        }
+
+        assertThat(window.max()).isEqualTo(500 + PriceWindow.CAPACITY - 1);
+        assertThat(window.min()).isEqualTo(500);
+    }
+
+    @Test
+    void volatilityNeedsTwentyOneClosesAndIsZeroForFlatPrices() {
+        PriceWindow window = new PriceWindow();
+        for (int i = 0; i < 20; i++) {
+            window.add(1_000);
+        }
+        assertThat(window.volatility()).isNull();
+
+        window.add(1_000);
+        assertThat(window.volatility()).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    void volatilityMatchesSampleStandardDeviationOfReturns() {
+        PriceWindow window = new PriceWindow();
+        List<Long> closes = new ArrayList<>();
+        long close = 1_000;
+        for (int i = 0; i < 30; i++) {
+            close += (i % 3 == 0) ? 25 : -10;
+            window.add(close);
+            closes.add(close);
+        }
+
+        List<Double> returns = new ArrayList<>();
+        for (int i = closes.size() - 20; i < closes.size(); i++) {
+            returns.add((double) closes.get(i) / closes.get(i - 1) - 1);
+        }
+        double mean = returns.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+        double variance = returns.stream().mapToDouble(r -> (r - mean) * (r - mean)).sum() / (returns.size() - 1);
+        double expected = Math.sqrt(variance) * Math.sqrt(PriceWindow.CAPACITY) * 100;
+
+        assertThat(window.volatility()).isCloseTo(expected, within(1e-9));
+    }
+
+    @Test
+    void rejectsUnsupportedMovingAverageWindow() {
+        assertThatThrownBy(() -> new PriceWindow().movingAverage(10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double average(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).average().orElseThrow();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fingrow.domain.financial.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    private final AutocompleteTrie trie = AutocompleteTrie.builder()
+            .add("국민은행", "BANK", 0.6)
+            .add("국민연금 ETF", "ETF", 0.9)
+            .add("신한은행", "BANK", 0.8)
+            .add("KODEX 200", "ETF", 1.0)
+            .build();
+
+    @Test
+    void suggestsByPrefixInScoreOrder() {
+        assertThat(texts(trie.suggest("국민", 10))).containsExactly("국민연금 ETF", "국민은행");
+        assertThat(texts(trie.suggest("국민은", 10))).containsExactly("국민은행");
+    }
+
+    @Test
+    void choseongPrefixReachesTheSameNames() {
+        assertThat(texts(trie.suggest("ㄱㅁ", 10))).containsExactly("국민연금 ETF", "국민은행");
+        assertThat(texts(trie.suggest("ㅅㅎ", 10))).containsExactly("신한은행");
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        assertThat(texts(trie.suggest("kodex2", 10))).containsExactly("KODEX 200");
+        assertThat(texts(trie.suggest(" Ko ", 10))).containsExactly("KODEX 200");
+    }
+
+    @Test
+    void matchesPrefixOnly() {
+        assertThat(trie.suggest("은행", 10)).isEmpty();
+    }
+
+    @Test
+    void responseSizeIsBounded() {
+        AutocompleteTrie.Builder builder = AutocompleteTrie.builder();
+        for (int i = 0; i < 25; i++) {
+            builder.add("가상상품" + i, "DEPOSIT", i / 100.0);
+        }
+        AutocompleteTrie many = builder.build();
+
+        List<AutocompleteTrie.Entry> suggestions = many.suggest("가상", 100);
+        assertThat(suggestions).hasSize(AutocompleteTrie.MAX_SUGGESTIONS);
+        assertThat(suggestions.get(0).text()).isEqualTo("가상상품24");
+        assertThat(many.suggest("가상", 3)).hasSize(3);
+    }
+
+    @Test
+    void keepsHighestScoreForDuplicateNameAndType() {
+        AutocompleteTrie duplicated = AutocompleteTrie.builder()
+                .add("우리은행", "BANK", 0.2)
+                .add("우리은행", "BANK", 0.7)
+                .add("우리은행", "DEPOSIT", 0.5)
+                .build();
+
+        List<AutocompleteTrie.Entry> suggestions = duplicated.suggest("우리", 10);
+        assertThat(suggestions).extracting(AutocompleteTrie.Entry::type).containsExactly("BANK", "DEPOSIT");
+        assertThat(suggestions.get(0).score()).isEqualTo(0.7);
+    }
+
+    @Test
+    void rejectsEmptyOrOverlongPrefixes() {
+        assertThat(trie.suggest("", 10)).isEmpty();
+        assertThat(trie.suggest(null, 10)).isEmpty();
+        assertThat(trie.suggest("국민", 0)).isEmpty();
+        assertThat(trie.suggest("가".repeat(AutocompleteTrie.MAX_PREFIX_LENGTH + 1), 10)).isEmpty();
+        assertThat(AutocompleteTrie.empty().suggest("국민", 10)).isEmpty();
+    }
+
+    private static List<String> texts(List<AutocompleteTrie.Entry> entries) {
+        return entries.stream().map(AutocompleteTrie.Entry::text).toList();
+    }
+}
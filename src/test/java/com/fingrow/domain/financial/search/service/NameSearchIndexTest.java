@@ -0,0 +1,78 @@
+package com.fingrow.domain.financial.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameSearchIndexTest {
+
+    private final NameSearchIndex<String> index = NameSearchIndex.<String>builder()
+            .add("kb-deposit", 3.1, "국민은행", "KB Star 정기예금")
+            .add("shinhan-deposit", 3.4, "신한은행", "쏠편한 정기예금")
+            .add("hana-saving", 4.0, "하나은행", "내맘적금")
+            .add("kodex", 1.0, "KODEX 200")
+            .add("korea-invest", 2.0, "한국투자증권", "ACE 미국채")
+            .build();
+
+    @Test
+    void substringMatchesComeBackRankedByWeight() {
+        assertThat(index.search("은행", null, 10))
+                .containsExactly("hana-saving", "shinhan-deposit", "kb-deposit");
+        assertThat(index.search("정기예금", null, 10))
+                .containsExactly("shinhan-deposit", "kb-deposit");
+    }
+
+    @Test
+    void choseongAndMixedQueriesMatchSyllables() {
+        assertThat(index.search("ㄱㅁ", null, 10)).containsExactly("kb-deposit");
+        assertThat(index.search("국ㅁ", null, 10)).containsExactly("kb-deposit");
+        assertThat(index.search("ㅅㅎㅇㅎ", null, 10)).containsExactly("shinhan-deposit");
+    }
+
+    @Test
+    void singleCharacterMatchesAnywhereLikeTheFormerLikeQuery() {
+        // 이전 LIKE '%x%' 와 같이 필드 중간 글자도 일치
+        assertThat(index.search("국", null, 10)).containsExactly("kb-deposit", "korea-invest");
+        assertThat(index.search("예", null, 10)).containsExactly("shinhan-deposit", "kb-deposit");
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        assertThat(index.search("kodex2", null, 10)).containsExactly("kodex");
+        assertThat(index.search("  Kb sTaR ", null, 10)).containsExactly("kb-deposit");
+    }
+
+    @Test
+    void doesNotMatchAcrossFieldBoundaries() {
+        // "국민은행" + "KB Star 정기예금" 경계를 넘는 "행kb" 는 일치하지 않음
+        assertThat(index.search("행kb", null, 10)).isEmpty();
+    }
+
+    @Test
+    void appliesFilterAndLimit() {
+        assertThat(index.search("은행", id -> id.endsWith("deposit"), 10))
+                .containsExactly("shinhan-deposit", "kb-deposit");
+        assertThat(index.search("은행", null, 1)).containsExactly("hana-saving");
+    }
+
+    @Test
+    void emptyInputsReturnNothing() {
+        assertThat(index.search("", null, 10)).isEmpty();
+        assertThat(index.search(null, null, 10)).isEmpty();
+        assertThat(index.search("은행", null, 0)).isEmpty();
+        assertThat(index.search("없는이름", null, 10)).isEmpty();
+        assertThat(NameSearchIndex.<String>empty().search("은행", null, 10)).isEmpty();
+    }
+
+    @Test
+    void equalWeightsKeepInsertionOrder() {
+        NameSearchIndex<String> tied = NameSearchIndex.<String>builder()
+                .add("first", 1.0, "우리은행")
+                .add("second", 1.0, "우리은행 WON")
+                .build();
+
+        assertThat(tied.search("우리", null, 10)).isEqualTo(List.of("first", "second"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.fingrow.domain.financial.sync.service;
+
+import com.fingrow.domain.financial.sync.repository.SyncLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SyncLockServiceTest {
+
+    private static final String LOCK = "sync:FINLIFE";
+    private static final Duration LEASE = Duration.ofMinutes(30);
+
+    private SyncLockRepository repository;
+    private SyncLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SyncLockRepository.class);
+        lockService = new SyncLockService(repository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void rejectsSecondAcquireOnSameInstance() {
+        when(repository.tryAcquire(eq(LOCK), anyString(), anyLong())).thenReturn(1);
+
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isTrue();
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isFalse();
+
+        // 두 번째 시도는 DB 까지 가지 않음
+        verify(repository, times(1)).tryAcquire(eq(LOCK), anyString(), anyLong());
+    }
+
+    @Test
+    void canAcquireAgainAfterRelease() {
+        when(repository.tryAcquire(eq(LOCK), anyString(), anyLong())).thenReturn(1);
+        when(repository.release(eq(LOCK), anyString())).thenReturn(1);
+
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isTrue();
+        lockService.release(LOCK);
+
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isTrue();
+    }
+
+    @Test
+    void failedAcquireDoesNotMarkLockAsHeld() {
+        when(repository.tryAcquire(eq(LOCK), anyString(), anyLong())).thenReturn(0, 1);
+
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isFalse();
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isTrue();
+    }
+
+    @Test
+    void databaseErrorDoesNotMarkLockAsHeld() {
+        when(repository.tryAcquire(eq(LOCK), anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        try {
+            lockService.tryAcquire(LOCK, LEASE);
+        } catch (IllegalStateException ignored) {
+        }
+
+        assertThat(lockService.tryAcquire(LOCK, LEASE)).isTrue();
+    }
+
+    @Test
+    void renewsOnlyHeldLocks() {
+        when(repository.tryAcquire(eq(LOCK), anyString(), anyLong())).thenReturn(1);
+        when(repository.renew(eq(LOCK), anyString(), anyLong())).thenReturn(1);
+
+        lockService.renewHeld();
+        verify(repository, never()).renew(anyString(), anyString(), anyLong());
+
+        lockService.tryAcquire(LOCK, LEASE);
+        lockService.renewHeld();
+        verify(repository).renew(LOCK, lockService.instanceId(), LEASE.toSeconds());
+
+        lockService.release(LOCK);
+        lockService.renewHeld();
+        verify(repository, times(1)).renew(anyString(), anyString(), anyLong());
+    }
+}
@@ -0,0 +1,91 @@
+package com.fingrow.domain.financial.sync.service;
+
+import com.fingrow.domain.financial.bond.repository.BondProductRepository;
+import com.fingrow.domain.financial.bond.service.BondSyncService;
+import com.fingrow.domain.financial.deposit.service.FinancialProductService;
+import com.fingrow.domain.financial.etf.service.EtfHistoryService;
+import com.fingrow.domain.financial.etf.service.EtfService;
+import com.fingrow.domain.financial.sync.entity.SyncRun;
+import com.fingrow.domain.financial.sync.repository.SyncLockRepository;
+import com.fingrow.domain.financial.sync.repository.SyncRunRepository;
+import com.fingrow.domain.financial.sync.repository.SyncRunStageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SyncOrchestratorTest {
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private SyncLockRepository syncLockRepository;
+    private SyncRunRepository syncRunRepository;
+    private SyncOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        syncLockRepository = mock(SyncLockRepository.class);
+        when(syncLockRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1);
+        when(syncLockRepository.release(anyString(), anyString())).thenReturn(1);
+
+        syncRunRepository = mock(SyncRunRepository.class);
+        when(syncRunRepository.save(any(SyncRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SyncLockService lockService = new SyncLockService(syncLockRepository, mock(PlatformTransactionManager.class));
+        orchestrator = new SyncOrchestrator(
+                mock(FinancialProductService.class),
+                mock(EtfService.class),
+                mock(EtfHistoryService.class),
+                mock(BondSyncService.class),
+                mock(BondProductRepository.class),
+                lockService,
+                syncRunRepository,
+                mock(SyncRunStageRepository.class),
+                mock(TaskScheduler.class),
+                // 실행을 붙잡아 두어 첫 번째 실행이 끝나지 않은 상태를 만듦
+                queued::add);
+    }
+
+    @Test
+    void rejectsSecondSubmitWhileFirstIsRunning() {
+        SyncRun first = orchestrator.submit(SyncRun.Source.BOND, SyncRun.Trigger.MANUAL);
+        SyncRun second = orchestrator.submit(SyncRun.Source.BOND, SyncRun.Trigger.MANUAL);
+
+        assertThat(first).isNotNull();
+        assertThat(first.getStatus()).isEqualTo(SyncRun.Status.RUNNING);
+        assertThat(second).isNull();
+        assertThat(queued).hasSize(1);
+        verify(syncLockRepository, times(1)).tryAcquire(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void acceptsSubmitAgainAfterRunFinishes() {
+        SyncRun first = orchestrator.submit(SyncRun.Source.BOND, SyncRun.Trigger.MANUAL);
+        queued.remove(0).run();
+
+        assertThat(first.getStatus()).isEqualTo(SyncRun.Status.SUCCESS);
+        assertThat(orchestrator.submit(SyncRun.Source.BOND, SyncRun.Trigger.MANUAL)).isNotNull();
+    }
+
+    @Test
+    void synchronousRunIsRejectedWhileBackgroundRunHoldsTheLease() {
+        orchestrator.submit(SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL);
+
+        assertThat(orchestrator.run(SyncRun.Source.KRX_ETF, SyncRun.Trigger.MANUAL, () -> 1)).isNull();
+    }
+
+    @Test
+    void differentSourcesRunIndependently() {
+        assertThat(orchestrator.submit(SyncRun.Source.BOND, SyncRun.Trigger.MANUAL)).isNotNull();
+        assertThat(orchestrator.submit(SyncRun.Source.FINLIFE, SyncRun.Trigger.MANUAL)).isNotNull();
+    }
+}
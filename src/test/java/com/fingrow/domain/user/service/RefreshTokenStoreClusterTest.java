@@ -0,0 +1,155 @@
+package com.fingrow.domain.user.service;
+
+import com.fingrow.domain.user.entity.RefreshToken;
+import com.fingrow.domain.user.repository.RefreshTokenBulkRepository;
+import com.fingrow.domain.user.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 두 인스턴스가 같은 refresh_tokens 테이블을 쓸 때의 교체/재사용 감지
+ * - 테이블은 메모리 맵으로 흉내 내고, upsert 는 상태를 되돌리지 않는 규칙을 그대로 따름
+ */
+class RefreshTokenStoreClusterTest {
+
+    private final Map<String, RefreshToken> table = new ConcurrentHashMap<>();
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenBulkRepository refreshTokenBulkRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenBulkRepository = mock(RefreshTokenBulkRepository.class);
+
+        when(refreshTokenRepository.findById(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(table.get(inv.<String>getArgument(0))).map(this::copy));
+        when(refreshTokenRepository.existsById(anyString()))
+                .thenAnswer(inv -> table.containsKey(inv.<String>getArgument(0)));
+        when(refreshTokenRepository.findByFamilyId(anyString())).thenAnswer(inv -> table.values().stream()
+                .filter(t -> t.getFamilyId().equals(inv.getArgument(0))).map(this::copy).toList());
+        when(refreshTokenRepository.findByUpdatedAtAfter(any())).thenAnswer(inv -> table.values().stream()
+                .filter(t -> t.getUpdatedAt().isAfter(inv.getArgument(0))).map(this::copy).toList());
+
+        doAnswer(inv -> {
+            for (RefreshToken incoming : inv.<List<RefreshToken>>getArgument(0)) {
+                table.merge(incoming.getTokenId(), copy(incoming), (current, other) ->
+                        other.getStatus().ordinal() > current.getStatus().ordinal() ? other : current);
+            }
+            return null;
+        }).when(refreshTokenBulkRepository).upsertAll(anyList());
+        when(refreshTokenBulkRepository.markRotated(anyString(), any())).thenAnswer(inv -> {
+            RefreshToken row = table.get(inv.<String>getArgument(0));
+            if (row == null || row.getStatus() != RefreshToken.Status.ACTIVE) {
+                return 0;
+            }
+            row.setStatus(RefreshToken.Status.ROTATED);
+            row.setUpdatedAt(inv.getArgument(1));
+            return 1;
+        });
+        when(refreshTokenBulkRepository.revokeFamily(anyString(), any())).thenAnswer(inv -> {
+            int updated = 0;
+            for (RefreshToken row : table.values()) {
+                if (row.getFamilyId().equals(inv.getArgument(0)) && row.getStatus() != RefreshToken.Status.REVOKED) {
+                    row.setStatus(RefreshToken.Status.REVOKED);
+                    row.setUpdatedAt(inv.getArgument(1));
+                    updated++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Test
+    void sameTokenRotatesOnOnlyOneNode() {
+        RefreshTokenStore a = node(true);
+        RefreshTokenStore b = node(true);
+        a.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+        a.flush();
+        b.find("T1");
+
+        assertThat(a.rotate("T1")).isTrue();
+        assertThat(b.rotate("T1")).isFalse();
+        assertThat(table.get("T1").getStatus()).isEqualTo(RefreshToken.Status.ROTATED);
+    }
+
+    @Test
+    void reuseOnOtherNodeRevokesSuccessorNotYetFlushed() {
+        RefreshTokenStore a = node(true);
+        RefreshTokenStore b = node(true);
+        a.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+        a.flush();
+
+        // A 에서 정상 교체: 새 토큰 T2 는 아직 A 의 메모리에만 있음
+        assertThat(a.rotate("T1")).isTrue();
+        a.add("T2", 1L, "F1", LocalDateTime.now().plusDays(1));
+
+        // 탈취된 T1 이 B 로 들어옴 → 재사용 감지, 계열 폐기
+        assertThat(b.find("T1")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.ROTATED);
+        assertThat(b.rotate("T1")).isFalse();
+        b.revokeFamily("F1");
+        assertThat(table).doesNotContainKey("T2");
+
+        // A 는 flush 때 T2 를 적재하고, 폐기된 T1 을 읽어 와 계열 전체를 폐기
+        a.flush();
+        assertThat(a.find("T2")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.REVOKED);
+        a.flush();
+        assertThat(table.get("T2").getStatus()).isEqualTo(RefreshToken.Status.REVOKED);
+        assertThat(b.rotate("T2")).isFalse();
+    }
+
+    @Test
+    void successorMergedAfterRevocationIsRejected() {
+        // A 는 변경분을 읽어 오지 않는 노드: T2 가 ACTIVE 로 적재됨
+        RefreshTokenStore a = node(false);
+        RefreshTokenStore b = node(true);
+        a.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+        a.flush();
+        a.rotate("T1");
+        a.add("T2", 1L, "F1", LocalDateTime.now().plusDays(1));
+
+        b.find("T1");
+        b.revokeFamily("F1");
+        a.flush();
+        assertThat(table.get("T2").getStatus()).isEqualTo(RefreshToken.Status.ACTIVE);
+
+        // B 는 폐기 표시가 남아 있어 늦게 들어온 T2 를 폐기로 합치고 DB 에도 적재
+        b.flush();
+        assertThat(b.find("T2")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.REVOKED);
+        b.flush();
+        assertThat(table.get("T2").getStatus()).isEqualTo(RefreshToken.Status.REVOKED);
+    }
+
+    // =========================== 헬퍼 ===========================
+
+    private RefreshTokenStore node(boolean pullRemoteChanges) {
+        return new RefreshTokenStore(refreshTokenRepository, refreshTokenBulkRepository, pullRemoteChanges);
+    }
+
+    private RefreshToken copy(RefreshToken token) {
+        return RefreshToken.builder()
+                .tokenId(token.getTokenId())
+                .userId(token.getUserId())
+                .familyId(token.getFamilyId())
+                .status(token.getStatus())
+                .expiresAt(token.getExpiresAt())
+                .createdAt(token.getCreatedAt())
+                .updatedAt(token.getUpdatedAt())
+                .build();
+    }
+}
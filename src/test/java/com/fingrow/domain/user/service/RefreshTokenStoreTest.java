@@ -0,0 +1,161 @@
+package com.fingrow.domain.user.service;
+
+import com.fingrow.domain.user.entity.RefreshToken;
+import com.fingrow.domain.user.repository.RefreshTokenBulkRepository;
+import com.fingrow.domain.user.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenStoreTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenBulkRepository refreshTokenBulkRepository;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenBulkRepository = mock(RefreshTokenBulkRepository.class);
+        store = new RefreshTokenStore(refreshTokenRepository, refreshTokenBulkRepository, false);
+    }
+
+    @Test
+    void rotateSucceedsOnlyOnce() {
+        store.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+
+        assertThat(store.rotate("T1")).isTrue();
+        // 같은 토큰을 다시 쓰면 재사용으로 판단할 수 있도록 false
+        assertThat(store.rotate("T1")).isFalse();
+        assertThat(store.find("T1")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.ROTATED);
+    }
+
+    @Test
+    void rotateUnknownTokenFails() {
+        assertThat(store.rotate("missing")).isFalse();
+    }
+
+    @Test
+    void revokeFamilyRevokesEveryMemberOnce() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+        store.add("T1", 1L, "F1", expiresAt);
+        store.add("T2", 1L, "F1", expiresAt);
+        store.add("T3", 1L, "F2", expiresAt);
+        store.rotate("T1");
+
+        assertThat(store.revokeFamily("F1")).isEqualTo(2);
+        assertThat(store.revokeFamily("F1")).isZero();
+        assertThat(store.rotate("T2")).isFalse();
+        assertThat(store.find("T3")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.ACTIVE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesLatestPendingStatePerToken() {
+        store.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+        store.rotate("T1");
+
+        store.flush();
+
+        ArgumentCaptor<List<RefreshToken>> captor = ArgumentCaptor.forClass(List.class);
+        // DB 에 아직 없는 토큰이라 조건부 UPDATE 는 0행, 교체 상태는 write-behind 로 적재
+        verify(refreshTokenBulkRepository).markRotated(eq("T1"), any());
+        verify(refreshTokenBulkRepository).upsertAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .extracting(RefreshToken::getStatus).isEqualTo(RefreshToken.Status.ROTATED);
+
+        // 쓴 뒤에는 보낼 것이 없음
+        store.flush();
+        verifyNoMoreInteractions(refreshTokenBulkRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedFlushIsRetriedOnNextCycle() {
+        store.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+        doThrow(new RuntimeException("db down")).doNothing().when(refreshTokenBulkRepository).upsertAll(anyList());
+
+        store.flush();
+        store.flush();
+
+        ArgumentCaptor<List<RefreshToken>> captor = ArgumentCaptor.forClass(List.class);
+        verify(refreshTokenBulkRepository, times(2)).upsertAll(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(RefreshToken::getTokenId).containsExactly("T1");
+    }
+
+    @Test
+    void findLoadsWholeFamilyFromDatabase() {
+        // 다른 인스턴스가 발급해 인덱스에 없는 토큰
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+        when(refreshTokenRepository.findById("T1"))
+                .thenReturn(Optional.of(entity("T1", "F1", RefreshToken.Status.ROTATED, expiresAt)));
+        when(refreshTokenRepository.findByFamilyId("F1")).thenReturn(List.of(
+                entity("T1", "F1", RefreshToken.Status.ROTATED, expiresAt),
+                entity("T2", "F1", RefreshToken.Status.ACTIVE, expiresAt)));
+
+        assertThat(store.find("T1")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.ROTATED);
+
+        // 재사용 감지 시 DB 에서 읽어 온 계열 전체가 폐기되어야 함
+        assertThat(store.revokeFamily("F1")).isEqualTo(2);
+        verify(refreshTokenRepository, times(1)).findByFamilyId("F1");
+    }
+
+    @Test
+    void rotationRejectedByDatabaseFailsEvenIfLocallyActive() {
+        store.add("T1", 1L, "F1", LocalDateTime.now().plusDays(1));
+        // 다른 인스턴스가 먼저 교체해 조건부 UPDATE 가 0행
+        when(refreshTokenBulkRepository.markRotated(eq("T1"), any())).thenReturn(0);
+        when(refreshTokenRepository.existsById("T1")).thenReturn(true);
+
+        assertThat(store.rotate("T1")).isFalse();
+    }
+
+    @Test
+    void revokeFamilyAlsoRevokesRowsInDatabase() {
+        when(refreshTokenBulkRepository.revokeFamily(eq("F1"), any())).thenReturn(3);
+
+        // 이 노드가 계열 토큰을 하나도 모르더라도 DB 의 계열 전체를 폐기
+        assertThat(store.revokeFamily("F1")).isEqualTo(3);
+
+        // 이후 발급/적재되는 같은 계열 토큰은 폐기 상태로 들어옴
+        store.add("T9", 1L, "F1", LocalDateTime.now().plusDays(1));
+        assertThat(store.find("T9")).get()
+                .extracting(RefreshTokenStore.TokenState::status).isEqualTo(RefreshToken.Status.REVOKED);
+    }
+
+    @Test
+    void findReturnsEmptyForUnknownToken() {
+        when(refreshTokenRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThat(store.find("missing")).isEmpty();
+    }
+
+    // =========================== 헬퍼 ===========================
+
+    private static RefreshToken entity(String tokenId, String familyId, RefreshToken.Status status,
+                                       LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return RefreshToken.builder()
+                .tokenId(tokenId)
+                .userId(1L)
+                .familyId(familyId)
+                .status(status)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
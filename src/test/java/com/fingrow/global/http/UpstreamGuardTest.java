@@ -0,0 +1,162 @@
+package com.fingrow.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UpstreamGuardTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWithoutCalling() throws IOException {
+        UpstreamGuard guard = guard(settings(2, 2, Duration.ofHours(1), Duration.ofSeconds(5)));
+
+        guard.execute(HttpMethod.GET, () -> response(500)).close();
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.CLOSED);
+        guard.execute(HttpMethod.GET, () -> response(503)).close();
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+
+        assertThatThrownBy(() -> guard.execute(HttpMethod.GET, () -> {
+            throw new AssertionError("차단 중에는 호출하지 않아야 함");
+        })).isInstanceOf(UpstreamRejectedException.class);
+        assertThat(availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsFailures() throws IOException {
+        UpstreamGuard guard = guard(settings(1, 1, Duration.ofHours(1), Duration.ofSeconds(5)));
+
+        guard.execute(HttpMethod.GET, () -> response(404)).close();
+
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.CLOSED);
+    }
+
+    @Test
+    void runtimeExceptionReleasesPermitAndCountsAsFailure() {
+        UpstreamGuard guard = guard(settings(1, 1, Duration.ofHours(1), Duration.ofSeconds(5)));
+
+        assertThatThrownBy(() -> guard.execute(HttpMethod.GET, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(availablePermits()).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    @Test
+    void trialRejectedByFullBulkheadLeavesCircuitOpenInsteadOfHalfOpen() throws IOException {
+        // openDuration 0: 열리자마자 시험 호출을 받을 수 있는 상태
+        UpstreamGuard guard = guard(settings(1, 1, Duration.ZERO, Duration.ZERO));
+
+        // 실패 응답을 닫지 않고 들고 있어 벌크헤드 자리를 계속 차지
+        ClientHttpResponse held = guard.execute(HttpMethod.POST, () -> response(500));
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+
+        assertThatThrownBy(() -> guard.execute(HttpMethod.POST, () -> response(200)))
+                .isInstanceOf(UpstreamRejectedException.class);
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+
+        held.close();
+        guard.execute(HttpMethod.POST, () -> response(200)).close();
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.CLOSED);
+    }
+
+    @Test
+    void failedTrialReopensCircuit() throws IOException {
+        UpstreamGuard guard = guard(settings(1, 1, Duration.ZERO, Duration.ofSeconds(5)));
+
+        guard.execute(HttpMethod.POST, () -> response(500)).close();
+        guard.execute(HttpMethod.POST, () -> response(502)).close();
+
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    @Test
+    void cancelledExchangeReleasesPermitAndCountsAsFailure() {
+        UpstreamGuard guard = guard(settings(1, 1, Duration.ofHours(1), Duration.ZERO));
+
+        Disposable subscription = guard.exchange(request(), request -> Mono.never()).subscribe();
+        assertThat(availablePermits()).isZero();
+        subscription.dispose();
+
+        assertThat(availablePermits()).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    @Test
+    void exchangeTimeoutCountsAsFailure() {
+        UpstreamGuard guard = guard(new UpstreamGuard.Settings(Duration.ofSeconds(1), Duration.ofMillis(50), 1,
+                Duration.ZERO, 1, Duration.ofMillis(10), Duration.ofMillis(10), 1, Duration.ofHours(1)));
+
+        assertThatThrownBy(() -> guard.exchange(request(), request -> Mono.never()).block())
+                .hasRootCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+
+        assertThat(availablePermits()).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    @Test
+    void perRequestTimeoutAttributeOverridesReadTimeout() {
+        UpstreamGuard guard = guard(settings(1, 1, Duration.ofHours(1), Duration.ZERO));
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("http://localhost/test"))
+                .attribute(UpstreamGuard.TIMEOUT_ATTRIBUTE, Duration.ofMillis(50))
+                .build();
+
+        assertThatThrownBy(() -> guard.exchange(request, next -> Mono.never()).block(Duration.ofSeconds(2)))
+                .hasRootCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+        assertThat(circuitState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    // =========================== 헬퍼 ===========================
+
+    private UpstreamGuard guard(UpstreamGuard.Settings settings) {
+        return new UpstreamGuard(Upstream.OTHER, settings, meterRegistry);
+    }
+
+    private static UpstreamGuard.Settings settings(int maxConcurrent, int failureThreshold,
+                                                   Duration openDuration, Duration acquireTimeout) {
+        return new UpstreamGuard.Settings(Duration.ofSeconds(1), Duration.ofSeconds(5), maxConcurrent, acquireTimeout,
+                1, Duration.ofMillis(10), Duration.ofMillis(10), failureThreshold, openDuration);
+    }
+
+    private static ClientHttpResponse response(int status) throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatusCode.valueOf(status));
+        return response;
+    }
+
+    private static ClientRequest request() {
+        return ClientRequest.create(HttpMethod.POST, URI.create("http://localhost/test")).build();
+    }
+
+    private UpstreamGuard.State circuitState() {
+        int ordinal = (int) meterRegistry.get("http.upstream.circuit.state").gauge().value();
+        return UpstreamGuard.State.values()[ordinal];
+    }
+
+    private int availablePermits() {
+        return (int) meterRegistry.get("http.upstream.bulkhead.available").gauge().value();
+    }
+}
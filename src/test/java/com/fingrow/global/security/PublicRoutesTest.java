@@ -0,0 +1,34 @@
+package com.fingrow.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRoutesTest {
+
+    @Test
+    void matchesPublicPaths() {
+        assertThat(PublicRoutes.matches("/api/v1/auth/kakao/login")).isTrue();
+        assertThat(PublicRoutes.matches("/api/financial/deposits")).isTrue();
+        assertThat(PublicRoutes.matches("/api/v1/onboard/questions")).isTrue();
+        assertThat(PublicRoutes.matches("/swagger-ui/index.html")).isTrue();
+        assertThat(PublicRoutes.matches("/index.html")).isTrue();
+        assertThat(PublicRoutes.matches("/callback")).isTrue();
+    }
+
+    @Test
+    void protectedPathsAreNotMatched() {
+        assertThat(PublicRoutes.matches("/api/v1/users/me")).isFalse();
+        // 목록에는 questions 만 공개
+        assertThat(PublicRoutes.matches("/api/v1/onboard/answers")).isFalse();
+        // "/*.html" 은 최상위 파일만
+        assertThat(PublicRoutes.matches("/admin/index.html")).isFalse();
+        assertThat(PublicRoutes.matches("/callback/other")).isFalse();
+    }
+
+    @Test
+    void doubleStarPatternMatchesItsRoot() {
+        assertThat(PublicRoutes.matches("/api/public")).isTrue();
+        assertThat(PublicRoutes.matches("/api/publicity")).isFalse();
+    }
+}
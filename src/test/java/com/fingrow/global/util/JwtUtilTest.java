@@ -0,0 +1,65 @@
+package com.fingrow.global.util;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-unit-tests-0123456789";
+
+    private MeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(SECRET, 3600, 1209600, meterRegistry);
+    }
+
+    @Test
+    void accessTokenParsesOnceIntoVerifiedClaims() {
+        String token = jwtUtil.generateAccessToken("42");
+
+        Claims claims = jwtUtil.parseVerifiedClaims(token).orElseThrow();
+
+        assertThat(claims.getSubject()).isEqualTo("42");
+        assertThat(JwtUtil.isRefreshToken(claims)).isFalse();
+        // 요청당 검증 한 번 = 타이머 기록 한 번
+        assertThat(meterRegistry.get("auth.jwt.verify").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshTokenCarriesIdAndFamily() {
+        String token = jwtUtil.generateRefreshToken("42", "T1", "F1");
+
+        Claims claims = jwtUtil.parseVerifiedClaims(token).orElseThrow();
+
+        assertThat(JwtUtil.isRefreshToken(claims)).isTrue();
+        assertThat(claims.getId()).isEqualTo("T1");
+        assertThat(claims.get(JwtUtil.FAMILY_CLAIM, String.class)).isEqualTo("F1");
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        JwtUtil other = new JwtUtil("another-secret-key-for-jwt-util-unit-tests-9876543210", 3600, 1209600,
+                new SimpleMeterRegistry());
+
+        assertThat(jwtUtil.parseVerifiedClaims(other.generateAccessToken("42"))).isEmpty();
+        assertThat(jwtUtil.parseVerifiedClaims("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtUtil expiring = new JwtUtil(SECRET, -60, -60, new SimpleMeterRegistry());
+
+        String token = expiring.generateAccessToken("42");
+
+        assertThat(jwtUtil.parseVerifiedClaims(token)).isEmpty();
+        assertThat(jwtUtil.isTokenExpired(token)).isTrue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fingrow.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshingSnapshotCacheTest {
+
+    @Test
+    void rejectedRefreshDoesNotLeaveAStuckInFlightFuture() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        // 첫 제출은 큐가 가득 찬 것처럼 거절, 이후에는 호출 스레드에서 바로 실행
+        Executor executor = task -> {
+            if (reject.getAndSet(false)) {
+                throw new RejectedExecutionException("queue full");
+            }
+            task.run();
+        };
+        AtomicInteger loads = new AtomicInteger();
+        RefreshingSnapshotCache<Integer> cache = cache(loads::incrementAndGet, executor);
+
+        CompletableFuture<Integer> rejected = cache.refresh();
+        assertThat(rejected).isCompletedExceptionally();
+
+        assertThat(cache.refresh()).isCompletedWithValue(1);
+        assertThat(cache.get()).isEqualTo(1);
+    }
+
+    @Test
+    void missPropagatesRejection() {
+        Executor executor = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        RefreshingSnapshotCache<Integer> cache = cache(() -> 1, executor);
+
+        assertThatThrownBy(cache::get).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static RefreshingSnapshotCache<Integer> cache(Supplier<Integer> loader, Executor executor) {
+        return new RefreshingSnapshotCache<>("test.cache", loader, executor,
+                Duration.ofMinutes(1), Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+}
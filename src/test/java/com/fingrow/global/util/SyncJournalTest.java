@@ -0,0 +1,70 @@
+package com.fingrow.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncJournalTest {
+
+    @AfterEach
+    void tearDown() {
+        SyncJournal.end();
+    }
+
+    @Test
+    void parallelStageWallTimeIsElapsedSpanNotThreadSum() throws Exception {
+        SyncJournal journal = SyncJournal.begin();
+        int threads = 4;
+        CountDownLatch started = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    try (SyncJournal.Scope scope = journal.bind();
+                         SyncJournal.Timer t = SyncJournal.current().time(SyncJournal.Stage.FETCH)) {
+                        started.countDown();
+                        started.await();
+                        Thread.sleep(100);
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SyncJournal.StageStats fetch = journal.stages().get(SyncJournal.Stage.FETCH);
+        // 네 스레드가 겹쳐 100ms 씩: 스레드 합은 400ms 안팎, 경과 시간은 그보다 훨씬 짧음
+        assertThat(fetch.threadMs()).isGreaterThanOrEqualTo(threads * 100L);
+        assertThat(fetch.wallMs()).isGreaterThanOrEqualTo(100L).isLessThan(fetch.threadMs());
+    }
+
+    @Test
+    void nestedStageIsExcludedFromParentThreadTime() throws Exception {
+        SyncJournal journal = SyncJournal.begin();
+
+        try (SyncJournal.Timer fetch = journal.time(SyncJournal.Stage.FETCH)) {
+            try (SyncJournal.Timer parse = journal.time(SyncJournal.Stage.PARSE)) {
+                Thread.sleep(50);
+            }
+        }
+
+        SyncJournal.StageStats fetch = journal.stages().get(SyncJournal.Stage.FETCH);
+        SyncJournal.StageStats parse = journal.stages().get(SyncJournal.Stage.PARSE);
+        assertThat(parse.threadMs()).isGreaterThanOrEqualTo(50L);
+        assertThat(fetch.threadMs()).isLessThan(50L);
+        // 경과 시간은 중첩된 하위 단계를 포함
+        assertThat(fetch.wallMs()).isGreaterThanOrEqualTo(50L);
+    }
+}